@@ -0,0 +1,162 @@
+package com.golems.entity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.golems.events.IceGolemFreezeEvent;
+import com.golems.events.SpongeGolemSoakEvent;
+import com.golems.harness.GolemTickHarness;
+import com.golems.harness.HarnessWorld;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the allocation of the golem specials that run every few ticks and
+ * build short-lived BlockPos lists. The number to watch is
+ * {@code gc.alloc.rate.norm} (bytes per op), which the {@code jmh} task
+ * reports through {@code -prof gc}. Budgets for each benchmark are committed
+ * in {@code perf/alloc-budgets.json} and checked by {@code gradlew checkAllocBudgets}.
+ * <ul>
+ * <li><b>iceFreezeEvent</b> - IceGolemFreezeEvent constructor at the default radius (3)</li>
+ * <li><b>spongeSoakEvent</b> - SpongeGolemSoakEvent sphere scan at the default range (4), standing in water</li>
+ * <li><b>strawBoostCropMiss</b> - tryBoostCrop with no crops nearby, so every attempt runs</li>
+ * <li><b>strawBoostCropField</b> - tryBoostCrop in a wheat field whose crops in range are replanted before
+ * every call, so each call measures the growth path</li>
+ * <li><b>healAmountHit / healAmountMiss</b> - getHealAmount for a heal item and for any other item</li>
+ * </ul>
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GolemSpecialAllocBenchmark {
+
+  private static final int ICE_RADIUS = 3;
+  private static final int SPONGE_RANGE = 4;
+
+  private EntityIceGolem iceGolem;
+  private BlockPos icePos;
+  private EntitySpongeGolem spongeGolem;
+  private BlockPos spongePos;
+  private EntityStrawGolem strawGolemBarren;
+
+  private ItemStack healItem;
+  private ItemStack notHealItem;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    GolemTickHarness.bootstrap();
+
+    // water pool: ice and sponge golems both stand over it
+    final HarnessWorld poolWorld = new HarnessWorld(32, 16, 32);
+    fill(poolWorld, 0, 0, 0, 31, 3, 31, Blocks.STONE.getDefaultState());
+    fill(poolWorld, 4, 4, 4, 27, 8, 27, Blocks.WATER.getDefaultState());
+    this.iceGolem = new EntityIceGolem(poolWorld);
+    this.iceGolem.setPosition(16.5D, 9.0D, 16.5D);
+    this.icePos = new BlockPos(16, 8, 16);
+    this.spongeGolem = new EntitySpongeGolem(poolWorld);
+    this.spongeGolem.setPosition(16.5D, 6.0D, 16.5D);
+    this.spongePos = new BlockPos(16, 7, 16);
+
+    // nothing to grow
+    final HarnessWorld barrenWorld = new HarnessWorld(32, 16, 32);
+    fill(barrenWorld, 0, 0, 0, 31, 3, 31, Blocks.DIRT.getDefaultState());
+    this.strawGolemBarren = new EntityStrawGolem(barrenWorld);
+    this.strawGolemBarren.setPosition(16.5D, 4.0D, 16.5D);
+
+    this.healItem = new ItemStack(Blocks.PACKED_ICE);
+    this.notHealItem = new ItemStack(Items.APPLE);
+  }
+
+  /**
+   * A straw golem in a wheat field. Crops only grow so far, and a few hundred
+   * calls would leave every crop in range fully grown, so the patch the golem
+   * can reach is replanted before every call. It is its own State so the
+   * other benchmarks do not pay for the per-invocation setup.
+   **/
+  @State(Scope.Thread)
+  public static class CropField {
+
+    /** Blocks the golem at (16, 4, 16) can pick: x and z from -range to range - 1, y from -2 to 1 **/
+    private static final int MIN = 16 - 4;
+    private static final int MAX = 16 + 4 - 1;
+
+    private HarnessWorld world;
+    private EntityStrawGolem golem;
+
+    @SuppressWarnings("deprecation")
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      GolemTickHarness.bootstrap();
+      this.world = new HarnessWorld(32, 16, 32);
+      fill(world, 0, 0, 0, 31, 2, 31, Blocks.DIRT.getDefaultState());
+      fill(world, 0, 3, 0, 31, 3, 31, Blocks.FARMLAND.getStateFromMeta(7));
+      this.golem = new EntityStrawGolem(world);
+      this.golem.setPosition(16.5D, 4.0D, 16.5D);
+    }
+
+    /** Only writes into the block array, so it adds nothing to the allocation per op **/
+    @Setup(Level.Invocation)
+    public void replant() {
+      fill(world, MIN, 4, MIN, MAX, 4, MAX, Blocks.WHEAT.getDefaultState());
+    }
+  }
+
+  private static void fill(final HarnessWorld world, final int x1, final int y1, final int z1, final int x2,
+      final int y2, final int z2, final IBlockState state) {
+    for (int y = y1; y <= y2; y++) {
+      for (int z = z1; z <= z2; z++) {
+        for (int x = x1; x <= x2; x++) {
+          world.putBlockState(x, y, z, state);
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public List<BlockPos> iceFreezeEvent() {
+    return new IceGolemFreezeEvent(iceGolem, icePos, ICE_RADIUS).getAffectedPositions();
+  }
+
+  @Benchmark
+  public List<BlockPos> spongeSoakEvent() {
+    return new SpongeGolemSoakEvent(spongeGolem, spongePos, SPONGE_RANGE).getPositionList();
+  }
+
+  @Benchmark
+  public boolean strawBoostCropMiss() {
+    return strawGolemBarren.tryBoostCrop();
+  }
+
+  @Benchmark
+  public boolean strawBoostCropField(final CropField field) {
+    return field.golem.tryBoostCrop();
+  }
+
+  @Benchmark
+  public float healAmountHit() {
+    return iceGolem.getHealAmount(healItem);
+  }
+
+  @Benchmark
+  public float healAmountMiss() {
+    return iceGolem.getHealAmount(notHealItem);
+  }
+}
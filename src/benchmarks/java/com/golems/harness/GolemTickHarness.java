@@ -0,0 +1,377 @@
+package com.golems.harness;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import com.golems.blocks.BlockUtilityGlow;
+import com.golems.blocks.BlockUtilityGlowWater;
+import com.golems.blocks.BlockUtilityPower;
+import com.golems.entity.*;
+import com.golems.main.Config;
+import com.golems.main.GolemItems;
+import com.golems.util.GolemLookup;
+import com.golems.util.GolemNames;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockLiquid;
+import net.minecraft.block.material.Material;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.world.World;
+import net.minecraftforge.common.config.Configuration;
+import net.minecraftforge.common.util.EnumHelper;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Ticks every {@link GolemBase} subclass against a {@link HarnessWorld} and
+ * reports the mean and p99 cost of {@code onLivingUpdate} per golem type.
+ * No client, server or network is started; vanilla blocks are bootstrapped
+ * and the golem config is loaded from a throwaway file.
+ * <br>
+ * Golems are made invulnerable so the population stays stable for the whole
+ * run, and they do not see each other (the stand-in world tracks no
+ * entities). Ticks are interleaved across types the way a server would tick
+ * them, and {@code ticksExisted} is advanced by the harness because
+ * {@code onEntityUpdate} is not part of what is measured.
+ * <br>
+ * Usage (all optional):
+ * <pre>
+ * gradlew golemTickHarness -PharnessArgs="--layout my_farm.layout --ticks 2400 --count 16 --only ice|sponge"
+ *   --layout &lt;file&gt;   layout script, see {@link HarnessLayout} (default: the bundled farm layout)
+ *   --ticks &lt;n&gt;      measured ticks (default 1200)
+ *   --warmup &lt;n&gt;     ticks run before measuring (default 400)
+ *   --count &lt;n&gt;      golems per placement that does not give its own count (default 8)
+ *   --only &lt;regex&gt;   only golem names matching this pattern
+ *   --json &lt;file&gt;    also write the results as JSON
+ *   --seed &lt;n&gt;       seed for placement spread and the world RNG (default 0)
+ * </pre>
+ **/
+public final class GolemTickHarness {
+
+  private static final String DEFAULT_LAYOUT = "/harness/farm.layout";
+
+  /** Every golem type, with the building blocks registered for it in CommonProxy **/
+  private static final Map<String, GolemType> GOLEMS = new LinkedHashMap<>();
+
+  private static boolean bootstrapped;
+
+  private GolemTickHarness() {
+    //
+  }
+
+  public static void main(final String[] args) throws Exception {
+    String layoutPath = null;
+    String jsonPath = null;
+    Pattern only = null;
+    int ticks = 1200;
+    int warmup = 400;
+    int count = 8;
+    long seed = 0L;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+      case "--layout":
+        layoutPath = args[++i];
+        break;
+      case "--json":
+        jsonPath = args[++i];
+        break;
+      case "--only":
+        only = Pattern.compile(args[++i]);
+        break;
+      case "--ticks":
+        ticks = Integer.parseInt(args[++i]);
+        break;
+      case "--warmup":
+        warmup = Integer.parseInt(args[++i]);
+        break;
+      case "--count":
+        count = Integer.parseInt(args[++i]);
+        break;
+      case "--seed":
+        seed = Long.parseLong(args[++i]);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+    }
+
+    bootstrap();
+
+    final HarnessLayout layout;
+    try (InputStream in = layoutPath != null ? new FileInputStream(layoutPath)
+        : GolemTickHarness.class.getResourceAsStream(DEFAULT_LAYOUT);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      layout = HarnessLayout.parse(reader);
+    }
+    final HarnessWorld world = layout.buildWorld();
+    world.rand.setSeed(seed);
+
+    // spawn golems
+    final Random rand = new Random(seed);
+    final List<Sampled> sampled = new ArrayList<>();
+    final List<GolemBase> golems = new ArrayList<>();
+    final List<Sampled> owners = new ArrayList<>();
+    for (final Map.Entry<String, GolemType> entry : GOLEMS.entrySet()) {
+      if (only != null && !only.matcher(entry.getKey()).find()) {
+        continue;
+      }
+      Sampled s = null;
+      for (final HarnessLayout.Placement p : layout.getPlacements()) {
+        if (!p.matches(entry.getKey())) {
+          continue;
+        }
+        if (s == null) {
+          s = new Sampled(entry.getKey());
+          sampled.add(s);
+        }
+        final int num = p.count < 0 ? count : p.count;
+        for (int n = 0; n < num; n++) {
+          final GolemBase golem = entry.getValue().clazz.getConstructor(World.class).newInstance(world);
+          final double dx = p.spread > 0 ? (rand.nextDouble() * 2.0D - 1.0D) * p.spread : 0.0D;
+          final double dz = p.spread > 0 ? (rand.nextDouble() * 2.0D - 1.0D) * p.spread : 0.0D;
+          golem.setLocationAndAngles(p.x + dx, p.y, p.z + dz, rand.nextFloat() * 360.0F, 0.0F);
+          golem.setEntityInvulnerable(true);
+          golem.onInitialSpawn(world.getDifficultyForLocation(golem.getPosition()), null);
+          golems.add(golem);
+          owners.add(s);
+        }
+      }
+    }
+    if (golems.isEmpty()) {
+      System.out.println("No golems were placed - check the layout and --only pattern");
+      return;
+    }
+    for (final Sampled s : sampled) {
+      s.samples = new long[ticks * countOf(owners, s)];
+    }
+
+    System.out.printf(Locale.ROOT, "Ticking %d golems of %d types: %d warmup + %d measured ticks%n", golems.size(),
+        sampled.size(), warmup, ticks);
+    for (int t = 0; t < warmup; t++) {
+      tick(world, golems, owners, false);
+    }
+    world.resetCounters();
+    final long start = System.nanoTime();
+    for (int t = 0; t < ticks; t++) {
+      tick(world, golems, owners, true);
+    }
+    final long wall = System.nanoTime() - start;
+
+    report(sampled, world, ticks, wall, jsonPath);
+  }
+
+  private static int countOf(final List<Sampled> owners, final Sampled s) {
+    int n = 0;
+    for (final Sampled o : owners) {
+      if (o == s) {
+        n++;
+      }
+    }
+    return n;
+  }
+
+  private static void tick(final HarnessWorld world, final List<GolemBase> golems, final List<Sampled> owners,
+      final boolean record) {
+    world.tick();
+    for (int i = 0, len = golems.size(); i < len; i++) {
+      final GolemBase golem = golems.get(i);
+      golem.lastTickPosX = golem.posX;
+      golem.lastTickPosY = golem.posY;
+      golem.lastTickPosZ = golem.posZ;
+      golem.prevPosX = golem.posX;
+      golem.prevPosY = golem.posY;
+      golem.prevPosZ = golem.posZ;
+      golem.ticksExisted++;
+      final long t0 = System.nanoTime();
+      golem.onLivingUpdate();
+      final long elapsed = System.nanoTime() - t0;
+      if (record) {
+        final Sampled s = owners.get(i);
+        s.samples[s.size++] = elapsed;
+      }
+    }
+  }
+
+  private static void report(final List<Sampled> sampled, final HarnessWorld world, final int ticks, final long wall,
+      final String jsonPath) throws IOException {
+    final JsonArray results = new JsonArray();
+    sampled.sort((a, b) -> Double.compare(b.mean(), a.mean()));
+    System.out.printf(Locale.ROOT, "%-26s %8s %12s %12s %12s%n", "golem", "samples", "mean ns", "p99 ns", "max ns");
+    for (final Sampled s : sampled) {
+      Arrays.sort(s.samples, 0, s.size);
+      final long p99 = s.percentile(0.99D);
+      final long max = s.size > 0 ? s.samples[s.size - 1] : 0L;
+      System.out.printf(Locale.ROOT, "%-26s %8d %12.0f %12d %12d%n", s.name, s.size, s.mean(), p99, max);
+      final JsonObject obj = new JsonObject();
+      obj.addProperty("golem", s.name);
+      obj.addProperty("samples", s.size);
+      obj.addProperty("meanNs", s.mean());
+      obj.addProperty("p99Ns", p99);
+      obj.addProperty("maxNs", max);
+      results.add(obj);
+    }
+    System.out.printf(Locale.ROOT, "%d ticks in %.1f ms, %d block writes, %d entity spawns%n", ticks, wall / 1.0E6D,
+        world.getBlockWrites(), world.getEntitySpawns());
+
+    if (jsonPath != null) {
+      final JsonObject root = new JsonObject();
+      root.addProperty("ticks", ticks);
+      root.addProperty("blockWrites", world.getBlockWrites());
+      root.add("results", results);
+      final File out = new File(jsonPath);
+      if (out.getParentFile() != null) {
+        out.getParentFile().mkdirs();
+      }
+      final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+      try (Writer w = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8)) {
+        gson.toJson(root, w);
+      }
+    }
+  }
+
+  /**
+   * Brings up just enough of the game for golems to be constructed: vanilla
+   * registries, vanilla OreDictionary entries, the golem config, our utility
+   * blocks (normally filled in by ObjectHolder) and the building-block map.
+   * Safe to call more than once; benchmarks that need real golems call this
+   * from their setup.
+   **/
+  public static synchronized void bootstrap() throws Exception {
+    if (bootstrapped) {
+      return;
+    }
+    bootstrapped = true;
+    Bootstrap.register();
+    OreDictionary.initVanillaEntries();
+    final File cfgFile = File.createTempFile("golems-harness", ".cfg");
+    cfgFile.deleteOnExit();
+    Config.mainRegistry(new Configuration(cfgFile));
+
+    final int glowFreq = GolemLookup.getConfig(EntityGlowstoneGolem.class).getInt(EntityGlowstoneGolem.FREQUENCY_KEY);
+    final int seaFreq = GolemLookup.getConfig(EntitySeaLanternGolem.class).getInt(EntitySeaLanternGolem.FREQUENCY_KEY);
+    setHolder("blockLightSource", new BlockUtilityGlow(Material.GLASS, 1.0F, glowFreq, Blocks.AIR.getDefaultState()));
+    setHolder("blockLightSourceWater", new BlockUtilityGlowWater(Material.WATER, 1.0F, seaFreq,
+        Blocks.WATER.getDefaultState().withProperty(BlockLiquid.LEVEL, 0)));
+    setHolder("blockPowerSource", new BlockUtilityPower(15, EntityRedstoneGolem.DEF_FREQ));
+
+    registerGolemTypes();
+    for (final GolemType type : GOLEMS.values()) {
+      GolemLookup.addGolem(type.clazz, type.blocks);
+    }
+  }
+
+  private static void setHolder(final String fieldName, final Block value) throws Exception {
+    final Field field = GolemItems.class.getDeclaredField(fieldName);
+    EnumHelper.setFailsafeFieldValue(field, null, value);
+  }
+
+  private static void add(final Class<? extends GolemBase> clazz, final String name, final Block... blocks) {
+    GOLEMS.put(name, new GolemType(clazz, blocks));
+  }
+
+  /** Mirrors the golem list in CommonProxy; Blocks can only be touched after Bootstrap **/
+  private static void registerGolemTypes() {
+    add(EntityBedrockGolem.class, GolemNames.BEDROCK_GOLEM, (Block) null);
+    add(EntityBoneGolem.class, GolemNames.BONE_GOLEM, Blocks.BONE_BLOCK);
+    add(EntityBookshelfGolem.class, GolemNames.BOOKSHELF_GOLEM, Blocks.BOOKSHELF);
+    add(EntityClayGolem.class, GolemNames.CLAY_GOLEM, Blocks.CLAY);
+    add(EntityCoalGolem.class, GolemNames.COAL_GOLEM, Blocks.COAL_BLOCK);
+    add(EntityConcreteGolem.class, GolemNames.CONCRETE_GOLEM, Blocks.CONCRETE);
+    add(EntityCobblestoneGolem.class, GolemNames.COBBLESTONE_GOLEM, Blocks.COBBLESTONE);
+    add(EntityCraftingGolem.class, GolemNames.CRAFTING_GOLEM, Blocks.CRAFTING_TABLE);
+    add(EntityDiamondGolem.class, GolemNames.DIAMOND_GOLEM, Blocks.DIAMOND_BLOCK);
+    add(EntityDispenserGolem.class, GolemNames.DISPENSER_GOLEM, Blocks.DISPENSER);
+    add(EntityEmeraldGolem.class, GolemNames.EMERALD_GOLEM, Blocks.EMERALD_BLOCK);
+    add(EntityEndstoneGolem.class, GolemNames.ENDSTONE_GOLEM, Blocks.END_STONE);
+    add(EntityFurnaceGolem.class, GolemNames.FURNACE_GOLEM, Blocks.FURNACE, Blocks.LIT_FURNACE);
+    add(EntityGlassGolem.class, GolemNames.GLASS_GOLEM, Blocks.GLASS);
+    add(EntityGlowstoneGolem.class, GolemNames.GLOWSTONE_GOLEM, Blocks.GLOWSTONE);
+    add(EntityGoldGolem.class, GolemNames.GOLD_GOLEM, Blocks.GOLD_BLOCK);
+    add(EntityHardenedClayGolem.class, GolemNames.TERRACOTTA_GOLEM, Blocks.HARDENED_CLAY);
+    add(EntityIceGolem.class, GolemNames.ICE_GOLEM, Blocks.PACKED_ICE, Blocks.ICE);
+    add(EntityLapisGolem.class, GolemNames.LAPIS_GOLEM, Blocks.LAPIS_BLOCK);
+    add(EntityLeafGolem.class, GolemNames.LEAF_GOLEM, Blocks.LEAVES, Blocks.LEAVES2);
+    add(EntityMagmaGolem.class, GolemNames.MAGMA_GOLEM, Blocks.MAGMA);
+    add(EntityMelonGolem.class, GolemNames.MELON_GOLEM, Blocks.MELON_BLOCK);
+    add(EntityMushroomGolem.class, GolemNames.MUSHROOM_GOLEM, Blocks.RED_MUSHROOM_BLOCK, Blocks.BROWN_MUSHROOM_BLOCK);
+    add(EntityNetherBrickGolem.class, GolemNames.NETHERBRICK_GOLEM, Blocks.NETHER_BRICK, Blocks.RED_NETHER_BRICK);
+    add(EntityNetherWartGolem.class, GolemNames.NETHERWART_GOLEM, Blocks.NETHER_WART_BLOCK);
+    add(EntityObsidianGolem.class, GolemNames.OBSIDIAN_GOLEM, Blocks.OBSIDIAN);
+    add(EntityPrismarineGolem.class, GolemNames.PRISMARINE_GOLEM, Blocks.PRISMARINE);
+    add(EntityQuartzGolem.class, GolemNames.QUARTZ_GOLEM, Blocks.QUARTZ_BLOCK);
+    add(EntityRedSandstoneGolem.class, GolemNames.REDSANDSTONE_GOLEM, Blocks.RED_SANDSTONE);
+    add(EntityRedstoneGolem.class, GolemNames.REDSTONE_GOLEM, Blocks.REDSTONE_BLOCK);
+    add(EntityRedstoneLampGolem.class, GolemNames.REDSTONELAMP_GOLEM, Blocks.REDSTONE_LAMP, Blocks.LIT_REDSTONE_LAMP);
+    add(EntitySandstoneGolem.class, GolemNames.SANDSTONE_GOLEM, Blocks.SANDSTONE);
+    add(EntitySeaLanternGolem.class, GolemNames.SEALANTERN_GOLEM, Blocks.SEA_LANTERN);
+    add(EntitySlimeGolem.class, GolemNames.SLIME_GOLEM, Blocks.SLIME_BLOCK);
+    add(EntitySpongeGolem.class, GolemNames.SPONGE_GOLEM, Blocks.SPONGE);
+    add(EntityStainedClayGolem.class, GolemNames.STAINEDTERRACOTTA_GOLEM, Blocks.STAINED_HARDENED_CLAY);
+    add(EntityStainedGlassGolem.class, GolemNames.STAINEDGLASS_GOLEM, Blocks.STAINED_GLASS);
+    add(EntityStrawGolem.class, GolemNames.STRAW_GOLEM, Blocks.HAY_BLOCK);
+    add(EntityTNTGolem.class, GolemNames.TNT_GOLEM, Blocks.TNT);
+    add(EntityWoodenGolem.class, GolemNames.WOODEN_GOLEM, Blocks.LOG, Blocks.LOG2);
+    add(EntityWoolGolem.class, GolemNames.WOOL_GOLEM, Blocks.WOOL);
+  }
+
+  private static final class GolemType {
+    private final Class<? extends GolemBase> clazz;
+    private final Block[] blocks;
+
+    private GolemType(final Class<? extends GolemBase> clazzIn, final Block[] blocksIn) {
+      this.clazz = clazzIn;
+      this.blocks = blocksIn;
+    }
+  }
+
+  /** Collected {@code onLivingUpdate} durations for one golem type **/
+  private static final class Sampled {
+    private final String name;
+    private long[] samples;
+    private int size;
+
+    private Sampled(final String nameIn) {
+      this.name = nameIn;
+    }
+
+    private double mean() {
+      if (size == 0) {
+        return 0.0D;
+      }
+      long total = 0L;
+      for (int i = 0; i < size; i++) {
+        total += samples[i];
+      }
+      return (double) total / size;
+    }
+
+    /** Only valid after the samples have been sorted **/
+    private long percentile(final double p) {
+      if (size == 0) {
+        return 0L;
+      }
+      final int idx = (int) Math.ceil(p * size) - 1;
+      return samples[Math.max(0, Math.min(size - 1, idx))];
+    }
+  }
+}
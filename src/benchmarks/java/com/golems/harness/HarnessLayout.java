@@ -0,0 +1,176 @@
+package com.golems.harness;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * A small line-based script that describes a {@link HarnessWorld} and where
+ * golems stand in it. One command per line, {@code #} starts a comment:
+ * <ul>
+ * <li>{@code size <x> <y> <z>} - world dimensions (must come first, default 64 16 64)</li>
+ * <li>{@code biome <id>} - biome for every position, e.g. {@code minecraft:ice_flats}</li>
+ * <li>{@code fill <x1> <y1> <z1> <x2> <y2> <z2> <block>} - fills an inclusive box</li>
+ * <li>{@code set <x> <y> <z> <block>} - sets a single block</li>
+ * <li>{@code golem <name|*> <x> <y> <z> [count] [spread]} - places golems, {@code *} for every golem type</li>
+ * </ul>
+ * Blocks are registry names with an optional trailing metadata value, e.g.
+ * {@code minecraft:wheat:7} or {@code minecraft:water}. A golem count of
+ * {@code -1} (the default) uses the harness {@code --count} value.
+ **/
+public final class HarnessLayout {
+
+  private int sizeX = 64;
+  private int sizeY = 16;
+  private int sizeZ = 64;
+  private Biome biome;
+  private final List<Fill> fills = new ArrayList<>();
+  private final List<Placement> placements = new ArrayList<>();
+
+  private HarnessLayout() {
+    //
+  }
+
+  public static HarnessLayout parse(final BufferedReader reader) throws IOException {
+    final HarnessLayout layout = new HarnessLayout();
+    String line;
+    int lineNum = 0;
+    while ((line = reader.readLine()) != null) {
+      lineNum++;
+      final int comment = line.indexOf('#');
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      line = line.trim();
+      if (line.isEmpty()) {
+        continue;
+      }
+      final String[] args = line.split("\\s+");
+      try {
+        layout.apply(args);
+      } catch (final RuntimeException e) {
+        throw new IOException("Invalid layout line " + lineNum + ": '" + line + "' (" + e.getMessage() + ")", e);
+      }
+    }
+    return layout;
+  }
+
+  private void apply(final String[] args) {
+    switch (args[0].toLowerCase(Locale.ROOT)) {
+    case "size":
+      if (!fills.isEmpty() || !placements.isEmpty()) {
+        throw new IllegalArgumentException("size must come before fill, set and golem");
+      }
+      sizeX = Integer.parseInt(args[1]);
+      sizeY = Integer.parseInt(args[2]);
+      sizeZ = Integer.parseInt(args[3]);
+      break;
+    case "biome":
+      biome = Biome.REGISTRY.getObject(new ResourceLocation(args[1]));
+      if (biome == null) {
+        throw new IllegalArgumentException("unknown biome " + args[1]);
+      }
+      break;
+    case "fill":
+      fills.add(new Fill(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+          Integer.parseInt(args[4]), Integer.parseInt(args[5]), Integer.parseInt(args[6]), parseState(args[7])));
+      break;
+    case "set":
+      final int x = Integer.parseInt(args[1]);
+      final int y = Integer.parseInt(args[2]);
+      final int z = Integer.parseInt(args[3]);
+      fills.add(new Fill(x, y, z, x, y, z, parseState(args[4])));
+      break;
+    case "golem":
+      placements.add(new Placement(args[1], Double.parseDouble(args[2]), Double.parseDouble(args[3]),
+          Double.parseDouble(args[4]), args.length > 5 ? Integer.parseInt(args[5]) : -1,
+          args.length > 6 ? Double.parseDouble(args[6]) : 0.0D));
+      break;
+    default:
+      throw new IllegalArgumentException("unknown command " + args[0]);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static IBlockState parseState(final String id) {
+    String name = id;
+    int meta = 0;
+    final int lastColon = id.lastIndexOf(':');
+    if (lastColon > 0 && id.indexOf(':') != lastColon) {
+      name = id.substring(0, lastColon);
+      meta = Integer.parseInt(id.substring(lastColon + 1));
+    }
+    final Block block = Block.getBlockFromName(name);
+    if (block == null) {
+      throw new IllegalArgumentException("unknown block " + name);
+    }
+    return block.getStateFromMeta(meta);
+  }
+
+  /** @return a new world with every fill applied, in script order **/
+  public HarnessWorld buildWorld() {
+    final HarnessWorld world = new HarnessWorld(sizeX, sizeY, sizeZ);
+    if (biome != null) {
+      world.setBiome(biome);
+    }
+    for (final Fill f : fills) {
+      for (int y = Math.min(f.y1, f.y2), maxY = Math.max(f.y1, f.y2); y <= maxY; y++) {
+        for (int z = Math.min(f.z1, f.z2), maxZ = Math.max(f.z1, f.z2); z <= maxZ; z++) {
+          for (int x = Math.min(f.x1, f.x2), maxX = Math.max(f.x1, f.x2); x <= maxX; x++) {
+            world.putBlockState(x, y, z, f.state);
+          }
+        }
+      }
+    }
+    return world;
+  }
+
+  public List<Placement> getPlacements() {
+    return placements;
+  }
+
+  private static final class Fill {
+    private final int x1, y1, z1, x2, y2, z2;
+    private final IBlockState state;
+
+    private Fill(final int x1In, final int y1In, final int z1In, final int x2In, final int y2In, final int z2In,
+        final IBlockState stateIn) {
+      this.x1 = x1In;
+      this.y1 = y1In;
+      this.z1 = z1In;
+      this.x2 = x2In;
+      this.y2 = y2In;
+      this.z2 = z2In;
+      this.state = stateIn;
+    }
+  }
+
+  /** Where to put golems of one type (or every type when the name is {@code *}) **/
+  public static final class Placement {
+    public final String golemName;
+    public final double x, y, z;
+    public final int count;
+    public final double spread;
+
+    private Placement(final String nameIn, final double xIn, final double yIn, final double zIn, final int countIn,
+        final double spreadIn) {
+      this.golemName = nameIn;
+      this.x = xIn;
+      this.y = yIn;
+      this.z = zIn;
+      this.count = countIn;
+      this.spread = spreadIn;
+    }
+
+    public boolean matches(final String name) {
+      return "*".equals(golemName) || golemName.equals(name);
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.golems.harness;
+
+import java.util.Arrays;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.village.VillageCollection;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeProviderSingle;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.EmptyChunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * A server-side {@link World} whose blocks live in a flat array instead of
+ * real chunks. There is no save handler, no lighting engine, no entity
+ * tracking and no scheduled ticks - just enough of a World for golems to
+ * read and write blocks, pathfind and run their AI. Positions outside the
+ * array read as air and ignore writes.
+ **/
+public class HarnessWorld extends World {
+
+  private final int sizeX;
+  private final int sizeY;
+  private final int sizeZ;
+  private final IBlockState[] blocks;
+  private final TLongObjectMap<Chunk> chunks = new TLongObjectHashMap<>();
+  private Biome biome = Biomes.PLAINS;
+
+  private long blockWrites;
+  private long entitySpawns;
+
+  public HarnessWorld(final int sizeXIn, final int sizeYIn, final int sizeZIn) {
+    super(null, new WorldInfo(new WorldSettings(0L, GameType.SURVIVAL, false, false, WorldType.FLAT), "golem_harness"),
+        new HarnessProvider(), new Profiler(), false);
+    this.sizeX = sizeXIn;
+    this.sizeY = sizeYIn;
+    this.sizeZ = sizeZIn;
+    this.blocks = new IBlockState[sizeXIn * sizeYIn * sizeZIn];
+    Arrays.fill(this.blocks, Blocks.AIR.getDefaultState());
+    this.provider.setWorld(this);
+    this.chunkProvider = this.createChunkProvider();
+    // iron golems look up their village every few hundred ticks
+    this.villageCollection = new VillageCollection(this);
+  }
+
+  public int getSizeX() {
+    return sizeX;
+  }
+
+  public int getSizeY() {
+    return sizeY;
+  }
+
+  public int getSizeZ() {
+    return sizeZ;
+  }
+
+  public void setBiome(final Biome biomeIn) {
+    this.biome = biomeIn;
+  }
+
+  /** @return the number of successful block writes since the last reset **/
+  public long getBlockWrites() {
+    return blockWrites;
+  }
+
+  /** @return the number of entities golems tried to spawn since the last reset **/
+  public long getEntitySpawns() {
+    return entitySpawns;
+  }
+
+  public void resetCounters() {
+    this.blockWrites = 0;
+    this.entitySpawns = 0;
+  }
+
+  /** Advances world time by one tick, as WorldServer would between entity updates **/
+  public void tick() {
+    this.worldInfo.setWorldTotalTime(this.worldInfo.getWorldTotalTime() + 1L);
+    this.worldInfo.setWorldTime(this.worldInfo.getWorldTime() + 1L);
+  }
+
+  private boolean inBounds(final int x, final int y, final int z) {
+    return x >= 0 && y >= 0 && z >= 0 && x < sizeX && y < sizeY && z < sizeZ;
+  }
+
+  private int index(final int x, final int y, final int z) {
+    return (y * sizeZ + z) * sizeX + x;
+  }
+
+  @Override
+  public IBlockState getBlockState(final BlockPos pos) {
+    return getBlockState(pos.getX(), pos.getY(), pos.getZ());
+  }
+
+  public IBlockState getBlockState(final int x, final int y, final int z) {
+    return inBounds(x, y, z) ? blocks[index(x, y, z)] : Blocks.AIR.getDefaultState();
+  }
+
+  @Override
+  public boolean setBlockState(final BlockPos pos, final IBlockState state, final int flags) {
+    if (!inBounds(pos.getX(), pos.getY(), pos.getZ())) {
+      return false;
+    }
+    blocks[index(pos.getX(), pos.getY(), pos.getZ())] = state;
+    blockWrites++;
+    return true;
+  }
+
+  /** Writes a block during layout setup without counting it as a golem write **/
+  public void putBlockState(final int x, final int y, final int z, final IBlockState state) {
+    if (inBounds(x, y, z)) {
+      blocks[index(x, y, z)] = state;
+    }
+  }
+
+  @Override
+  public Biome getBiome(final BlockPos pos) {
+    return biome;
+  }
+
+  @Override
+  public Biome getBiomeForCoordsBody(final BlockPos pos) {
+    return biome;
+  }
+
+  /**
+   * Entities are not tracked, so anything a golem spawns (items, split
+   * Magma golems, ...) is counted and then dropped.
+   **/
+  @Override
+  public boolean spawnEntity(final Entity entityIn) {
+    entitySpawns++;
+    return true;
+  }
+
+  @Override
+  protected IChunkProvider createChunkProvider() {
+    return new IChunkProvider() {
+
+      @Override
+      public Chunk getLoadedChunk(final int x, final int z) {
+        return provideChunk(x, z);
+      }
+
+      @Override
+      public Chunk provideChunk(final int x, final int z) {
+        final long key = ChunkPos.asLong(x, z);
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+          chunk = new HarnessChunk(HarnessWorld.this, x, z);
+          chunks.put(key, chunk);
+        }
+        return chunk;
+      }
+
+      @Override
+      public boolean tick() {
+        return false;
+      }
+
+      @Override
+      public String makeString() {
+        return "HarnessChunkProvider: " + chunks.size();
+      }
+
+      @Override
+      public boolean isChunkGeneratedAt(final int x, final int z) {
+        return true;
+      }
+    };
+  }
+
+  @Override
+  protected boolean isChunkLoaded(final int x, final int z, final boolean allowEmpty) {
+    return true;
+  }
+
+  /**
+   * Lets {@link net.minecraft.world.ChunkCache} (used by pathfinding) see the
+   * array contents; everything else about the chunk stays empty.
+   **/
+  private static final class HarnessChunk extends EmptyChunk {
+
+    private final HarnessWorld harnessWorld;
+
+    HarnessChunk(final HarnessWorld worldIn, final int x, final int z) {
+      super(worldIn, x, z);
+      this.harnessWorld = worldIn;
+    }
+
+    @Override
+    public IBlockState getBlockState(final BlockPos pos) {
+      return harnessWorld.getBlockState(pos);
+    }
+
+    @Override
+    public IBlockState getBlockState(final int x, final int y, final int z) {
+      return harnessWorld.getBlockState(x, y, z);
+    }
+  }
+
+  private static final class HarnessProvider extends WorldProvider {
+
+    @Override
+    public DimensionType getDimensionType() {
+      return DimensionType.OVERWORLD;
+    }
+
+    @Override
+    protected void init() {
+      this.hasSkyLight = true;
+      this.biomeProvider = new BiomeProviderSingle(Biomes.PLAINS);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.golems.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.common.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Repeatable numbers for the config part of startup, which constructs every
+ * GolemConfigSet against a Forge Configuration. Measured as single shots so
+ * both cold-ish and warm JVM runs show up.
+ * <ul>
+ * <li><b>mainRegistryFirstBoot</b> - no config file yet, so every key is created and the file written</li>
+ * <li><b>mainRegistryRestart</b> - config file already exists, as on a nightly restart</li>
+ * </ul>
+ * The registry events and model registration need a running game; their
+ * times are logged by {@link com.golems.debug.StartupTimer} at the end of init.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(3)
+public class StartupBenchmark {
+
+  private File freshFile;
+  private File existingFile;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Bootstrap.register();
+    this.existingFile = File.createTempFile("golems-startup", ".cfg");
+    this.existingFile.deleteOnExit();
+    this.existingFile.delete();
+    // write the defaults once so every restart run reads a complete file
+    Config.mainRegistry(new Configuration(existingFile));
+  }
+
+  @Setup(Level.Invocation)
+  public void newFile() throws IOException {
+    this.freshFile = File.createTempFile("golems-startup-fresh", ".cfg");
+    this.freshFile.delete();
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteFile() {
+    this.freshFile.delete();
+  }
+
+  @Benchmark
+  public Configuration mainRegistryFirstBoot() {
+    final Configuration config = new Configuration(freshFile);
+    Config.mainRegistry(config);
+    return config;
+  }
+
+  @Benchmark
+  public Configuration mainRegistryRestart() {
+    final Configuration config = new Configuration(existingFile);
+    Config.mainRegistry(config);
+    return config;
+  }
+}
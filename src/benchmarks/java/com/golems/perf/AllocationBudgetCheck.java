@@ -0,0 +1,101 @@
+package com.golems.perf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compares the bytes-per-op allocation reported by a JMH run (made with
+ * {@code -prof gc}) against the committed budgets. Exits with status 1 if any
+ * benchmark allocates more than its budget. Benchmarks that have a budget but
+ * were not part of the run are listed and skipped.
+ * <br>
+ * Usage: {@code AllocationBudgetCheck <jmh-results.json> <alloc-budgets.json>}
+ **/
+public final class AllocationBudgetCheck {
+
+  /** Name of the normalized allocation metric; older JMH versions prefix it with a middle dot **/
+  private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+  private AllocationBudgetCheck() {
+    //
+  }
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: AllocationBudgetCheck <jmh-results.json> <alloc-budgets.json>");
+      System.exit(2);
+    }
+    final int failures = check(read(args[0]).getAsJsonArray(), read(args[1]).getAsJsonObject(), false);
+    if (failures > 0) {
+      System.err.println(failures + " benchmark(s) allocated more than their budget");
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Prints every budget next to what was measured.
+   * @param requireAll count a budgeted benchmark that was not run as a
+   *                   failure instead of skipping it
+   * @return the number of failed budgets
+   **/
+  static int check(final JsonArray results, final JsonObject budgetFile, final boolean requireAll) {
+    final JsonObject budgets = budgetFile.getAsJsonObject("budgets");
+    int failures = 0;
+    System.out.printf(Locale.ROOT, "%-70s %12s %12s  %s%n", "benchmark", "B/op", "budget", "");
+    for (final Map.Entry<String, JsonElement> budget : budgets.entrySet()) {
+      final double limit = budget.getValue().getAsDouble();
+      final Double measured = findAllocation(results, budget.getKey());
+      if (measured == null) {
+        if (requireAll) {
+          failures++;
+        }
+        System.out.printf(Locale.ROOT, "%-70s %12s %12.0f  %s%n", budget.getKey(), "-", limit,
+            requireAll ? "NOT RUN" : "not run");
+        continue;
+      }
+      final String verdict;
+      if (measured > limit) {
+        verdict = "OVER BUDGET";
+        failures++;
+      } else if (measured < limit * 0.75D) {
+        verdict = "ok (budget could be lowered)";
+      } else {
+        verdict = "ok";
+      }
+      System.out.printf(Locale.ROOT, "%-70s %12.1f %12.0f  %s%n", budget.getKey(), measured, limit, verdict);
+    }
+    return failures;
+  }
+
+  /** @return bytes per op for the given benchmark, or null if it was not run with the gc profiler **/
+  static Double findAllocation(final JsonArray results, final String benchmark) {
+    for (final JsonElement e : results) {
+      final JsonObject result = e.getAsJsonObject();
+      if (!benchmark.equals(result.get("benchmark").getAsString()) || !result.has("secondaryMetrics")) {
+        continue;
+      }
+      for (final Map.Entry<String, JsonElement> metric : result.getAsJsonObject("secondaryMetrics").entrySet()) {
+        if (metric.getKey().endsWith(ALLOC_NORM) && metric.getKey().length() <= ALLOC_NORM.length() + 1) {
+          return metric.getValue().getAsJsonObject().get("score").getAsDouble();
+        }
+      }
+    }
+    return null;
+  }
+
+  static JsonElement read(final String path) throws IOException {
+    try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+      return new JsonParser().parse(reader);
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package com.golems.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The offline performance gate. Two kinds of numbers are checked:
+ * <ul>
+ * <li><b>allocation</b> - bytes per op of each JMH benchmark (measured with
+ * {@code -prof gc}) against the committed budgets in
+ * {@code perf/alloc-budgets.json}. These do not depend on the machine, so
+ * they always gate: a benchmark over its budget, or one with a budget that
+ * was not run, fails the check.</li>
+ * <li><b>timing</b> - JMH scores and GolemTickHarness mean/p99 against
+ * {@code perf/baseline.json}. Direction depends on the unit: throughput (ops
+ * per time) regresses when it drops, everything else (time per op, ns per
+ * tick) regresses when it rises. Timing depends on the machine, so it is only
+ * reported unless {@code --gate-timing} is given (for a fixed perf box that
+ * recorded its own baseline with {@code --update}). Metrics that are not in
+ * the baseline yet are listed as new.</li>
+ * </ul>
+ * Exits with status 1 if a gated metric regressed, and with status 3 if
+ * nothing was gated at all (no budgets given, or timing gated against an
+ * empty baseline) so that a misconfigured gate cannot pass silently.
+ * <br>
+ * Usage: {@code PerfRegressionCheck <jmh.json> <harness.json> <baseline.json> [--budgets <alloc-budgets.json>]
+ * [--threshold <percent>] [--gate-timing] [--update]}
+ * <br>
+ * With {@code --update} the baseline file is rewritten from the given results
+ * instead of being checked, keeping its thresholds and notes.
+ **/
+public final class PerfRegressionCheck {
+
+  private static final String JMH = "jmh";
+  private static final String HARNESS = "harness";
+  private static final String THRESHOLDS = "thresholdPercent";
+
+  private PerfRegressionCheck() {
+    //
+  }
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 3) {
+      System.err.println("Usage: PerfRegressionCheck <jmh.json> <harness.json> <baseline.json>"
+          + " [--budgets <alloc-budgets.json>] [--threshold <percent>] [--gate-timing] [--update]");
+      System.exit(2);
+    }
+    Double thresholdOverride = null;
+    String budgetFile = null;
+    boolean update = false;
+    boolean gateTiming = false;
+    for (int i = 3; i < args.length; i++) {
+      if ("--threshold".equals(args[i])) {
+        thresholdOverride = Double.parseDouble(args[++i]);
+      } else if ("--budgets".equals(args[i])) {
+        budgetFile = args[++i];
+      } else if ("--gate-timing".equals(args[i])) {
+        gateTiming = true;
+      } else if ("--update".equals(args[i])) {
+        update = true;
+      } else {
+        throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+    }
+
+    final File jmhFile = new File(args[0]);
+    final JsonArray jmhResults = jmhFile.exists() ? AllocationBudgetCheck.read(jmhFile.getPath()).getAsJsonArray()
+        : new JsonArray();
+    final JsonObject current = new JsonObject();
+    current.add(JMH, readJmh(jmhResults));
+    current.add(HARNESS, readHarness(new File(args[1])));
+    final File baselineFile = new File(args[2]);
+    final JsonObject baseline = AllocationBudgetCheck.read(baselineFile.getPath()).getAsJsonObject();
+
+    if (update) {
+      baseline.add(JMH, current.get(JMH));
+      baseline.add(HARNESS, current.get(HARNESS));
+      try (Writer w = Files.newBufferedWriter(baselineFile.toPath(), StandardCharsets.UTF_8)) {
+        new GsonBuilder().setPrettyPrinting().create().toJson(baseline, w);
+      }
+      System.out.println("Updated " + baselineFile + "; review and commit it");
+      return;
+    }
+
+    int failures = 0;
+    if (budgetFile != null) {
+      System.out.println("Allocation (gated):");
+      failures += AllocationBudgetCheck.check(jmhResults, AllocationBudgetCheck.read(budgetFile).getAsJsonObject(),
+          true);
+      System.out.println();
+    }
+
+    final JsonObject thresholds = baseline.getAsJsonObject(THRESHOLDS);
+    int compared = 0;
+    int timingRegressions = 0;
+    System.out.println(gateTiming ? "Timing (gated):" : "Timing (report only; pass --gate-timing to fail on it):");
+    System.out.printf(Locale.ROOT, "%-76s %14s %14s %8s  %s%n", "metric", "baseline", "current", "change", "");
+    for (final String section : new String[] { JMH, HARNESS }) {
+      final JsonObject base = baseline.has(section) ? baseline.getAsJsonObject(section) : new JsonObject();
+      for (final Map.Entry<String, JsonElement> entry : current.getAsJsonObject(section).entrySet()) {
+        final JsonObject now = entry.getValue().getAsJsonObject();
+        final double nowScore = now.get("score").getAsDouble();
+        final String unit = now.get("unit").getAsString();
+        final String name = section + ":" + entry.getKey();
+        if (!base.has(entry.getKey())) {
+          System.out.printf(Locale.ROOT, "%-76s %14s %14.1f %8s  new (%s)%n", name, "-", nowScore, "", unit);
+          continue;
+        }
+        compared++;
+        final double baseScore = base.getAsJsonObject(entry.getKey()).get("score").getAsDouble();
+        final double limit = thresholdOverride != null ? thresholdOverride : threshold(thresholds, section, entry.getKey());
+        // positive change is always "worse"
+        final boolean higherIsBetter = unit.startsWith("ops/");
+        final double change = baseScore == 0.0D ? 0.0D
+            : (higherIsBetter ? baseScore - nowScore : nowScore - baseScore) / baseScore * 100.0D;
+        final boolean regressed = change > limit;
+        if (regressed) {
+          timingRegressions++;
+        }
+        System.out.printf(Locale.ROOT, "%-76s %14.1f %14.1f %+7.1f%%  %s%n", name, baseScore, nowScore, change,
+            regressed ? "REGRESSED (limit " + limit + "%)" : "ok");
+      }
+    }
+    if (gateTiming) {
+      failures += timingRegressions;
+    }
+
+    if (budgetFile == null && !gateTiming) {
+      System.err.println("Nothing is gated: pass --budgets and/or --gate-timing");
+      System.exit(3);
+    }
+    if (gateTiming && compared == 0) {
+      System.err.println("No timing metric was compared against " + baselineFile
+          + "; record a baseline on this machine with 'gradlew perfBaseline' first");
+      System.exit(3);
+    }
+    if (failures > 0) {
+      System.err.println(failures + " metric(s) regressed past their budget or threshold");
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Thresholds are looked up from most to least specific: the full metric
+   * name, the section (e.g. "harness.p99Ns"), then "default".
+   **/
+  private static double threshold(final JsonObject thresholds, final String section, final String key) {
+    if (thresholds != null) {
+      final String metric = key.substring(key.lastIndexOf('.') + 1);
+      for (final String k : new String[] { section + ":" + key, section + "." + metric, section, "default" }) {
+        if (thresholds.has(k)) {
+          return thresholds.get(k).getAsDouble();
+        }
+      }
+    }
+    return 10.0D;
+  }
+
+  /** @return benchmark name to {score, unit} for the primary metric of each benchmark **/
+  private static JsonObject readJmh(final JsonArray results) {
+    final JsonObject out = new JsonObject();
+    for (final JsonElement e : results) {
+      final JsonObject result = e.getAsJsonObject();
+      final JsonObject primary = result.getAsJsonObject("primaryMetric");
+      out.add(result.get("benchmark").getAsString(), metric(primary.get("score").getAsDouble(),
+          primary.get("scoreUnit").getAsString()));
+    }
+    return out;
+  }
+
+  /** @return "golem.meanNs" / "golem.p99Ns" to {score, unit} for each golem type **/
+  private static JsonObject readHarness(final File file) throws IOException {
+    final JsonObject out = new JsonObject();
+    if (!file.exists()) {
+      return out;
+    }
+    final JsonArray results = AllocationBudgetCheck.read(file.getPath()).getAsJsonObject().getAsJsonArray("results");
+    for (final JsonElement e : results) {
+      final JsonObject result = e.getAsJsonObject();
+      final String golem = result.get("golem").getAsString();
+      out.add(golem + ".meanNs", metric(result.get("meanNs").getAsDouble(), "ns/tick"));
+      out.add(golem + ".p99Ns", metric(result.get("p99Ns").getAsDouble(), "ns/tick"));
+    }
+    return out;
+  }
+
+  private static JsonObject metric(final double score, final String unit) {
+    final JsonObject obj = new JsonObject();
+    obj.addProperty("score", score);
+    obj.addProperty("unit", unit);
+    return obj;
+  }
+}
@@ -0,0 +1,161 @@
+package com.golems.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.golems.entity.EntityGlassGolem;
+import com.golems.entity.EntityIceGolem;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.common.config.Configuration;
+import net.minecraftforge.oredict.OreDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the building-block resolution paths in {@link GolemLookup} that run
+ * on every golem head or pumpkin placement. Runs offline: vanilla blocks and
+ * the vanilla OreDictionary entries are bootstrapped without a game instance,
+ * and only a few golems are mapped so that each case below is deterministic.
+ * OreDict aliases are resolved when the block index is built, so the oreDict
+ * cases should cost about the same as a direct hit.
+ * <ul>
+ * <li><b>hit</b> - Packed Ice, mapped directly as a building block</li>
+ * <li><b>oreDictHit</b> - Stained Glass, not mapped itself but shares the
+ * "blockGlass" OreDict name with the (mapped) Glass block</li>
+ * <li><b>oreDictMiss</b> - Planks, has OreDict names but none build a golem</li>
+ * <li><b>unknown</b> - Note Block, not mapped and not in the OreDictionary</li>
+ * </ul>
+ * Run with {@code gradlew jmh -PjmhInclude=GolemLookupBenchmark}; the task
+ * adds {@code -prof gc} so allocation rates are reported next to ops/s.
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GolemLookupBenchmark {
+
+  private Block hit;
+  private Block oreDictHit;
+  private Block oreDictMiss;
+  private Block unknown;
+  private IBlockState hitState;
+  private IBlockState oreDictHitState;
+  private IBlockState oreDictMissState;
+
+  @Setup
+  public void setup() throws IOException {
+    Bootstrap.register();
+    OreDictionary.initVanillaEntries();
+    // load a throwaway config so Config.getUseOreDictBlocks() has its default
+    final File cfgFile = File.createTempFile("golems-bench", ".cfg");
+    cfgFile.deleteOnExit();
+    Config.mainRegistry(new Configuration(cfgFile));
+    // map only the golems needed for the cases above
+    GolemLookup.addGolem(EntityIceGolem.class, Blocks.PACKED_ICE, Blocks.ICE);
+    GolemLookup.addGolem(EntityGlassGolem.class, Blocks.GLASS);
+
+    this.hit = Blocks.PACKED_ICE;
+    this.oreDictHit = Blocks.STAINED_GLASS;
+    this.oreDictMiss = Blocks.PLANKS;
+    this.unknown = Blocks.NOTEBLOCK;
+    this.hitState = hit.getDefaultState();
+    this.oreDictHitState = oreDictHit.getDefaultState();
+    this.oreDictMissState = oreDictMiss.getDefaultState();
+    // build the block index now so the first iteration does not pay for it
+    GolemLookup.buildBlockIndex();
+  }
+
+  ////////////// getGolemClass //////////////
+
+  @Benchmark
+  public Class<? extends GolemBase> getGolemClassHit() {
+    return GolemLookup.getGolemClass(hit);
+  }
+
+  @Benchmark
+  public Class<? extends GolemBase> getGolemClassOreDictHit() {
+    return GolemLookup.getGolemClass(oreDictHit);
+  }
+
+  @Benchmark
+  public Class<? extends GolemBase> getGolemClassOreDictMiss() {
+    return GolemLookup.getGolemClass(oreDictMiss);
+  }
+
+  @Benchmark
+  public Class<? extends GolemBase> getGolemClassUnknown() {
+    return GolemLookup.getGolemClass(unknown);
+  }
+
+  /**
+   * Golem entities are not registered with Forge here, so this covers the
+   * lookup and the {@code EntityList} query but not entity construction.
+   **/
+  @Benchmark
+  public GolemBase getGolemHit() {
+    return GolemLookup.getGolem(null, hit);
+  }
+
+  ////////////// isBuildingBlock //////////////
+
+  @Benchmark
+  public boolean isBuildingBlockHit() {
+    return GolemLookup.isBuildingBlock(hit);
+  }
+
+  @Benchmark
+  public boolean isBuildingBlockOreDictHit() {
+    return GolemLookup.isBuildingBlock(oreDictHit);
+  }
+
+  @Benchmark
+  public boolean isBuildingBlockOreDictMiss() {
+    return GolemLookup.isBuildingBlock(oreDictMiss);
+  }
+
+  @Benchmark
+  public boolean isBuildingBlockUnknown() {
+    return GolemLookup.isBuildingBlock(unknown);
+  }
+
+  ////////////// getBuildingBlocks //////////////
+
+  @Benchmark
+  public Block[] getBuildingBlocks() {
+    return GolemLookup.getBuildingBlocks(EntityIceGolem.class);
+  }
+
+  ////////////// getStateEntry //////////////
+
+  @Benchmark
+  public int getStateEntryHit() {
+    return GolemLookup.getStateEntry(hitState);
+  }
+
+  @Benchmark
+  public int getStateEntryOreDictHit() {
+    return GolemLookup.getStateEntry(oreDictHitState);
+  }
+
+  @Benchmark
+  public int getStateEntryOreDictMiss() {
+    return GolemLookup.getStateEntry(oreDictMissState);
+  }
+}
@@ -1,8 +1,12 @@
 package com.golems.blocks;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemFlightRecorder;
 import com.golems.entity.GolemBase;
 import com.golems.items.ItemBedrockGolem;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemBlockIndex;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemLookup;
 import net.minecraft.block.Block;
@@ -129,6 +133,7 @@ public final class BlockGolemHead extends BlockHorizontal {
     final double x = pos.getX() + 0.5D;
     final double y = pos.getY() - 1.95D;
     final double z = pos.getZ() + 0.5D;
+    final Object jfrEvent = GolemFlightRecorder.beginGolemBuilt();
 
     if (blockBelow1 == blockBelow2 && blockBelow1 != Blocks.AIR) {
       // hard-coded support for Snow Golem
@@ -139,6 +144,7 @@ public final class BlockGolemHead extends BlockHorizontal {
           ExtraGolems.LOGGER.info("[Extra Golems]: Building regular boring Snow Golem");
           entitysnowman.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
           world.spawnEntity(entitysnowman);
+          GolemFlightRecorder.golemBuilt(jfrEvent, EntitySnowman.class, 3);
         }
 
         ItemBedrockGolem.spawnParticles(world, x, y + 0.5D, z, 0.2D);
@@ -162,20 +168,22 @@ public final class BlockGolemHead extends BlockHorizontal {
           golem.setPlayerCreated(true);
           golem.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
           world.spawnEntity(golem);
+          GolemFlightRecorder.golemBuilt(jfrEvent, EntityIronGolem.class, 5);
           return true;
         }
 
         // query the GolemLookup to see if there is a golem that can be built with this
-        // if there is, double-check its spawn permissions, then build!
-        if (GolemLookup.isBuildingBlock(blockBelow1)) {
+        // block state. If there is, double-check its spawn permissions, then build!
+        final int stateEntry = GolemLookup.getStateEntry(stateBelow1);
+        if (stateEntry != GolemBlockIndex.NO_GOLEM) {
           // get the golem
-          final GolemBase golem = GolemLookup.getGolem(world, blockBelow1);
+          final GolemBase golem = GolemLookup.getGolem(world, stateEntry);
           if (golem == null)
             return false;
 
           // get the spawn permissions (assume it's allowed if none found)
-          final GolemConfigSet cfg = GolemLookup.getConfig(golem.getClass());
-          boolean allowed = cfg != null && cfg.canSpawn();
+          final GolemConfigSet cfg = GolemBase.getConfig(golem);
+          boolean allowed = cfg.canSpawn();
           if (!allowed)
             return false;
 
@@ -186,8 +194,13 @@ public final class BlockGolemHead extends BlockHorizontal {
           ExtraGolems.LOGGER.info("[Extra Golems]: Building golem " + golem.toString());
           golem.setPlayerCreated(true);
           golem.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
+          final int variant = GolemLookup.getVariant(stateEntry);
+          if (variant != GolemBlockIndex.NO_VARIANT) {
+            golem.setVariant(variant);
+          }
           world.spawnEntity(golem);
           golem.onBuilt(stateBelow1, stateBelow2, arm1, arm2);
+          GolemFlightRecorder.golemBuilt(jfrEvent, golem.getClass(), 5);
           return true;
         }
       }
@@ -207,6 +220,7 @@ public final class BlockGolemHead extends BlockHorizontal {
     final double x = pos.getX() + 0.5D;
     final double y = pos.getY() - 1.95D;
     final double z = pos.getZ() + 0.5D;
+    final Object jfrEvent = GolemFlightRecorder.beginGolemBuilt();
 
     // hard-coded support for Snow Golem
     if (blockBelow1 == Blocks.SNOW) {
@@ -216,6 +230,7 @@ public final class BlockGolemHead extends BlockHorizontal {
         ExtraGolems.LOGGER.info("[Extra Golems]: Building regular boring Snow Golem");
         entitysnowman.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
         world.spawnEntity(entitysnowman);
+        GolemFlightRecorder.golemBuilt(jfrEvent, EntitySnowman.class, 3);
       }
 
       ItemBedrockGolem.spawnParticles(world, x, y + 0.5D, z, 0.2D);
@@ -239,20 +254,22 @@ public final class BlockGolemHead extends BlockHorizontal {
         golem.setPlayerCreated(true);
         golem.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
         world.spawnEntity(golem);
+        GolemFlightRecorder.golemBuilt(jfrEvent, EntityIronGolem.class, 5);
         return true;
       }
 
       // query the GolemLookup to see if there is a golem that can be built with this
-      // if there is, double-check its spawn permissions, then build!
-      if (GolemLookup.isBuildingBlock(blockBelow1)) {
+      // block state. If there is, double-check its spawn permissions, then build!
+      final int stateEntry = GolemLookup.getStateEntry(stateBelow1);
+      if (stateEntry != GolemBlockIndex.NO_GOLEM) {
         // get the golem
-        final GolemBase golem = GolemLookup.getGolem(world, blockBelow1);
+        final GolemBase golem = GolemLookup.getGolem(world, stateEntry);
         if (golem == null)
           return false;
 
         // get the spawn permissions (assume it's allowed if none found)
-        final GolemConfigSet cfg = GolemLookup.getConfig(golem.getClass());
-        boolean allowed = cfg != null && cfg.canSpawn();
+        final GolemConfigSet cfg = GolemBase.getConfig(golem);
+        boolean allowed = cfg.canSpawn();
         if (!allowed)
           return false;
 
@@ -263,8 +280,13 @@ public final class BlockGolemHead extends BlockHorizontal {
         ExtraGolems.LOGGER.info("[Extra Golems]: Building golem " + golem.toString());
         golem.setPlayerCreated(true);
         golem.setLocationAndAngles(x, y, z, 0.0F, 0.0F);
+        final int variant = GolemLookup.getVariant(stateEntry);
+        if (variant != GolemBlockIndex.NO_VARIANT) {
+          golem.setVariant(variant);
+        }
         world.spawnEntity(golem);
         golem.onBuilt(stateBelow1, stateBelow2, arm1, arm2);
+        GolemFlightRecorder.golemBuilt(jfrEvent, golem.getClass(), 5);
         return true;
       }
     }
@@ -301,9 +323,9 @@ public final class BlockGolemHead extends BlockHorizontal {
    * Replaces this block and the two below it with air.
    **/
   public static void removeGolemBody(final World world, final BlockPos head) {
-    world.setBlockToAir(head);
-    world.setBlockToAir(head.down(1));
-    world.setBlockToAir(head.down(2));
+    removeBuildBlock(world, head);
+    removeBuildBlock(world, head.down(1));
+    removeBuildBlock(world, head.down(2));
   }
 
   /**
@@ -311,11 +333,17 @@ public final class BlockGolemHead extends BlockHorizontal {
    **/
   public static void removeGolemArms(final World world, final BlockPos pos, final boolean isXAligned) {
     if (isXAligned) {
-      world.setBlockToAir(pos.down(1).west(1));
-      world.setBlockToAir(pos.down(1).east(1));
+      removeBuildBlock(world, pos.down(1).west(1));
+      removeBuildBlock(world, pos.down(1).east(1));
     } else {
-      world.setBlockToAir(pos.down(1).north(1));
-      world.setBlockToAir(pos.down(1).south(1));
+      removeBuildBlock(world, pos.down(1).north(1));
+      removeBuildBlock(world, pos.down(1).south(1));
+    }
+  }
+
+  private static void removeBuildBlock(final World world, final BlockPos pos) {
+    if (world.setBlockToAir(pos)) {
+      GolemBlockWrites.record(world, pos, Source.BUILD_REMOVAL);
     }
   }
 }
@@ -1,5 +1,6 @@
 package com.golems.blocks;
 
+import com.golems.debug.GolemMetrics;
 import net.minecraft.block.BlockEmptyDrops;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.BlockFaceShape;
@@ -144,7 +145,17 @@ public abstract class BlockUtility extends BlockEmptyDrops {
 
   @Override
   public void onBlockAdded(final World worldIn, final BlockPos pos, final IBlockState state) {
-    // Do nothing.
+    if (!worldIn.isRemote) {
+      GolemMetrics.utilityBlockAdded();
+    }
+  }
+
+  @Override
+  public void breakBlock(final World worldIn, final BlockPos pos, final IBlockState state) {
+    if (!worldIn.isRemote) {
+      GolemMetrics.utilityBlockRemoved();
+    }
+    super.breakBlock(worldIn, pos, state);
   }
 
   /**
@@ -1,5 +1,8 @@
 package com.golems.blocks;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemFlightRecorder;
 import com.golems.entity.GolemBase;
 import com.golems.entity.ai.EntityAIPlaceSingleBlock;
 import net.minecraft.block.material.Material;
@@ -39,7 +42,11 @@ public class BlockUtilityPower extends BlockUtility {
 
     if (!hasPowerGolem) {
       // remove this block
-      worldIn.setBlockState(pos, REPLACE_WITH, 3);
+      final Object jfrEvent = GolemFlightRecorder.beginUtilityBlock();
+      if (worldIn.setBlockState(pos, REPLACE_WITH, 3)) {
+        GolemBlockWrites.record(worldIn, pos, Source.UTILITY_REMOVE);
+        GolemFlightRecorder.utilityBlock(jfrEvent, null, this, false);
+      }
     } else {
       // schedule another update
       worldIn.scheduleUpdate(pos, this, TICK_RATE);
@@ -52,6 +59,7 @@ public class BlockUtilityPower extends BlockUtility {
    */
   @Override
   public void onBlockAdded(final World worldIn, final BlockPos pos, final IBlockState state) {
+    super.onBlockAdded(worldIn, pos, state);
     worldIn.scheduleUpdate(pos, this, this.tickRate(worldIn));
   }
 
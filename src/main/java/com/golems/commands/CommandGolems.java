@@ -0,0 +1,35 @@
+package com.golems.commands;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+/**
+ * Root of the {@code /golems} server command. Each feature adds its own
+ * subcommand in the constructor.
+ **/
+public class CommandGolems extends CommandTreeBase {
+
+  public CommandGolems() {
+    this.addSubcommand(new CommandGolemsPerf());
+    this.addSubcommand(new CommandGolemsWrites());
+    this.addSubcommand(new CommandGolemsEvents());
+    this.addSubcommand(new CommandGolemsCensus());
+    this.addSubcommand(new CommandGolemsNetwork());
+    this.addSubcommand(new CommandGolemsLoadTest());
+  }
+
+  @Override
+  public String getName() {
+    return "golems";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems <perf|writes|events|census|network|loadtest> ...";
+  }
+}
@@ -0,0 +1,67 @@
+package com.golems.commands;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.golems.renders.GolemRenderBenchmark;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Client command {@code /golemsbench [seconds] [radius] [height]} runs the
+ * {@link GolemRenderBenchmark} around the player; {@code /golemsbench stop}
+ * aborts it.
+ **/
+@SideOnly(Side.CLIENT)
+public class CommandGolemsBench extends CommandBase {
+
+  private static final int DEFAULT_SECONDS = 60;
+  private static final int DEFAULT_RADIUS = 24;
+  private static final int DEFAULT_HEIGHT = 8;
+
+  @Override
+  public String getName() {
+    return "golemsbench";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 0;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golemsbench [seconds] [radius] [height] OR /golemsbench stop";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 3) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (args.length == 1 && "stop".equals(args[0])) {
+      GolemRenderBenchmark.stop();
+      return;
+    }
+    final int seconds = args.length > 0 ? parseInt(args[0], 5, 3600) : DEFAULT_SECONDS;
+    final int radius = args.length > 1 ? parseInt(args[1], 1, 256) : DEFAULT_RADIUS;
+    final int height = args.length > 2 ? parseInt(args[2], 0, 128) : DEFAULT_HEIGHT;
+    GolemRenderBenchmark.start(seconds, radius, height);
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "stop") : Collections.<String>emptyList();
+  }
+}
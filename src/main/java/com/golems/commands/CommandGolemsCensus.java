@@ -0,0 +1,118 @@
+package com.golems.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemCensus;
+import com.golems.debug.GolemCensus.ChunkCensus;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+
+import gnu.trove.map.TLongObjectMap;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextFormatting;
+
+/**
+ * {@code /golems census [count]} lists the chunks holding the most loaded
+ * golems, with their most common types. {@code /golems census types} shows
+ * how many golems of each type are loaded.
+ **/
+public class CommandGolemsCensus extends CommandBase {
+
+  private static final int DEFAULT_COUNT = 10;
+
+  @Override
+  public String getName() {
+    return "census";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems census [count] OR /golems census types";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 1) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (args.length == 1 && "types".equals(args[0])) {
+      final List<Map.Entry<Class<? extends GolemBase>, LongAdder>> types = new ArrayList<>(
+          GolemCensus.getTotals().entrySet());
+      Collections.sort(types, Comparator.comparingLong((Map.Entry<Class<? extends GolemBase>, LongAdder> e) -> e
+          .getValue().sum()).reversed());
+      long total = 0L;
+      for (final Map.Entry<Class<? extends GolemBase>, LongAdder> e : types) {
+        total += e.getValue().sum();
+      }
+      sender.sendMessage(new TextComponentString(String.format("%d golems loaded:", total)));
+      for (final Map.Entry<Class<? extends GolemBase>, LongAdder> e : types) {
+        if (e.getValue().sum() > 0L) {
+          sender.sendMessage(new TextComponentString(String.format("  %s: %d",
+              CommandGolemsPerf.getGolemName(e.getKey()), e.getValue().sum())));
+        }
+      }
+      return;
+    }
+    final int count = args.length == 1 ? parseInt(args[0], 1) : DEFAULT_COUNT;
+
+    final List<ChunkCensus> all = new ArrayList<>();
+    for (final TLongObjectMap<ChunkCensus> chunks : GolemCensus.getChunks().valueCollection()) {
+      all.addAll(chunks.valueCollection());
+    }
+    if (all.isEmpty()) {
+      sender.sendMessage(new TextComponentString("No golems loaded"));
+      return;
+    }
+    Collections.sort(all, Comparator.comparingInt(ChunkCensus::getTotal).reversed());
+    sender.sendMessage(new TextComponentString(String.format("Chunks with the most golems (warning at %d):",
+        Config.getCensusChunkWarnThreshold())));
+    for (int i = 0, n = Math.min(count, all.size()); i < n; i++) {
+      final ChunkCensus c = all.get(i);
+      final boolean crowded = Config.getCensusChunkWarnThreshold() > 0
+          && c.getTotal() >= Config.getCensusChunkWarnThreshold();
+      sender.sendMessage(new TextComponentString(String.format("  %d. %sdim %d chunk [%d, %d] (block %d, %d)%s: %d golems, %s",
+          i + 1, crowded ? TextFormatting.RED : "", c.dimension, c.chunkX, c.chunkZ, c.chunkX << 4, c.chunkZ << 4,
+          TextFormatting.RESET, c.getTotal(), describeTypes(c))));
+    }
+  }
+
+  /** @return the golem types in a chunk, most common first, e.g. "slime_golem 40, magma_golem 12" **/
+  private static String describeTypes(final ChunkCensus c) {
+    final List<Class<? extends GolemBase>> types = new ArrayList<>(c.getCounts().keySet());
+    Collections.sort(types, Comparator.comparingInt((Class<? extends GolemBase> t) -> c.getCounts().get(t))
+        .reversed());
+    final StringBuilder builder = new StringBuilder();
+    for (final Class<? extends GolemBase> t : types) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(CommandGolemsPerf.getGolemName(t)).append(' ').append(c.getCounts().get(t));
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "types") : Collections.<String>emptyList();
+  }
+}
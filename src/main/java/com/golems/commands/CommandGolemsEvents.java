@@ -0,0 +1,92 @@
+package com.golems.commands;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemEventStats;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextFormatting;
+
+/**
+ * {@code /golems events [count]} shows what the golem events (freeze, soak,
+ * teleport) cost to build and post, and the most expensive listeners of each
+ * with the mod that registered them. {@code /golems events <on|off|reset>}
+ * controls the profiler until the next server start.
+ **/
+public class CommandGolemsEvents extends CommandBase {
+
+  private static final int DEFAULT_COUNT = 5;
+
+  @Override
+  public String getName() {
+    return "events";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems events [count] OR /golems events <on|off|reset>";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 1) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (args.length == 1 && ("on".equals(args[0]) || "off".equals(args[0]))) {
+      GolemEventStats.setEnabled("on".equals(args[0]));
+      if ("on".equals(args[0]) && !GolemEventStats.isEnabled()) {
+        sender.sendMessage(new TextComponentString(TextFormatting.RED
+            + "The golem event profiler is unavailable; see the log for details"));
+      } else {
+        sender.sendMessage(new TextComponentString("Golem event profiler " + args[0]));
+      }
+      return;
+    }
+    if (args.length == 1 && "reset".equals(args[0])) {
+      GolemEventStats.reset();
+      sender.sendMessage(new TextComponentString("Golem event profiler reset"));
+      return;
+    }
+    final int count = args.length == 1 ? parseInt(args[0], 1) : DEFAULT_COUNT;
+    if (!GolemEventStats.isEnabled()) {
+      sender.sendMessage(new TextComponentString(TextFormatting.RED
+          + "The event profiler is off ('/golems events on'); showing whatever was recorded before"));
+    }
+    if (!GolemEventStats.canMeasureAllocation()) {
+      sender.sendMessage(new TextComponentString(TextFormatting.RED
+          + "This JVM does not report allocations; byte counts will read 0"));
+    }
+    final List<String> lines = GolemEventStats.summarize(count);
+    if (lines.isEmpty()) {
+      sender.sendMessage(new TextComponentString("No golem events recorded yet"));
+      return;
+    }
+    sender.sendMessage(new TextComponentString(String.format("Golem event costs over the last %.0f s:",
+        (System.nanoTime() - GolemEventStats.getWindowStartNanos()) / 1.0E9D)));
+    for (final String line : lines) {
+      sender.sendMessage(new TextComponentString(line));
+    }
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "on", "off", "reset")
+        : Collections.<String>emptyList();
+  }
+}
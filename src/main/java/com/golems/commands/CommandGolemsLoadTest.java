@@ -0,0 +1,84 @@
+package com.golems.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemLoadTest;
+import com.golems.debug.GolemLoadTest.Scenario;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.fml.common.Loader;
+
+/**
+ * {@code /golems loadtest <scenario>} spawns the golems of a load-test
+ * scenario around the sender and reports MSPT and the golem tick profile
+ * when it is done. {@code /golems loadtest stop} aborts it.
+ **/
+public class CommandGolemsLoadTest extends CommandBase {
+
+  @Override
+  public String getName() {
+    return "loadtest";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems loadtest <scenario> OR /golems loadtest stop";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length != 1) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if ("stop".equals(args[0])) {
+      sender.sendMessage(new TextComponentString(GolemLoadTest.stop() ? "Load test stopped"
+          : "No load test is running"));
+      return;
+    }
+    final Scenario scenario;
+    try {
+      scenario = GolemLoadTest.load(args[0]);
+    } catch (final IOException e) {
+      throw new CommandException(e.getMessage());
+    }
+    GolemLoadTest.start(args[0], scenario, sender.getEntityWorld(), sender.getPosition(), sender);
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    if (args.length != 1) {
+      return Collections.<String>emptyList();
+    }
+    final List<String> names = new ArrayList<>();
+    names.add("stop");
+    names.add("mixed");
+    final String[] files = new File(Loader.instance().getConfigDir(), "golems/loadtests").list();
+    if (files != null) {
+      for (final String f : files) {
+        if (f.endsWith(".json")) {
+          names.add(f.substring(0, f.length() - ".json".length()));
+        }
+      }
+    }
+    return getListOfStringsMatchingLastWord(args, names);
+  }
+}
@@ -0,0 +1,106 @@
+package com.golems.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemNetworkStats;
+import com.golems.debug.GolemNetworkStats.PlayerStats;
+import com.golems.debug.GolemNetworkStats.Source;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextFormatting;
+
+/**
+ * {@code /golems network} shows the estimated bytes and packets per second
+ * that golems send, by source. {@code /golems network players [count]} lists
+ * the players receiving the most. {@code /golems network <on|off|reset>}
+ * controls the accounting until the next server start.
+ **/
+public class CommandGolemsNetwork extends CommandBase {
+
+  private static final int DEFAULT_COUNT = 10;
+
+  @Override
+  public String getName() {
+    return "network";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems network [players [count]] OR /golems network <on|off|reset>";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 2) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (args.length == 1 && ("on".equals(args[0]) || "off".equals(args[0]))) {
+      GolemNetworkStats.setEnabled("on".equals(args[0]));
+      sender.sendMessage(new TextComponentString("Golem network accounting " + args[0]));
+      return;
+    }
+    if (args.length == 1 && "reset".equals(args[0])) {
+      GolemNetworkStats.reset();
+      sender.sendMessage(new TextComponentString("Golem network accounting reset"));
+      return;
+    }
+    if (args.length > 0 && !"players".equals(args[0])) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (!GolemNetworkStats.isEnabled()) {
+      sender.sendMessage(new TextComponentString(TextFormatting.RED
+          + "Network accounting is off ('/golems network on'); showing whatever was recorded before"));
+    }
+    final double seconds = Math.max(1.0D, (System.nanoTime() - GolemNetworkStats.getWindowStartNanos()) / 1.0E9D);
+    if (args.length > 0) {
+      final int count = args.length > 1 ? parseInt(args[1], 1) : DEFAULT_COUNT;
+      final List<PlayerStats> players = new ArrayList<>(GolemNetworkStats.getStats().values());
+      if (players.isEmpty()) {
+        sender.sendMessage(new TextComponentString("No golem packets recorded yet"));
+        return;
+      }
+      Collections.sort(players, Comparator.comparingLong(PlayerStats::getTotalBytes).reversed());
+      sender.sendMessage(new TextComponentString(String.format("Players receiving the most golem traffic over %.0f s:",
+          seconds)));
+      for (int i = 0, n = Math.min(count, players.size()); i < n; i++) {
+        final PlayerStats p = players.get(i);
+        sender.sendMessage(new TextComponentString(String.format("  %d. %s: %.1f KB/s, mostly %s", i + 1, p.name,
+            p.getTotalBytes() / 1024.0D / seconds, p.getTopSource().label)));
+      }
+      return;
+    }
+    final PlayerStats total = GolemNetworkStats.getTotal();
+    sender.sendMessage(new TextComponentString(String.format("Estimated golem traffic over %.0f s, all players: %.1f KB/s",
+        seconds, total.getTotalBytes() / 1024.0D / seconds)));
+    for (final Source s : Source.values()) {
+      if (total.getPackets(s) > 0L) {
+        sender.sendMessage(new TextComponentString(String.format("  %s: %.1f KB/s, %.1f packets/s", s.label,
+            total.getBytes(s) / 1024.0D / seconds, total.getPackets(s) / seconds)));
+      }
+    }
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "players", "on", "off", "reset")
+        : Collections.<String>emptyList();
+  }
+}
@@ -0,0 +1,121 @@
+package com.golems.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.ClassStats;
+import com.golems.debug.GolemTickProfiler.Section;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.entity.EntityList;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * {@code /golems perf [total|instance] [count]} lists the most expensive golem
+ * classes in each dimension since the last {@code /golems perf reset}, sorted
+ * by total update time or by mean time per golem per tick.
+ **/
+public class CommandGolemsPerf extends CommandBase {
+
+  private static final int DEFAULT_COUNT = 5;
+
+  @Override
+  public String getName() {
+    return "perf";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems perf [total|instance] [count] OR /golems perf reset";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 0 && "reset".equals(args[0])) {
+      GolemTickProfiler.reset(server.getTickCounter());
+      sender.sendMessage(new TextComponentString("Golem tick profiler reset"));
+      return;
+    }
+    if (args.length > 2 || (args.length > 0 && !"total".equals(args[0]) && !"instance".equals(args[0]))) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    final boolean byInstance = args.length > 0 && "instance".equals(args[0]);
+    final int count = args.length > 1 ? parseInt(args[1], 1) : DEFAULT_COUNT;
+    if (!Config.enableTickProfiler()) {
+      sender.sendMessage(new TextComponentString(TextFormatting.RED
+          + "The tick profiler is disabled in the config; showing whatever was recorded before"));
+    }
+
+    final int ticks = Math.max(1, server.getTickCounter() - GolemTickProfiler.getWindowStartTick());
+    sender.sendMessage(new TextComponentString(String.format("Golem tick cost over the last %d ticks, by %s:", ticks,
+        byInstance ? "cost per golem" : "total cost")));
+    if (GolemTickProfiler.getStats().isEmpty()) {
+      sender.sendMessage(new TextComponentString("  nothing recorded yet"));
+      return;
+    }
+    final Comparator<ClassStats> order = byInstance ? Comparator.comparingDouble(ClassStats::getMeanUpdate)
+        : Comparator.comparingLong(s -> s.getNanos(Section.UPDATE));
+    final int[] dims = GolemTickProfiler.getStats().keys();
+    Arrays.sort(dims);
+    for (final int dim : dims) {
+      final Map<Class<? extends GolemBase>, ClassStats> map = GolemTickProfiler.getStats().get(dim);
+      final List<ClassStats> list = new ArrayList<>(map.values());
+      Collections.sort(list, order.reversed());
+      long dimTotal = 0L;
+      for (final ClassStats s : list) {
+        dimTotal += s.getNanos(Section.UPDATE);
+      }
+      sender.sendMessage(new TextComponentString(String.format("%s%s (dim %d): %.2f ms/tick across %d golem types",
+          TextFormatting.GOLD, getDimensionName(dim), dim, dimTotal / 1.0E6D / ticks, list.size())));
+      for (int i = 0, n = Math.min(count, list.size()); i < n; i++) {
+        final ClassStats s = list.get(i);
+        sender.sendMessage(new TextComponentString(String.format(
+            "  %d. %s x%.1f: %.3f ms/tick, %.1f us/golem (p99 < %.0f us), ai %.3f ms/tick, special %.3f ms/tick",
+            i + 1, getGolemName(s.golemClass), (double) s.getCalls(Section.UPDATE) / ticks,
+            s.getNanos(Section.UPDATE) / 1.0E6D / ticks, s.getMeanUpdate() / 1.0E3D,
+            s.getUpdatePercentileBound(0.99D) / 1.0E3D, s.getNanos(Section.AI) / 1.0E6D / ticks,
+            s.getNanos(Section.SPECIAL) / 1.0E6D / ticks)));
+      }
+    }
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "total", "instance", "reset")
+        : Collections.<String>emptyList();
+  }
+
+  static String getGolemName(final Class<? extends GolemBase> clazz) {
+    final ResourceLocation key = EntityList.getKey(clazz);
+    return key != null ? key.getResourcePath() : clazz.getSimpleName();
+  }
+
+  static String getDimensionName(final int dim) {
+    return DimensionManager.isDimensionRegistered(dim) ? DimensionManager.getProviderType(dim).getName()
+        : "unknown";
+  }
+}
@@ -0,0 +1,118 @@
+package com.golems.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.ChunkStats;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.main.Config;
+
+import gnu.trove.map.TLongObjectMap;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextFormatting;
+
+/**
+ * {@code /golems writes [count]} lists the chunks where golems changed the
+ * most blocks since the last {@code /golems writes reset}, with their peak
+ * writes per second and top sources. {@code /golems writes sources} shows the
+ * totals per source.
+ **/
+public class CommandGolemsWrites extends CommandBase {
+
+  private static final int DEFAULT_COUNT = 10;
+
+  @Override
+  public String getName() {
+    return "writes";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public String getUsage(final ICommandSender sender) {
+    return "/golems writes [count] OR /golems writes <sources|reset>";
+  }
+
+  @Override
+  public void execute(final MinecraftServer server, final ICommandSender sender, final String[] args)
+      throws CommandException {
+    if (args.length > 1) {
+      throw new WrongUsageException(getUsage(sender));
+    }
+    if (args.length == 1 && "reset".equals(args[0])) {
+      GolemBlockWrites.reset();
+      sender.sendMessage(new TextComponentString("Golem block write counters reset"));
+      return;
+    }
+    if (args.length == 1 && "sources".equals(args[0])) {
+      sender.sendMessage(new TextComponentString("Golem block writes by source:"));
+      for (final Source s : Source.values()) {
+        sender.sendMessage(new TextComponentString(String.format("  %s: %d", s.label, GolemBlockWrites.getTotal(s))));
+      }
+      return;
+    }
+    final int count = args.length == 1 ? parseInt(args[0], 1) : DEFAULT_COUNT;
+
+    final List<ChunkStats> all = new ArrayList<>();
+    for (final TLongObjectMap<ChunkStats> chunks : GolemBlockWrites.getStats().valueCollection()) {
+      all.addAll(chunks.valueCollection());
+    }
+    if (all.isEmpty()) {
+      sender.sendMessage(new TextComponentString(Config.enableBlockWriteStats()
+          ? "No golem block writes recorded in loaded chunks"
+          : "Per-chunk golem block writes are not recorded; set 'Enable Block Write Stats' in the config"));
+      return;
+    }
+    Collections.sort(all, Comparator.comparingLong(ChunkStats::getTotal).reversed());
+    sender.sendMessage(new TextComponentString(String.format("Hottest chunks for golem block writes (warning at %d/s):",
+        Config.getBlockWriteWarnThreshold())));
+    for (int i = 0, n = Math.min(count, all.size()); i < n; i++) {
+      final ChunkStats c = all.get(i);
+      final boolean hot = Config.getBlockWriteWarnThreshold() > 0
+          && c.getPeakPerSecond() >= Config.getBlockWriteWarnThreshold();
+      sender.sendMessage(new TextComponentString(String.format("  %d. %sdim %d chunk [%d, %d] (block %d, %d)%s: %d writes, peak %d/s, %s",
+          i + 1, hot ? TextFormatting.RED : "", c.dimension, c.chunkX, c.chunkZ, c.chunkX << 4, c.chunkZ << 4,
+          TextFormatting.RESET, c.getTotal(), c.getPeakPerSecond(), describeSources(c))));
+    }
+  }
+
+  /** @return the non-zero sources of a chunk, largest first, e.g. "ice freeze 120, sponge soak 8" **/
+  private static String describeSources(final ChunkStats c) {
+    final List<Source> sources = new ArrayList<>();
+    for (final Source s : Source.values()) {
+      if (c.getCount(s) > 0) {
+        sources.add(s);
+      }
+    }
+    Collections.sort(sources, Comparator.comparingLong(c::getCount).reversed());
+    final StringBuilder builder = new StringBuilder();
+    for (final Source s : sources) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(s.label).append(' ').append(c.getCount(s));
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public List<String> getTabCompletions(final MinecraftServer server, final ICommandSender sender,
+      final String[] args, @Nullable final BlockPos targetPos) {
+    return args.length == 1 ? getListOfStringsMatchingLastWord(args, "sources", "reset")
+        : Collections.<String>emptyList();
+  }
+}
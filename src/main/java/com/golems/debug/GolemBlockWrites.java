@@ -0,0 +1,182 @@
+package com.golems.debug;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * Counts every block write made by golem code, tagged by {@link Source}.
+ * When enabled in the config, writes are also added up per loaded chunk and
+ * counted per second (of world time) so that chunks going over the configured
+ * threshold can be logged. A chunk's stats are dropped when it unloads, and a
+ * dimension's when its world unloads. Server-side writes only. The per-chunk
+ * stats are touched from the server thread alone; the totals per source are
+ * {@link LongAdder}s so they can be read from any thread.
+ **/
+public final class GolemBlockWrites {
+
+  public enum Source {
+    ICE_FREEZE("ice freeze"),
+    SPONGE_SOAK("sponge soak"),
+    MAGMA_MELT("magma melt"),
+    UTILITY_LIGHT("utility light"),
+    UTILITY_POWER("utility power"),
+    UTILITY_REMOVE("utility block removal"),
+    PLANTING("flower/mushroom planting"),
+    CROP_BOOST("crop boost"),
+    BUILD_REMOVAL("golem build removal");
+
+    public final String label;
+
+    Source(final String labelIn) {
+      this.label = labelIn;
+    }
+  }
+
+  /** Do not warn about the same chunk more than once per this many seconds **/
+  static final long WARN_COOLDOWN_SECONDS = 60L;
+
+  private static final TIntObjectMap<TLongObjectMap<ChunkStats>> BY_DIMENSION = new TIntObjectHashMap<>();
+  private static final LongAdder[] TOTALS = new LongAdder[Source.values().length];
+
+  static {
+    for (int i = 0; i < TOTALS.length; i++) {
+      TOTALS[i] = new LongAdder();
+    }
+  }
+
+  private GolemBlockWrites() {
+    //
+  }
+
+  /**
+   * Records a golem block write at the given position. Call this after a
+   * successful {@code setBlockState}/{@code setBlockToAir}.
+   **/
+  public static void record(final World world, final BlockPos pos, final Source source) {
+    if (world.isRemote) {
+      return;
+    }
+    TOTALS[source.ordinal()].increment();
+    GolemNetworkStats.blockChange(world, pos);
+    if (!Config.enableBlockWriteStats()) {
+      return;
+    }
+    final int dim = world.provider.getDimension();
+    TLongObjectMap<ChunkStats> chunks = BY_DIMENSION.get(dim);
+    if (chunks == null) {
+      chunks = new TLongObjectHashMap<>();
+      BY_DIMENSION.put(dim, chunks);
+    }
+    final int chunkX = pos.getX() >> 4;
+    final int chunkZ = pos.getZ() >> 4;
+    final long key = ChunkPos.asLong(chunkX, chunkZ);
+    ChunkStats stats = chunks.get(key);
+    if (stats == null) {
+      stats = new ChunkStats(dim, chunkX, chunkZ);
+      chunks.put(key, stats);
+    }
+    stats.add(source, world.getTotalWorldTime() / 20L, Config.getBlockWriteWarnThreshold());
+  }
+
+  /** Drops the stats of a chunk that unloaded **/
+  public static void onChunkUnload(final int dim, final int chunkX, final int chunkZ) {
+    final TLongObjectMap<ChunkStats> chunks = BY_DIMENSION.get(dim);
+    if (chunks != null) {
+      chunks.remove(ChunkPos.asLong(chunkX, chunkZ));
+      if (chunks.isEmpty()) {
+        BY_DIMENSION.remove(dim);
+      }
+    }
+  }
+
+  /** Drops the stats of every chunk in a dimension whose world unloaded **/
+  public static void onWorldUnload(final int dim) {
+    BY_DIMENSION.remove(dim);
+  }
+
+  public static void reset() {
+    BY_DIMENSION.clear();
+    for (final LongAdder total : TOTALS) {
+      total.reset();
+    }
+  }
+
+  /** @return recorded chunks per dimension, loaded chunks only. Do not modify **/
+  public static TIntObjectMap<TLongObjectMap<ChunkStats>> getStats() {
+    return BY_DIMENSION;
+  }
+
+  public static long getTotal(final Source source) {
+    return TOTALS[source.ordinal()].sum();
+  }
+
+  public static final class ChunkStats {
+    public final int dimension;
+    public final int chunkX;
+    public final int chunkZ;
+    private final long[] bySource = new long[Source.values().length];
+    private long total;
+    private long second = -1L;
+    private int thisSecond;
+    private int peakPerSecond;
+    /** Starts one cooldown back so that the first chunk to reach the threshold is logged **/
+    private long lastWarning = -WARN_COOLDOWN_SECONDS;
+
+    ChunkStats(final int dim, final int x, final int z) {
+      this.dimension = dim;
+      this.chunkX = x;
+      this.chunkZ = z;
+    }
+
+    /** @return true if this write logged a warning **/
+    boolean add(final Source source, final long nowSecond, final int threshold) {
+      bySource[source.ordinal()]++;
+      total++;
+      if (nowSecond != second) {
+        second = nowSecond;
+        thisSecond = 0;
+      }
+      peakPerSecond = Math.max(peakPerSecond, ++thisSecond);
+      if (threshold > 0 && thisSecond == threshold && nowSecond - lastWarning >= WARN_COOLDOWN_SECONDS) {
+        lastWarning = nowSecond;
+        ExtraGolems.LOGGER.warn(
+            "Chunk [%d, %d] (block %d, %d) in dimension %d reached %d golem block writes in one second; top source: %s",
+            chunkX, chunkZ, chunkX << 4, chunkZ << 4, dimension, threshold, getTopSource().label);
+        return true;
+      }
+      return false;
+    }
+
+    public long getTotal() {
+      return total;
+    }
+
+    public long getCount(final Source source) {
+      return bySource[source.ordinal()];
+    }
+
+    public int getPeakPerSecond() {
+      return peakPerSecond;
+    }
+
+    public Source getTopSource() {
+      Source top = Source.values()[0];
+      for (final Source s : Source.values()) {
+        if (bySource[s.ordinal()] > bySource[top.ordinal()]) {
+          top = s;
+        }
+      }
+      return top;
+    }
+  }
+}
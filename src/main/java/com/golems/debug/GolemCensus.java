@@ -0,0 +1,188 @@
+package com.golems.debug;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Live count of loaded server-side golems by dimension, chunk and class, kept
+ * up to date as golems join a world, move between chunks, die, change
+ * dimension or are unloaded with their chunk, so finding crowded areas never
+ * needs a scan of {@code loadedEntityList}. Each golem carries a
+ * {@link Tracker} that remembers where it was counted.
+ * <br>
+ * The per-chunk maps belong to the server thread. The totals per class are
+ * {@link LongAdder}s so they can be read from any thread.
+ **/
+public final class GolemCensus {
+
+  private static final TIntObjectMap<TLongObjectMap<ChunkCensus>> BY_DIMENSION = new TIntObjectHashMap<>();
+  private static final Map<Class<? extends GolemBase>, LongAdder> TOTALS = new ConcurrentHashMap<>();
+
+  private GolemCensus() {
+    //
+  }
+
+  /** Counts the golem where it stands; does nothing if it is already counted **/
+  public static void add(final GolemBase golem) {
+    final Tracker t = golem.getCensusTracker();
+    if (golem.world.isRemote || t.counted) {
+      return;
+    }
+    t.counted = true;
+    t.dimension = golem.world.provider.getDimension();
+    t.chunkX = MathHelper.floor(golem.posX) >> 4;
+    t.chunkZ = MathHelper.floor(golem.posZ) >> 4;
+    getChunk(t.dimension, t.chunkX, t.chunkZ, true).add(golem.getClass());
+    getTotal(golem.getClass()).increment();
+  }
+
+  /** Removes the golem from wherever it was counted; does nothing if it is not counted **/
+  public static void remove(final GolemBase golem) {
+    final Tracker t = golem.getCensusTracker();
+    if (!t.counted) {
+      return;
+    }
+    t.counted = false;
+    // the chunk is already gone if its dimension was cleared
+    if (removeFromChunk(t, golem.getClass())) {
+      getTotal(golem.getClass()).decrement();
+    }
+  }
+
+  /** Moves the golem to its current chunk if it left the one it was counted in. Call once per tick **/
+  public static void update(final GolemBase golem) {
+    final Tracker t = golem.getCensusTracker();
+    if (!t.counted) {
+      return;
+    }
+    final int chunkX = MathHelper.floor(golem.posX) >> 4;
+    final int chunkZ = MathHelper.floor(golem.posZ) >> 4;
+    if (chunkX != t.chunkX || chunkZ != t.chunkZ) {
+      if (!removeFromChunk(t, golem.getClass())) {
+        t.counted = false;
+        return;
+      }
+      t.chunkX = chunkX;
+      t.chunkZ = chunkZ;
+      getChunk(t.dimension, chunkX, chunkZ, true).add(golem.getClass());
+    }
+  }
+
+  /** Forgets everything counted in the dimension, e.g. when its world unloads **/
+  public static void clearDimension(final int dimension) {
+    final TLongObjectMap<ChunkCensus> chunks = BY_DIMENSION.remove(dimension);
+    if (chunks != null) {
+      for (final ChunkCensus c : chunks.valueCollection()) {
+        c.byClass.forEachEntry((clazz, count) -> {
+          getTotal(clazz).add(-count);
+          return true;
+        });
+      }
+    }
+  }
+
+  /** @return false if the golem's chunk was not in the census **/
+  private static boolean removeFromChunk(final Tracker t, final Class<? extends GolemBase> clazz) {
+    final ChunkCensus chunk = getChunk(t.dimension, t.chunkX, t.chunkZ, false);
+    if (chunk == null) {
+      return false;
+    }
+    if (chunk.remove(clazz)) {
+      BY_DIMENSION.get(t.dimension).remove(ChunkPos.asLong(t.chunkX, t.chunkZ));
+    }
+    return true;
+  }
+
+  private static ChunkCensus getChunk(final int dim, final int chunkX, final int chunkZ, final boolean create) {
+    TLongObjectMap<ChunkCensus> chunks = BY_DIMENSION.get(dim);
+    if (chunks == null) {
+      if (!create) {
+        return null;
+      }
+      chunks = new TLongObjectHashMap<>();
+      BY_DIMENSION.put(dim, chunks);
+    }
+    final long key = ChunkPos.asLong(chunkX, chunkZ);
+    ChunkCensus chunk = chunks.get(key);
+    if (chunk == null && create) {
+      chunk = new ChunkCensus(dim, chunkX, chunkZ);
+      chunks.put(key, chunk);
+    }
+    return chunk;
+  }
+
+  private static LongAdder getTotal(final Class<? extends GolemBase> clazz) {
+    return TOTALS.computeIfAbsent(clazz, c -> new LongAdder());
+  }
+
+  /** @return counted chunks per dimension; server thread only. Do not modify **/
+  public static TIntObjectMap<TLongObjectMap<ChunkCensus>> getChunks() {
+    return BY_DIMENSION;
+  }
+
+  /** @return loaded golems per class across all dimensions; safe to read from any thread **/
+  public static Map<Class<? extends GolemBase>, LongAdder> getTotals() {
+    return TOTALS;
+  }
+
+  /** Where a golem was counted. One per golem, see {@link GolemBase#getCensusTracker()} **/
+  public static final class Tracker {
+    private boolean counted;
+    private int dimension;
+    private int chunkX;
+    private int chunkZ;
+  }
+
+  public static final class ChunkCensus {
+    public final int dimension;
+    public final int chunkX;
+    public final int chunkZ;
+    private final TObjectIntMap<Class<? extends GolemBase>> byClass = new TObjectIntHashMap<>();
+    private int total;
+
+    private ChunkCensus(final int dim, final int x, final int z) {
+      this.dimension = dim;
+      this.chunkX = x;
+      this.chunkZ = z;
+    }
+
+    private void add(final Class<? extends GolemBase> clazz) {
+      byClass.adjustOrPutValue(clazz, 1, 1);
+      final int threshold = Config.getCensusChunkWarnThreshold();
+      if (++total == threshold && threshold > 0) {
+        ExtraGolems.LOGGER.warn("Chunk [%d, %d] (block %d, %d) in dimension %d now holds %d golems",
+            chunkX, chunkZ, chunkX << 4, chunkZ << 4, dimension, total);
+      }
+    }
+
+    /** @return true if the chunk has no golems left **/
+    private boolean remove(final Class<? extends GolemBase> clazz) {
+      if (byClass.adjustOrPutValue(clazz, -1, 0) <= 0) {
+        byClass.remove(clazz);
+      }
+      return --total <= 0;
+    }
+
+    public int getTotal() {
+      return total;
+    }
+
+    public TObjectIntMap<Class<? extends GolemBase>> getCounts() {
+      return byClass;
+    }
+  }
+}
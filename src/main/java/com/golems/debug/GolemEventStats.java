@@ -0,0 +1,260 @@
+package com.golems.debug;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.golems.main.ExtraGolems;
+import com.golems.util.ReflectionUtil;
+
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.ModContainer;
+import net.minecraftforge.fml.common.eventhandler.ASMEventHandler;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.IEventListener;
+
+/**
+ * Measures the cost of the events golems post (freeze, soak, teleport): time
+ * and bytes allocated to construct each event, and the same for every
+ * listener that receives it, together with the mod that registered the
+ * listener. Only server-side posts are measured. While the profiler is off
+ * (the default) events go straight to {@code MinecraftForge.EVENT_BUS}.
+ * <br>
+ * To time listeners one by one, an instrumented post walks the bus's listener
+ * list itself, the same way {@code EventBus#post} does. Allocation is read
+ * from the JVM's per-thread allocation counter when it is available.
+ **/
+public final class GolemEventStats {
+
+  private static final Map<Class<? extends Event>, EventStats> STATS = new LinkedHashMap<>();
+  private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+
+  /** Index of the Forge event bus in each event's ListenerList, or -1 if it could not be read **/
+  private static int busID = -2;
+  private static boolean enabled;
+  private static long windowStartNanos = System.nanoTime();
+
+  private static long constructStartNanos;
+  private static long constructStartBytes;
+
+  private GolemEventStats() {
+    //
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(final boolean enable) {
+    enabled = enable && getBusID() >= 0;
+  }
+
+  public static void reset() {
+    STATS.clear();
+    windowStartNanos = System.nanoTime();
+  }
+
+  public static Map<Class<? extends Event>, EventStats> getStats() {
+    return STATS;
+  }
+
+  public static long getWindowStartNanos() {
+    return windowStartNanos;
+  }
+
+  private static boolean isActive(final World world) {
+    return enabled && !world.isRemote;
+  }
+
+  /** Call right before constructing a golem event; pair with {@link #endConstruct(World, Class)} **/
+  public static void beginConstruct(final World world) {
+    if (isActive(world)) {
+      constructStartBytes = allocatedBytes();
+      constructStartNanos = System.nanoTime();
+    }
+  }
+
+  public static void endConstruct(final World world, final Class<? extends Event> type) {
+    if (isActive(world) && constructStartNanos != 0L) {
+      final long nanos = System.nanoTime() - constructStartNanos;
+      final long bytes = allocatedBytes() - constructStartBytes;
+      constructStartNanos = 0L;
+      final EventStats stats = getStats(type);
+      stats.constructs++;
+      stats.constructNanos += nanos;
+      stats.constructBytes += bytes;
+    }
+  }
+
+  /**
+   * Posts the event on {@code MinecraftForge.EVENT_BUS}, timing each listener
+   * when the profiler is on.
+   *
+   * @return true if the event was canceled, as {@code EventBus#post}
+   **/
+  public static boolean post(final World world, final Event event) {
+    if (!isActive(world)) {
+      if (!GolemMetrics.isTimingEvents() || world.isRemote) {
+        return MinecraftForge.EVENT_BUS.post(event);
+      }
+      final long start = System.nanoTime();
+      final boolean canceled = MinecraftForge.EVENT_BUS.post(event);
+      GolemMetrics.eventPosted(event.getClass(), System.nanoTime() - start);
+      return canceled;
+    }
+    final EventStats stats = getStats(event.getClass());
+    final IEventListener[] listeners = event.getListenerList().getListeners(busID);
+    final long postStart = System.nanoTime();
+    final long postBytes = allocatedBytes();
+    for (final IEventListener listener : listeners) {
+      if (listener instanceof EventPriority) {
+        // sets the event phase; not a real listener
+        listener.invoke(event);
+        continue;
+      }
+      final long bytes = allocatedBytes();
+      final long start = System.nanoTime();
+      listener.invoke(event);
+      final long nanos = System.nanoTime() - start;
+      final ListenerStats ls = stats.getListener(listener);
+      ls.calls++;
+      ls.nanos += nanos;
+      ls.bytes += allocatedBytes() - bytes;
+    }
+    final long postNanos = System.nanoTime() - postStart;
+    stats.posts++;
+    stats.postNanos += postNanos;
+    GolemMetrics.eventPosted(event.getClass(), postNanos);
+    stats.postBytes += allocatedBytes() - postBytes;
+    return event.isCancelable() && event.isCanceled();
+  }
+
+  private static EventStats getStats(final Class<? extends Event> type) {
+    EventStats stats = STATS.get(type);
+    if (stats == null) {
+      stats = new EventStats(type);
+      STATS.put(type, stats);
+    }
+    return stats;
+  }
+
+  private static int getBusID() {
+    if (busID == -2) {
+      final Integer id = ReflectionUtil.getFieldValueNoException("busID", MinecraftForge.EVENT_BUS);
+      busID = id != null ? id : -1;
+      if (busID < 0) {
+        ExtraGolems.LOGGER.error("Could not read the event bus ID; golem event profiling is unavailable");
+      }
+    }
+    return busID;
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadBean() {
+    try {
+      final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+        ((com.sun.management.ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+        return (com.sun.management.ThreadMXBean) bean;
+      }
+    } catch (final LinkageError | UnsupportedOperationException e) {
+      // not a HotSpot-style JVM
+    }
+    return null;
+  }
+
+  /** @return bytes allocated by this thread so far, or 0 if the JVM cannot tell us **/
+  private static long allocatedBytes() {
+    return THREAD_BEAN != null ? THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+  }
+
+  public static boolean canMeasureAllocation() {
+    return THREAD_BEAN != null;
+  }
+
+  /**
+   * @param maxListeners how many of the most expensive listeners to list per event
+   * @return human-readable lines describing everything recorded so far
+   **/
+  public static List<String> summarize(final int maxListeners) {
+    final List<String> lines = new ArrayList<>();
+    final double seconds = Math.max(1.0E-3D, (System.nanoTime() - windowStartNanos) / 1.0E9D);
+    for (final EventStats e : STATS.values()) {
+      lines.add(String.format("%s: built %d times (%.1f us, %d B avg), posted %d times (%.1f us, %d B avg), %.2f ms/s",
+          e.eventClass.getSimpleName(), e.constructs, avg(e.constructNanos, e.constructs) / 1.0E3D,
+          (long) avg(e.constructBytes, e.constructs), e.posts, avg(e.postNanos, e.posts) / 1.0E3D,
+          (long) avg(e.postBytes, e.posts), (e.constructNanos + e.postNanos) / 1.0E6D / seconds));
+      final List<ListenerStats> list = new ArrayList<>(e.listeners.values());
+      Collections.sort(list, Comparator.comparingLong((ListenerStats l) -> l.nanos).reversed());
+      for (int i = 0, n = Math.min(maxListeners, list.size()); i < n; i++) {
+        final ListenerStats l = list.get(i);
+        lines.add(String.format("  [%s] %s: %d calls, %.1f us avg, %d B avg, %.2f ms/s", l.modId, l.name, l.calls,
+            avg(l.nanos, l.calls) / 1.0E3D, (long) avg(l.bytes, l.calls), l.nanos / 1.0E6D / seconds));
+      }
+    }
+    return lines;
+  }
+
+  private static double avg(final long total, final long count) {
+    return count == 0L ? 0.0D : (double) total / count;
+  }
+
+  /** @return the mod id that registered the listener, or "?" if it is not an ASM handler **/
+  static String getOwner(final IEventListener listener) {
+    if (listener instanceof ASMEventHandler) {
+      final ModContainer owner = ReflectionUtil.getFieldValueNoException("owner", listener);
+      if (owner != null) {
+        return owner.getModId();
+      }
+    }
+    return "?";
+  }
+
+  public static final class EventStats {
+    public final Class<? extends Event> eventClass;
+    public long constructs;
+    public long constructNanos;
+    public long constructBytes;
+    public long posts;
+    public long postNanos;
+    public long postBytes;
+    private final Map<IEventListener, ListenerStats> listeners = new IdentityHashMap<>();
+
+    private EventStats(final Class<? extends Event> type) {
+      this.eventClass = type;
+    }
+
+    private ListenerStats getListener(final IEventListener listener) {
+      ListenerStats ls = listeners.get(listener);
+      if (ls == null) {
+        ls = new ListenerStats(getOwner(listener), listener.toString());
+        listeners.put(listener, ls);
+      }
+      return ls;
+    }
+
+    public Iterable<ListenerStats> getListeners() {
+      return listeners.values();
+    }
+  }
+
+  public static final class ListenerStats {
+    public final String modId;
+    public final String name;
+    public long calls;
+    public long nanos;
+    public long bytes;
+
+    private ListenerStats(final String modIdIn, final String nameIn) {
+      this.modId = modIdIn;
+      this.name = nameIn;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.golems.debug;
+
+import javax.annotation.Nullable;
+
+import com.golems.debug.jfr.GolemJfrEvents;
+import com.golems.main.ExtraGolems;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Emits Java Flight Recorder events for golem hot paths so they line up with
+ * GC and tick spikes in production recordings. Callers take an event from
+ * the matching {@code beginX()} before the work and pass it to the matching
+ * method afterwards. {@code beginX()} returns null unless a recording has
+ * that event type enabled, and then nothing is built or committed.
+ * <br>
+ * {@code jdk.jfr} is missing on older Java 8 builds, so it is only touched
+ * from {@link GolemJfrEvents}, and only after checking that it exists.
+ **/
+public final class GolemFlightRecorder {
+
+  private static final boolean AVAILABLE = detect();
+
+  private GolemFlightRecorder() {
+    //
+  }
+
+  private static boolean detect() {
+    try {
+      Class.forName("jdk.jfr.FlightRecorder", false, GolemFlightRecorder.class.getClassLoader());
+      GolemJfrEvents.init();
+      return true;
+    } catch (final ClassNotFoundException | LinkageError e) {
+      ExtraGolems.LOGGER.info("Java Flight Recorder is not available; golem JFR events are disabled");
+      return false;
+    }
+  }
+
+  @Nullable
+  public static Object beginFreezePass() {
+    return AVAILABLE ? GolemJfrEvents.beginFreezePass() : null;
+  }
+
+  public static void freezePass(@Nullable final Object event, final Object golem, final int radius,
+      final int blocks) {
+    if (event != null) {
+      GolemJfrEvents.freezePass(event, golem.getClass(), radius, blocks);
+    }
+  }
+
+  @Nullable
+  public static Object beginSoakPass() {
+    return AVAILABLE ? GolemJfrEvents.beginSoakPass() : null;
+  }
+
+  public static void soakPass(@Nullable final Object event, final Object golem, final int radius, final int blocks) {
+    if (event != null) {
+      GolemJfrEvents.soakPass(event, golem.getClass(), radius, blocks);
+    }
+  }
+
+  @Nullable
+  public static Object beginUtilityBlock() {
+    return AVAILABLE ? GolemJfrEvents.beginUtilityBlock() : null;
+  }
+
+  /** @param golem the golem placing the block, or null if the block is being removed **/
+  public static void utilityBlock(@Nullable final Object event, @Nullable final Object golem, final Block block,
+      final boolean placed) {
+    if (event != null) {
+      final ResourceLocation name = block.getRegistryName();
+      GolemJfrEvents.utilityBlock(event, golem != null ? golem.getClass() : null,
+          name != null ? name.toString() : null, placed);
+    }
+  }
+
+  @Nullable
+  public static Object beginGolemBuilt() {
+    return AVAILABLE ? GolemJfrEvents.beginGolemBuilt() : null;
+  }
+
+  public static void golemBuilt(@Nullable final Object event, final Class<?> golemClass, final int blocksRemoved) {
+    if (event != null) {
+      GolemJfrEvents.golemBuilt(event, golemClass, blocksRemoved);
+    }
+  }
+
+  @Nullable
+  public static Object beginTntExplosion() {
+    return AVAILABLE ? GolemJfrEvents.beginTntExplosion() : null;
+  }
+
+  public static void tntExplosion(@Nullable final Object event, final Object golem, final float radius,
+      final boolean griefing) {
+    if (event != null) {
+      GolemJfrEvents.tntExplosion(event, golem.getClass(), radius, griefing);
+    }
+  }
+
+  @Nullable
+  public static Object beginEndTeleport() {
+    return AVAILABLE ? GolemJfrEvents.beginEndTeleport() : null;
+  }
+
+  public static void endTeleport(@Nullable final Object event, final Object golem, final double distance,
+      final boolean success) {
+    if (event != null) {
+      GolemJfrEvents.endTeleport(event, golem.getClass(), distance, success);
+    }
+  }
+
+  @Nullable
+  public static Object beginVillageSpawn() {
+    return AVAILABLE ? GolemJfrEvents.beginVillageSpawn() : null;
+  }
+
+  public static void villageSpawn(@Nullable final Object event, final Class<?> golemClass, final int chunkX,
+      final int chunkZ, final boolean spawned) {
+    if (event != null) {
+      GolemJfrEvents.villageSpawn(event, golemClass, chunkX, chunkZ, spawned);
+    }
+  }
+}
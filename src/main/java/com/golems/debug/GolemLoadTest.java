@@ -0,0 +1,275 @@
+package com.golems.debug;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.golems.debug.GolemTickProfiler.ClassStats;
+import com.golems.debug.GolemTickProfiler.Section;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraft.init.Blocks;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Loader;
+
+/**
+ * Runs a golem load-test scenario: spawns a mix of golems around a point,
+ * lets the server run for a number of ticks while recording how long each
+ * tick took, then reports the MSPT distribution next to the golem tick
+ * profile and removes the golems. One test runs at a time.
+ * <br>
+ * Scenarios are small JSON files, looked up first in
+ * {@code config/golems/loadtests/<name>.json} and then among the built-in
+ * ones in {@code assets/golems/loadtests}. See {@link Scenario} for the fields.
+ **/
+public final class GolemLoadTest {
+
+  private static final Gson GSON = new Gson();
+  private static final int PROFILE_LINES = 8;
+
+  private static GolemLoadTest running;
+
+  private final String name;
+  private final Scenario scenario;
+  private final ICommandSender sender;
+  private final List<Entity> spawned = new ArrayList<>();
+  private final long[] tickNanos;
+  private int tick;
+  private long tickStart;
+
+  private GolemLoadTest(final String nameIn, final Scenario scenarioIn, final ICommandSender senderIn) {
+    this.name = nameIn;
+    this.scenario = scenarioIn;
+    this.sender = senderIn;
+    this.tickNanos = new long[scenarioIn.ticks];
+  }
+
+  /** JSON shape of a scenario file **/
+  public static final class Scenario {
+    /** How many ticks to measure once the golems are spawned **/
+    public int ticks = 600;
+    /** Golems are spread over a square of this radius around the sender **/
+    public int radius = 16;
+    /** If set, lay a floor of this block under the area and clear 4 blocks above it **/
+    public String floor;
+    /** Golem registry names (without the mod id) and how many of each to spawn **/
+    public Map<String, Integer> golems = new LinkedHashMap<>();
+    /** Leave the golems in the world after the test **/
+    public boolean keep;
+    /** This percentage of golems spawns with 10-70% health, to show damage overlays **/
+    public int damagedPercent;
+  }
+
+  public static boolean isRunning() {
+    return running != null;
+  }
+
+  /**
+   * @return the scenario with the given name
+   * @throws IOException if it cannot be found or read
+   **/
+  public static Scenario load(final String scenarioName) throws IOException {
+    final File file = new File(Loader.instance().getConfigDir(), "golems/loadtests/" + scenarioName + ".json");
+    try {
+      if (file.isFile()) {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+          return validate(GSON.fromJson(reader, Scenario.class));
+        }
+      }
+      final InputStream in = GolemLoadTest.class
+          .getResourceAsStream("/assets/" + ExtraGolems.MODID + "/loadtests/" + scenarioName + ".json");
+      if (in == null) {
+        throw new IOException("No scenario named '" + scenarioName + "' in " + file.getParent());
+      }
+      try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+        return validate(GSON.fromJson(reader, Scenario.class));
+      }
+    } catch (final JsonParseException e) {
+      throw new IOException("Invalid scenario '" + scenarioName + "': " + e.getMessage(), e);
+    }
+  }
+
+  private static Scenario validate(final Scenario s) throws IOException {
+    if (s == null || s.ticks <= 0 || s.radius < 0 || s.golems == null || s.golems.isEmpty()) {
+      throw new IOException("A scenario needs 'ticks' > 0, 'radius' >= 0 and at least one entry in 'golems'");
+    }
+    for (final Map.Entry<String, Integer> e : s.golems.entrySet()) {
+      final ResourceLocation id = new ResourceLocation(ExtraGolems.MODID, e.getKey());
+      final Class<? extends Entity> clazz = EntityList.getClass(id);
+      if (clazz == null || !GolemBase.class.isAssignableFrom(clazz)) {
+        throw new IOException("Unknown golem '" + e.getKey() + "'");
+      }
+      if (e.getValue() == null || e.getValue() < 0) {
+        throw new IOException("Bad count for '" + e.getKey() + "'");
+      }
+    }
+    if (s.floor != null && Block.getBlockFromName(s.floor) == null) {
+      throw new IOException("Unknown floor block '" + s.floor + "'");
+    }
+    return s;
+  }
+
+  /** Spawns the scenario's golems around {@code center} and starts measuring from the next tick **/
+  public static void start(final String scenarioName, final Scenario scenario, final World world,
+      final BlockPos center, final ICommandSender sender) {
+    stop();
+    final GolemLoadTest test = new GolemLoadTest(scenarioName, scenario, sender);
+    if (scenario.floor != null) {
+      final IBlockState floor = Block.getBlockFromName(scenario.floor).getDefaultState();
+      final IBlockState air = Blocks.AIR.getDefaultState();
+      for (int x = -scenario.radius; x <= scenario.radius; x++) {
+        for (int z = -scenario.radius; z <= scenario.radius; z++) {
+          world.setBlockState(center.add(x, -1, z), floor, 2);
+          for (int y = 0; y < 4; y++) {
+            world.setBlockState(center.add(x, y, z), air, 2);
+          }
+        }
+      }
+    }
+    for (final Map.Entry<String, Integer> e : scenario.golems.entrySet()) {
+      final ResourceLocation id = new ResourceLocation(ExtraGolems.MODID, e.getKey());
+      for (int i = 0; i < e.getValue(); i++) {
+        final Entity golem = EntityList.createEntityByIDFromName(id, world);
+        final double x = center.getX() + 0.5D + (world.rand.nextDouble() * 2.0D - 1.0D) * scenario.radius;
+        final double z = center.getZ() + 0.5D + (world.rand.nextDouble() * 2.0D - 1.0D) * scenario.radius;
+        final double y = scenario.floor != null ? center.getY()
+            : world.getHeight(new BlockPos(x, center.getY(), z)).getY();
+        golem.setLocationAndAngles(x, y, z, world.rand.nextFloat() * 360.0F, 0.0F);
+        ((GolemBase) golem).setPlayerCreated(true);
+        if (world.rand.nextInt(100) < scenario.damagedPercent) {
+          ((GolemBase) golem).setHealth(((GolemBase) golem).getMaxHealth() * (0.1F + world.rand.nextFloat() * 0.6F));
+        }
+        if (world.spawnEntity(golem)) {
+          test.spawned.add(golem);
+        }
+      }
+    }
+    GolemTickProfiler.reset(world.getMinecraftServer().getTickCounter());
+    running = test;
+    test.send(String.format("Load test '%s' started: %d golems, %d ticks", scenarioName, test.spawned.size(),
+        scenario.ticks));
+  }
+
+  /** Aborts the running test, if any, and removes its golems unless the scenario keeps them **/
+  public static boolean stop() {
+    final GolemLoadTest test = running;
+    running = null;
+    if (test != null) {
+      test.cleanUp();
+    }
+    return test != null;
+  }
+
+  /** Call at the start of every server tick **/
+  public static void onTickStart() {
+    if (running != null) {
+      running.tickStart = System.nanoTime();
+    }
+  }
+
+  /** Call at the end of every server tick **/
+  public static void onTickEnd(final MinecraftServer server) {
+    final GolemLoadTest test = running;
+    if (test == null || test.tickStart == 0L) {
+      return;
+    }
+    test.tickNanos[test.tick++] = System.nanoTime() - test.tickStart;
+    if (test.tick >= test.tickNanos.length) {
+      running = null;
+      test.report(server);
+      test.cleanUp();
+    }
+  }
+
+  private void report(final MinecraftServer server) {
+    final long[] sorted = Arrays.copyOf(tickNanos, tickNanos.length);
+    Arrays.sort(sorted);
+    long sum = 0L;
+    for (final long n : sorted) {
+      sum += n;
+    }
+    send(String.format("Load test '%s' finished after %d ticks with %d golems", name, sorted.length, spawned.size()));
+    send(String.format("  MSPT mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, max %.2f; %d ticks over 50 ms",
+        sum / 1.0E6D / sorted.length, percentile(sorted, 0.50D), percentile(sorted, 0.90D),
+        percentile(sorted, 0.99D), sorted[sorted.length - 1] / 1.0E6D, countOver(sorted, 50_000_000L)));
+    if (!Config.enableTickProfiler()) {
+      send("  (the golem tick profiler is disabled in the config, so there is no golem profile)");
+      return;
+    }
+    // add up the classes over all dimensions
+    final Map<Class<? extends GolemBase>, long[]> byClass = new LinkedHashMap<>();
+    for (final Map<Class<? extends GolemBase>, ClassStats> dim : GolemTickProfiler.getStats().valueCollection()) {
+      for (final ClassStats s : dim.values()) {
+        final long[] totals = byClass.computeIfAbsent(s.golemClass, c -> new long[4]);
+        totals[0] += s.getNanos(Section.UPDATE);
+        totals[1] += s.getCalls(Section.UPDATE);
+        totals[2] += s.getNanos(Section.AI);
+        totals[3] += s.getNanos(Section.SPECIAL);
+      }
+    }
+    final List<Map.Entry<Class<? extends GolemBase>, long[]>> list = new ArrayList<>(byClass.entrySet());
+    Collections.sort(list, Comparator.comparingLong((Map.Entry<Class<? extends GolemBase>, long[]> e) -> e
+        .getValue()[0]).reversed());
+    final int ticks = Math.max(1, server.getTickCounter() - GolemTickProfiler.getWindowStartTick());
+    for (int i = 0, n = Math.min(PROFILE_LINES, list.size()); i < n; i++) {
+      final long[] t = list.get(i).getValue();
+      final ResourceLocation key = EntityList.getKey(list.get(i).getKey());
+      send(String.format("  %s: %.3f ms/tick, %.1f us/golem, ai %.3f ms/tick, special %.3f ms/tick",
+          key != null ? key.getResourcePath() : list.get(i).getKey().getSimpleName(), t[0] / 1.0E6D / ticks,
+          t[1] == 0L ? 0.0D : t[0] / 1.0E3D / t[1], t[2] / 1.0E6D / ticks, t[3] / 1.0E6D / ticks));
+    }
+  }
+
+  private static double percentile(final long[] sorted, final double p) {
+    final int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1);
+    return sorted[Math.max(0, index)] / 1.0E6D;
+  }
+
+  private static int countOver(final long[] sorted, final long nanos) {
+    int count = 0;
+    for (final long n : sorted) {
+      if (n > nanos) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void cleanUp() {
+    if (!scenario.keep) {
+      for (final Entity e : spawned) {
+        e.setDead();
+      }
+    }
+    spawned.clear();
+  }
+
+  private void send(final String message) {
+    ExtraGolems.LOGGER.info(message);
+    sender.sendMessage(new TextComponentString(message));
+  }
+}
@@ -0,0 +1,78 @@
+package com.golems.debug;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.golems.entity.GolemBase;
+
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+/**
+ * Lock-free counters for the golem subsystem that are not already kept
+ * elsewhere, read by {@link GolemMetricsExporter} from its own thread. The
+ * server thread only ever increments them, so exporting never blocks a tick.
+ **/
+public final class GolemMetrics {
+
+  private static final Map<Class<? extends GolemBase>, LongAdder> SPECIALS = new ConcurrentHashMap<>();
+  private static final Map<Class<? extends Event>, PostCounter> EVENT_POSTS = new ConcurrentHashMap<>();
+  private static final LongAdder UTILITY_BLOCKS = new LongAdder();
+
+  /** Set while an exporter is running; event posts are only timed then **/
+  private static volatile boolean timingEvents;
+
+  private GolemMetrics() {
+    //
+  }
+
+  /** Counts one run of a golem's special ability (freezing, soaking, crop boosting, melting) **/
+  public static void special(final GolemBase golem) {
+    if (!golem.world.isRemote) {
+      SPECIALS.computeIfAbsent(golem.getClass(), c -> new LongAdder()).increment();
+    }
+  }
+
+  public static void utilityBlockAdded() {
+    UTILITY_BLOCKS.increment();
+  }
+
+  public static void utilityBlockRemoved() {
+    UTILITY_BLOCKS.decrement();
+  }
+
+  public static boolean isTimingEvents() {
+    return timingEvents;
+  }
+
+  static void setTimingEvents(final boolean timing) {
+    timingEvents = timing;
+  }
+
+  public static void eventPosted(final Class<? extends Event> type, final long nanos) {
+    final PostCounter c = EVENT_POSTS.computeIfAbsent(type, t -> new PostCounter());
+    c.posts.increment();
+    c.nanos.add(nanos);
+  }
+
+  public static Map<Class<? extends GolemBase>, LongAdder> getSpecials() {
+    return SPECIALS;
+  }
+
+  public static Map<Class<? extends Event>, PostCounter> getEventPosts() {
+    return EVENT_POSTS;
+  }
+
+  /**
+   * @return utility blocks placed minus those removed since the server
+   *         started. Blocks already in the world at startup are not counted
+   **/
+  public static long getUtilityBlocks() {
+    return UTILITY_BLOCKS.sum();
+  }
+
+  public static final class PostCounter {
+    public final LongAdder posts = new LongAdder();
+    public final LongAdder nanos = new LongAdder();
+  }
+}
@@ -0,0 +1,173 @@
+package com.golems.debug;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemMetrics.PostCounter;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+import com.golems.util.ReflectionUtil;
+import com.sun.net.httpserver.HttpServer;
+
+import net.minecraft.entity.EntityList;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+/**
+ * Publishes golem counters in the Prometheus text exposition format, either
+ * by rewriting a file at a fixed interval or on a loopback-only HTTP
+ * endpoint ({@code http://127.0.0.1:<port>/metrics}). Both run on their own
+ * daemon thread and only read lock-free counters, so a slow scrape or disk
+ * never touches the server thread. Chosen by "Metrics Export" in the config.
+ **/
+public final class GolemMetricsExporter {
+
+  public static final String MODE_OFF = "off";
+  public static final String MODE_FILE = "file";
+  public static final String MODE_HTTP = "http";
+
+  private static HttpServer server;
+  private static ExecutorService executor;
+
+  private GolemMetricsExporter() {
+    //
+  }
+
+  /** Starts the exporter chosen in the config, if any. Call when the server starts **/
+  public static synchronized void start() {
+    stop();
+    final String mode = Config.getMetricsExport();
+    try {
+      if (MODE_FILE.equals(mode)) {
+        startFile(new File(Config.getMetricsFile()), Config.getMetricsInterval());
+      } else if (MODE_HTTP.equals(mode)) {
+        startHttp(Config.getMetricsPort());
+      } else {
+        return;
+      }
+      GolemMetrics.setTimingEvents(true);
+    } catch (final IOException e) {
+      ExtraGolems.LOGGER.error("Could not start the golem metrics exporter: %s", e.toString());
+      stop();
+    }
+  }
+
+  public static synchronized void stop() {
+    GolemMetrics.setTimingEvents(false);
+    if (server != null) {
+      server.stop(0);
+      server = null;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private static void startFile(final File file, final int intervalSeconds) {
+    final ScheduledExecutorService scheduler = Executors
+        .newSingleThreadScheduledExecutor(GolemMetricsExporter::newThread);
+    executor = scheduler;
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        final File tmp = new File(file.getPath() + ".tmp");
+        Files.write(tmp.toPath(), render().getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final IOException | RuntimeException e) {
+        ExtraGolems.LOGGER.warn("Could not write golem metrics to %s: %s", file, e.toString());
+      }
+    }, 0L, intervalSeconds, TimeUnit.SECONDS);
+    ExtraGolems.LOGGER.info("Writing golem metrics to %s every %d seconds", file.getAbsolutePath(), intervalSeconds);
+  }
+
+  private static void startHttp(final int port) throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext("/metrics", exchange -> {
+      final byte[] body = render().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    executor = Executors.newSingleThreadExecutor(GolemMetricsExporter::newThread);
+    server.setExecutor(executor);
+    server.start();
+    ExtraGolems.LOGGER.info("Serving golem metrics on http://%s:%d/metrics",
+        InetAddress.getLoopbackAddress().getHostAddress(), port);
+  }
+
+  private static Thread newThread(final Runnable r) {
+    final Thread t = new Thread(r, "Golem Metrics Exporter");
+    t.setDaemon(true);
+    return t;
+  }
+
+  /** @return every golem counter in Prometheus text format **/
+  public static String render() {
+    final StringBuilder out = new StringBuilder(2048);
+
+    header(out, "golems_loaded", "gauge", "Golems currently loaded on the server, by type");
+    for (final Map.Entry<Class<? extends GolemBase>, LongAdder> e : GolemCensus.getTotals().entrySet()) {
+      sample(out, "golems_loaded", "golem", getGolemName(e.getKey()), e.getValue().sum());
+    }
+
+    header(out, "golems_specials_total", "counter", "Special ability runs (freeze, soak, crop boost, melt), by type");
+    for (final Map.Entry<Class<? extends GolemBase>, LongAdder> e : GolemMetrics.getSpecials().entrySet()) {
+      sample(out, "golems_specials_total", "golem", getGolemName(e.getKey()), e.getValue().sum());
+    }
+
+    header(out, "golems_block_writes_total", "counter", "Blocks changed by golems, by source");
+    for (final Source s : Source.values()) {
+      sample(out, "golems_block_writes_total", "source", s.name().toLowerCase(), GolemBlockWrites.getTotal(s));
+    }
+
+    header(out, "golems_utility_blocks", "gauge", "Light and power utility blocks placed minus removed since start");
+    out.append("golems_utility_blocks ").append(GolemMetrics.getUtilityBlocks()).append('\n');
+
+    header(out, "golems_event_posts_total", "counter", "Golem events posted on the Forge event bus");
+    for (final Map.Entry<Class<? extends Event>, PostCounter> e : GolemMetrics.getEventPosts().entrySet()) {
+      sample(out, "golems_event_posts_total", "event", e.getKey().getSimpleName(), e.getValue().posts.sum());
+    }
+    header(out, "golems_event_post_seconds_total", "counter", "Time spent posting golem events, listeners included");
+    for (final Map.Entry<Class<? extends Event>, PostCounter> e : GolemMetrics.getEventPosts().entrySet()) {
+      out.append("golems_event_post_seconds_total{event=\"").append(e.getKey().getSimpleName()).append("\"} ")
+          .append(e.getValue().nanos.sum() / 1.0E9D).append('\n');
+    }
+
+    header(out, "golems_reflection_cache_hits_total", "counter", "ReflectionUtil field and method cache hits");
+    out.append("golems_reflection_cache_hits_total ").append(ReflectionUtil.getCacheHits()).append('\n');
+    header(out, "golems_reflection_cache_misses_total", "counter", "ReflectionUtil field and method cache misses");
+    out.append("golems_reflection_cache_misses_total ").append(ReflectionUtil.getCacheMisses()).append('\n');
+    return out.toString();
+  }
+
+  private static void header(final StringBuilder out, final String name, final String type, final String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(final StringBuilder out, final String name, final String label, final String value,
+      final long count) {
+    out.append(name).append('{').append(label).append("=\"").append(value).append("\"} ").append(count).append('\n');
+  }
+
+  private static String getGolemName(final Class<? extends GolemBase> clazz) {
+    final ResourceLocation key = EntityList.getKey(clazz);
+    return key != null ? key.getResourcePath() : clazz.getSimpleName();
+  }
+}
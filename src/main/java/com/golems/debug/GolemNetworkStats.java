@@ -0,0 +1,236 @@
+package com.golems.debug;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.golems.main.ExtraGolems;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
+
+/**
+ * Estimates the outbound bytes that golems cost each player: entity metadata
+ * updates, sounds and block changes. Potion effects on a golem are not sent
+ * as their own packets; trackers only see the effect color and particle
+ * flag metadata, which is counted as the potion sources. Each packet is counted
+ * once per player it would be sent to (players tracking the golem, in sound
+ * range or watching the chunk) with its approximate size on the wire, before
+ * compression. Several changes in one tick can share a packet in vanilla, so
+ * the numbers lean high; they are meant to rank sources, not to bill them.
+ * <br>
+ * Off by default ("Enable Network Accounting"). Server thread only.
+ **/
+public final class GolemNetworkStats {
+
+  public enum Source {
+    METADATA_CHILD("metadata: child"),
+    METADATA_TEXTURE("metadata: texture"),
+    METADATA_FUEL("metadata: furnace fuel"),
+    METADATA_IGNITED("metadata: tnt ignited"),
+    METADATA_OTHER("metadata: other"),
+    POTION_COLOR("potion: effect color"),
+    POTION_PARTICLES("potion: hide particles"),
+    SOUND("sounds"),
+    BLOCK_CHANGE("block changes");
+
+    public final String label;
+
+    Source(final String labelIn) {
+      this.label = labelIn;
+    }
+  }
+
+  /** Packet id, position and state id of SPacketBlockChange **/
+  private static final int BLOCK_CHANGE_BYTES = 12;
+  /** Packet id, sound id, category, fixed-point position, volume and pitch of SPacketSoundEffect **/
+  private static final int SOUND_BYTES = 24;
+
+  private static final Map<DataParameter<?>, Source> METADATA_SOURCES = new IdentityHashMap<>();
+  private static final Map<UUID, PlayerStats> BY_PLAYER = new HashMap<>();
+  private static final PlayerStats TOTAL = new PlayerStats("total");
+
+  private static boolean enabled;
+  private static long windowStartNanos = System.nanoTime();
+
+  static {
+    registerLivingMetadata("field_184633_f", Source.POTION_COLOR);
+    registerLivingMetadata("field_184634_g", Source.POTION_PARTICLES);
+  }
+
+  private GolemNetworkStats() {
+    //
+  }
+
+  /** Tags a golem data key so that its updates are shown as the given source **/
+  public static void registerMetadata(final DataParameter<?> key, final Source source) {
+    METADATA_SOURCES.put(key, source);
+  }
+
+  /** Tags one of the private EntityLivingBase data keys; logs and leaves it as "other" if it cannot be read **/
+  private static void registerLivingMetadata(final String srgName, final Source source) {
+    try {
+      final DataParameter<?> key = ObfuscationReflectionHelper.getPrivateValue(EntityLivingBase.class, null, srgName);
+      registerMetadata(key, source);
+    } catch (final RuntimeException e) {
+      ExtraGolems.LOGGER.warn("Could not read EntityLivingBase.%s; '%s' will be counted as metadata: other", srgName,
+          source.label);
+    }
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(final boolean enable) {
+    enabled = enable;
+  }
+
+  public static void reset() {
+    BY_PLAYER.clear();
+    TOTAL.clear();
+    windowStartNanos = System.nanoTime();
+  }
+
+  public static Map<UUID, PlayerStats> getStats() {
+    return BY_PLAYER;
+  }
+
+  public static PlayerStats getTotal() {
+    return TOTAL;
+  }
+
+  public static long getWindowStartNanos() {
+    return windowStartNanos;
+  }
+
+  /** Call when a golem data value changes on the server; it is sent to every tracking player **/
+  public static void metadata(final Entity golem, final DataParameter<?> key) {
+    if (!enabled || golem.world.isRemote) {
+      return;
+    }
+    final Source source = METADATA_SOURCES.getOrDefault(key, Source.METADATA_OTHER);
+    // packet id, entity id, then index, type and value of the entry and the end marker
+    final int bytes = 1 + varIntSize(golem.getEntityId()) + 2 + valueSize(golem.getDataManager().get(key)) + 1;
+    toTrackers(golem, source, bytes);
+  }
+
+  /** Call for sounds played at a golem; they reach every player in the dimension within range **/
+  public static void sound(final Entity golem, final float volume) {
+    if (!enabled || golem.world.isRemote) {
+      return;
+    }
+    final double range = volume > 1.0F ? 16.0D * volume : 16.0D;
+    for (final EntityPlayer player : golem.world.playerEntities) {
+      if (player.getDistanceSq(golem.posX, golem.posY, golem.posZ) < range * range) {
+        add(player, Source.SOUND, SOUND_BYTES);
+      }
+    }
+  }
+
+  public static void blockChange(final World world, final BlockPos pos) {
+    if (!enabled || world.isRemote || !(world instanceof WorldServer)) {
+      return;
+    }
+    final int chunkX = pos.getX() >> 4;
+    final int chunkZ = pos.getZ() >> 4;
+    for (final EntityPlayer player : world.playerEntities) {
+      if (player instanceof EntityPlayerMP && ((WorldServer) world).getPlayerChunkMap()
+          .isPlayerWatchingChunk((EntityPlayerMP) player, chunkX, chunkZ)) {
+        add(player, Source.BLOCK_CHANGE, BLOCK_CHANGE_BYTES);
+      }
+    }
+  }
+
+  private static void toTrackers(final Entity golem, final Source source, final int bytes) {
+    if (golem.world instanceof WorldServer) {
+      for (final EntityPlayer player : ((WorldServer) golem.world).getEntityTracker().getTrackingPlayers(golem)) {
+        add(player, source, bytes);
+      }
+    }
+  }
+
+  private static void add(final EntityPlayer player, final Source source, final int bytes) {
+    PlayerStats stats = BY_PLAYER.get(player.getUniqueID());
+    if (stats == null) {
+      stats = new PlayerStats(player.getName());
+      BY_PLAYER.put(player.getUniqueID(), stats);
+    }
+    stats.add(source, bytes);
+    TOTAL.add(source, bytes);
+  }
+
+  private static int varIntSize(final int value) {
+    int size = 1;
+    for (int v = value >>> 7; v != 0; v >>>= 7) {
+      size++;
+    }
+    return size;
+  }
+
+  private static int valueSize(final Object value) {
+    if (value instanceof Boolean || value instanceof Byte) {
+      return 1;
+    } else if (value instanceof Integer) {
+      return varIntSize((Integer) value);
+    } else if (value instanceof Float) {
+      return 4;
+    }
+    return 8;
+  }
+
+  public static final class PlayerStats {
+    public final String name;
+    private final long[] bytes = new long[Source.values().length];
+    private final long[] packets = new long[Source.values().length];
+    private long totalBytes;
+
+    private PlayerStats(final String nameIn) {
+      this.name = nameIn;
+    }
+
+    private void add(final Source source, final int size) {
+      bytes[source.ordinal()] += size;
+      packets[source.ordinal()]++;
+      totalBytes += size;
+    }
+
+    private void clear() {
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = 0L;
+        packets[i] = 0L;
+      }
+      totalBytes = 0L;
+    }
+
+    public long getBytes(final Source source) {
+      return bytes[source.ordinal()];
+    }
+
+    public long getPackets(final Source source) {
+      return packets[source.ordinal()];
+    }
+
+    public long getTotalBytes() {
+      return totalBytes;
+    }
+
+    public Source getTopSource() {
+      Source top = Source.values()[0];
+      for (final Source s : Source.values()) {
+        if (bytes[s.ordinal()] > bytes[top.ordinal()]) {
+          top = s;
+        }
+      }
+      return top;
+    }
+  }
+}
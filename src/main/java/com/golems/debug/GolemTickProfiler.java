@@ -0,0 +1,150 @@
+package com.golems.debug;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+/**
+ * Always-on, low overhead tick profiler for golems. Server-side golem code
+ * brackets its work with {@link #start()} and {@link #stop(GolemBase, Section, long)},
+ * and the times are added up per dimension and golem class until the next
+ * {@link #reset(int)}. Only server-side work is recorded, so everything here
+ * is touched from the server thread alone.
+ * <br>
+ * Sections nest: {@link Section#UPDATE} is the whole entity update, which
+ * includes the {@link Section#AI} and {@link Section#SPECIAL} time of that
+ * tick. Update times also go into a log2 histogram for percentiles.
+ **/
+public final class GolemTickProfiler {
+
+  public enum Section {
+    /** The whole entity update, including onLivingUpdate **/
+    UPDATE,
+    /** Our AI tasks: utility blocks, random block placement, furnace fuel **/
+    AI,
+    /** Special abilities run from onLivingUpdate: freezing, soaking, crop boosting, melting **/
+    SPECIAL
+  }
+
+  /** Histogram bucket {@code b} holds times in {@code [2^b, 2^(b+1))} ns; 40 buckets reach about 18 minutes **/
+  public static final int BUCKETS = 40;
+
+  private static final TIntObjectMap<Map<Class<? extends GolemBase>, ClassStats>> BY_DIMENSION = new TIntObjectHashMap<>();
+  private static int windowStartTick;
+  private static long windowStartNanos = System.nanoTime();
+
+  private GolemTickProfiler() {
+    //
+  }
+
+  /** @return a start time for {@link #stop(GolemBase, Section, long)}, or 0 if profiling is off **/
+  public static long start() {
+    return Config.enableTickProfiler() ? System.nanoTime() : 0L;
+  }
+
+  /** Adds the time since {@code start} to the golem's class and dimension **/
+  public static void stop(final GolemBase golem, final Section section, final long start) {
+    if (start == 0L || golem.world.isRemote) {
+      return;
+    }
+    final long elapsed = System.nanoTime() - start;
+    getStats(golem.world.provider.getDimension(), golem.getClass()).add(section, elapsed);
+  }
+
+  private static ClassStats getStats(final int dimension, final Class<? extends GolemBase> clazz) {
+    Map<Class<? extends GolemBase>, ClassStats> map = BY_DIMENSION.get(dimension);
+    if (map == null) {
+      map = new HashMap<>();
+      BY_DIMENSION.put(dimension, map);
+    }
+    ClassStats stats = map.get(clazz);
+    if (stats == null) {
+      stats = new ClassStats(clazz);
+      map.put(clazz, stats);
+    }
+    return stats;
+  }
+
+  /** Clears every recorded time and starts a new window at the given server tick **/
+  public static void reset(final int serverTick) {
+    BY_DIMENSION.clear();
+    windowStartTick = serverTick;
+    windowStartNanos = System.nanoTime();
+  }
+
+  /** @return recorded stats per dimension. Do not modify **/
+  public static TIntObjectMap<Map<Class<? extends GolemBase>, ClassStats>> getStats() {
+    return BY_DIMENSION;
+  }
+
+  public static int getWindowStartTick() {
+    return windowStartTick;
+  }
+
+  public static long getWindowStartNanos() {
+    return windowStartNanos;
+  }
+
+  public static final class ClassStats {
+    public final Class<? extends GolemBase> golemClass;
+    private final long[] nanos = new long[Section.values().length];
+    private final long[] calls = new long[Section.values().length];
+    private final long[] histogram = new long[BUCKETS];
+    private long maxUpdate;
+
+    private ClassStats(final Class<? extends GolemBase> clazz) {
+      this.golemClass = clazz;
+    }
+
+    private void add(final Section section, final long elapsed) {
+      nanos[section.ordinal()] += elapsed;
+      calls[section.ordinal()]++;
+      if (section == Section.UPDATE) {
+        final int bucket = elapsed <= 0L ? 0 : 63 - Long.numberOfLeadingZeros(elapsed);
+        histogram[Math.min(bucket, BUCKETS - 1)]++;
+        maxUpdate = Math.max(maxUpdate, elapsed);
+      }
+    }
+
+    public long getNanos(final Section section) {
+      return nanos[section.ordinal()];
+    }
+
+    public long getCalls(final Section section) {
+      return calls[section.ordinal()];
+    }
+
+    /** @return mean update time per golem per tick, in nanoseconds **/
+    public double getMeanUpdate() {
+      final long n = calls[Section.UPDATE.ordinal()];
+      return n == 0L ? 0.0D : (double) nanos[Section.UPDATE.ordinal()] / n;
+    }
+
+    public long getMaxUpdate() {
+      return maxUpdate;
+    }
+
+    /**
+     * @param p the percentile in (0, 1]
+     * @return the upper bound (exclusive, in ns) of the histogram bucket that
+     *         holds the given percentile of update times
+     **/
+    public long getUpdatePercentileBound(final double p) {
+      final long total = calls[Section.UPDATE.ordinal()];
+      final long target = (long) Math.ceil(total * p);
+      long seen = 0L;
+      for (int b = 0; b < BUCKETS; b++) {
+        seen += histogram[b];
+        if (seen >= target && seen > 0L) {
+          return 1L << (b + 1);
+        }
+      }
+      return 0L;
+    }
+  }
+}
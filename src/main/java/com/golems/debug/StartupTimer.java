@@ -0,0 +1,72 @@
+package com.golems.debug;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.golems.main.ExtraGolems;
+
+/**
+ * Records wall time for each phase of mod startup (config loading, registry
+ * events, model registration, ...) and logs a one-line breakdown naming the
+ * slowest phase once {@link #report()} is called at the end of init.
+ * Phases that finish after the report (for example classes that are only
+ * loaded once a world is running) are logged on their own.
+ **/
+public final class StartupTimer {
+
+  /** Phase name to total nanoseconds, in the order phases first finished **/
+  private static final Map<String, Long> PHASES = new LinkedHashMap<>();
+  private static boolean reported;
+
+  private StartupTimer() {
+    //
+  }
+
+  /** @return a start time to pass to {@link #stop(String, long)} **/
+  public static long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Adds the time since {@code start} to the given phase. Calling this more
+   * than once for the same phase adds up the times.
+   **/
+  public static synchronized void stop(final String phase, final long start) {
+    final long elapsed = System.nanoTime() - start;
+    PHASES.merge(phase, elapsed, Long::sum);
+    if (reported) {
+      ExtraGolems.LOGGER.info("Startup phase '%s' ran after init and took %.2f ms", phase, elapsed / 1.0E6D);
+    }
+  }
+
+  /** @return a copy of the recorded phases, in nanoseconds **/
+  public static synchronized Map<String, Long> getPhases() {
+    return new LinkedHashMap<>(PHASES);
+  }
+
+  /** Logs every phase recorded so far, their total, and the slowest one **/
+  public static synchronized void report() {
+    reported = true;
+    if (PHASES.isEmpty()) {
+      return;
+    }
+    long total = 0L;
+    String slowest = null;
+    long slowestTime = -1L;
+    final StringBuilder builder = new StringBuilder();
+    for (final Map.Entry<String, Long> e : PHASES.entrySet()) {
+      total += e.getValue();
+      if (e.getValue() > slowestTime) {
+        slowestTime = e.getValue();
+        slowest = e.getKey();
+      }
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(e.getKey()).append('=').append(String.format("%.2fms", e.getValue() / 1.0E6D));
+    }
+    ExtraGolems.LOGGER.info("Startup took %.2f ms over %d phases: %s", total / 1.0E6D, PHASES.size(), builder);
+    ExtraGolems.LOGGER.info("Slowest startup phase: %s (%.2f ms, %.0f%% of total)", slowest, slowestTime / 1.0E6D,
+        total > 0 ? slowestTime * 100.0D / total : 0.0D);
+  }
+}
@@ -0,0 +1,249 @@
+package com.golems.debug.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The Flight Recorder event types for golem hot paths. This is the only class
+ * that touches {@code jdk.jfr}; go through
+ * {@link com.golems.debug.GolemFlightRecorder}, which only loads it on JVMs
+ * that have the Flight Recorder API.
+ * <br>
+ * Each {@code beginX} method returns an event that is already timing, or
+ * null if no recording has that event type enabled, so that disabled types
+ * allocate nothing. The matching method ends it and, if it passes the
+ * recording's settings (such as a threshold), fills in the fields and commits
+ * it. The event's own start time and duration cover the work in between.
+ * Events are passed around as {@code Object} so that callers never load a
+ * {@code jdk.jfr} type.
+ **/
+public final class GolemJfrEvents {
+
+  private static final EventType FREEZE_PASS = EventType.getEventType(FreezePass.class);
+  private static final EventType SOAK_PASS = EventType.getEventType(SoakPass.class);
+  private static final EventType UTILITY_BLOCK = EventType.getEventType(UtilityBlock.class);
+  private static final EventType GOLEM_BUILT = EventType.getEventType(GolemBuilt.class);
+  private static final EventType TNT_EXPLOSION = EventType.getEventType(TntExplosion.class);
+  private static final EventType END_TELEPORT = EventType.getEventType(EndTeleport.class);
+  private static final EventType VILLAGE_SPAWN = EventType.getEventType(VillageSpawn.class);
+
+  private GolemJfrEvents() {
+    //
+  }
+
+  /** Loads this class, which registers the event types **/
+  public static void init() {
+    //
+  }
+
+  private static Event begin(final Event e) {
+    e.begin();
+    return e;
+  }
+
+  public static Object beginFreezePass() {
+    return FREEZE_PASS.isEnabled() ? begin(new FreezePass()) : null;
+  }
+
+  public static void freezePass(final Object event, final Class<?> golem, final int radius, final int blocks) {
+    final FreezePass e = (FreezePass) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.radius = radius;
+      e.blocks = blocks;
+      e.commit();
+    }
+  }
+
+  public static Object beginSoakPass() {
+    return SOAK_PASS.isEnabled() ? begin(new SoakPass()) : null;
+  }
+
+  public static void soakPass(final Object event, final Class<?> golem, final int radius, final int blocks) {
+    final SoakPass e = (SoakPass) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.radius = radius;
+      e.blocks = blocks;
+      e.commit();
+    }
+  }
+
+  public static Object beginUtilityBlock() {
+    return UTILITY_BLOCK.isEnabled() ? begin(new UtilityBlock()) : null;
+  }
+
+  public static void utilityBlock(final Object event, final Class<?> golem, final String block,
+      final boolean placed) {
+    final UtilityBlock e = (UtilityBlock) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.block = block;
+      e.placed = placed;
+      e.commit();
+    }
+  }
+
+  public static Object beginGolemBuilt() {
+    return GOLEM_BUILT.isEnabled() ? begin(new GolemBuilt()) : null;
+  }
+
+  public static void golemBuilt(final Object event, final Class<?> golem, final int blocksRemoved) {
+    final GolemBuilt e = (GolemBuilt) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.blocks = blocksRemoved;
+      e.commit();
+    }
+  }
+
+  public static Object beginTntExplosion() {
+    return TNT_EXPLOSION.isEnabled() ? begin(new TntExplosion()) : null;
+  }
+
+  public static void tntExplosion(final Object event, final Class<?> golem, final float radius,
+      final boolean griefing) {
+    final TntExplosion e = (TntExplosion) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.radius = radius;
+      e.griefing = griefing;
+      e.commit();
+    }
+  }
+
+  public static Object beginEndTeleport() {
+    return END_TELEPORT.isEnabled() ? begin(new EndTeleport()) : null;
+  }
+
+  public static void endTeleport(final Object event, final Class<?> golem, final double distance,
+      final boolean success) {
+    final EndTeleport e = (EndTeleport) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.distance = distance;
+      e.success = success;
+      e.commit();
+    }
+  }
+
+  public static Object beginVillageSpawn() {
+    return VILLAGE_SPAWN.isEnabled() ? begin(new VillageSpawn()) : null;
+  }
+
+  public static void villageSpawn(final Object event, final Class<?> golem, final int chunkX, final int chunkZ,
+      final boolean spawned) {
+    final VillageSpawn e = (VillageSpawn) event;
+    e.end();
+    if (e.shouldCommit()) {
+      e.golemClass = golem;
+      e.chunkX = chunkX;
+      e.chunkZ = chunkZ;
+      e.spawned = spawned;
+      e.commit();
+    }
+  }
+
+  @Name("com.golems.FreezePass")
+  @Label("Golem Freeze Pass")
+  @Category({ "Extra Golems" })
+  @Description("An Ice Golem freezing the blocks around it")
+  static final class FreezePass extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Radius")
+    int radius;
+    @Label("Blocks Affected")
+    int blocks;
+  }
+
+  @Name("com.golems.SoakPass")
+  @Label("Golem Soak Pass")
+  @Category({ "Extra Golems" })
+  @Description("A Sponge Golem removing the water around it")
+  static final class SoakPass extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Radius")
+    int radius;
+    @Label("Blocks Affected")
+    int blocks;
+  }
+
+  @Name("com.golems.UtilityBlock")
+  @Label("Golem Utility Block")
+  @Category({ "Extra Golems" })
+  @Description("A light or power utility block placed by a golem, or removed after the golem left")
+  static final class UtilityBlock extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Block")
+    String block;
+    @Label("Placed")
+    @Description("True for placement, false for removal")
+    boolean placed;
+  }
+
+  @Name("com.golems.GolemBuilt")
+  @Label("Golem Built")
+  @Category({ "Extra Golems" })
+  @Description("A golem built from blocks and a golem head")
+  static final class GolemBuilt extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Blocks Removed")
+    int blocks;
+  }
+
+  @Name("com.golems.TntExplosion")
+  @Label("Golem Explosion")
+  @Category({ "Extra Golems" })
+  @Description("A TNT Golem exploding")
+  static final class TntExplosion extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Radius")
+    float radius;
+    @Label("Mob Griefing")
+    boolean griefing;
+  }
+
+  @Name("com.golems.EndTeleport")
+  @Label("Golem Teleport Attempt")
+  @Category({ "Extra Golems" })
+  @Description("An Endstone Golem trying to teleport")
+  static final class EndTeleport extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Distance")
+    double distance;
+    @Label("Success")
+    boolean success;
+  }
+
+  @Name("com.golems.VillageSpawn")
+  @Label("Village Golem Spawn")
+  @Category({ "Extra Golems" })
+  @Description("A golem spawned while a village chunk was populated")
+  static final class VillageSpawn extends Event {
+    @Label("Golem Class")
+    Class<?> golemClass;
+    @Label("Chunk X")
+    int chunkX;
+    @Label("Chunk Z")
+    int chunkZ;
+    @Label("Spawned")
+    @Description("False if no safe spawn position was found")
+    boolean spawned;
+  }
+}
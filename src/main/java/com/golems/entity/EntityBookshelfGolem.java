@@ -1,28 +1,27 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
 public final class EntityBookshelfGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Potion Effects";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
   private static final Potion[] goodEffects = { MobEffects.FIRE_RESISTANCE, MobEffects.REGENERATION,
       MobEffects.STRENGTH, MobEffects.ABSORPTION, MobEffects.LUCK, MobEffects.INSTANT_HEALTH, MobEffects.RESISTANCE,
       MobEffects.INVISIBILITY, MobEffects.SPEED, MobEffects.JUMP_BOOST };
@@ -31,8 +30,6 @@ public final class EntityBookshelfGolem extends GolemBase {
     super(world);
     this.setLootTableLoc(GolemNames.BOOKSHELF_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.29D);
-    this.addHealItem(new ItemStack(Items.BOOK), 0.25D);
-    this.addHealItem(new ItemStack(Blocks.PLANKS, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
   }
 
   protected ResourceLocation applyTexture() {
@@ -48,7 +45,7 @@ public final class EntityBookshelfGolem extends GolemBase {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     GolemConfigSet cfg = getConfig(this);
-    if (cfg.getBoolean(ALLOW_SPECIAL) && this.getActivePotionEffects().isEmpty() && rand.nextInt(40) == 0) {
+    if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && this.getActivePotionEffects().isEmpty() && rand.nextInt(40) == 0) {
       final Potion potion = goodEffects[rand.nextInt(goodEffects.length)];
       final int len = potion.isInstant() ? 1 : 200 + 100 * (1 + rand.nextInt(5));
       this.addPotionEffect(new PotionEffect(potion, len, rand.nextInt(2)));
@@ -62,7 +59,7 @@ public final class EntityBookshelfGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityBookshelfGolem.ALLOW_SPECIAL))
+    if (getConfig(this).getBoolean(EntityBookshelfGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.LIGHT_PURPLE + trans("entitytip.grants_self_potion_effects"));
     return list;
   }
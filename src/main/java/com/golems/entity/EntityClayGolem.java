@@ -3,9 +3,7 @@ package com.golems.entity;
 import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
@@ -15,7 +13,6 @@ public final class EntityClayGolem extends GolemBase {
   public EntityClayGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.CLAY_GOLEM);
-    this.addHealItem(new ItemStack(Items.CLAY_BALL), 0.25D);
   }
 
   @Override
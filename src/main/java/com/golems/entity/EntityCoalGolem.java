@@ -1,34 +1,33 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
 public final class EntityCoalGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Blindness";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
 
   public EntityCoalGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.COAL_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
-    this.addHealItem(new ItemStack(Items.COAL, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
   }
 
   @Override
@@ -44,7 +43,8 @@ public final class EntityCoalGolem extends GolemBase {
     if (super.attackEntityAsMob(entity)) {
       final int BLIND_CHANCE = 4;
       GolemConfigSet cfg = getConfig(this);
-      if (cfg.getBoolean(ALLOW_SPECIAL) && entity instanceof EntityLivingBase && this.rand.nextInt(BLIND_CHANCE) == 0) {
+      if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && entity instanceof EntityLivingBase
+          && this.rand.nextInt(BLIND_CHANCE) == 0) {
         ((EntityLivingBase) entity)
             .addPotionEffect(new PotionEffect(MobEffects.BLINDNESS, 20 * (3 + rand.nextInt(5)), 0));
       }
@@ -74,7 +74,7 @@ public final class EntityCoalGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityCoalGolem.ALLOW_SPECIAL))
+    if (getConfig(this).getBoolean(EntityCoalGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.GRAY + trans("entitytip.blinds_creatures"));
     return list;
   }
@@ -4,15 +4,12 @@ import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemDye;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
@@ -27,7 +24,6 @@ public final class EntityCobblestoneGolem extends GolemColorizedMultiTextured {
 
   public EntityCobblestoneGolem(final World world) {
     super(world, TEXTURE_BASE, TEXTURE_OVERLAY, COLOR_ARRAY);
-    this.addHealItem(new ItemStack(Blocks.COBBLESTONE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.22D);
   }
 
@@ -1,25 +1,25 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemNames;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemDye;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
 public final class EntityConcreteGolem extends GolemColorizedMultiTextured {
 
   public static final String ALLOW_RESIST = "Allow Special: Resistance";
+  public static final BooleanKey ALLOW_RESIST_KEY = GolemConfigKey.booleanKey(ALLOW_RESIST);
   public static final String PREFIX = "concrete";
   public static final int[] COLOR_ARRAY = ItemDye.DYE_COLORS;
 
@@ -30,7 +30,6 @@ public final class EntityConcreteGolem extends GolemColorizedMultiTextured {
 
   public EntityConcreteGolem(final World world) {
     super(world, TEXTURE_BASE, TEXTURE_OVERLAY, COLOR_ARRAY);
-    this.addHealItem(new ItemStack(Blocks.CONCRETE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -41,23 +40,25 @@ public final class EntityConcreteGolem extends GolemColorizedMultiTextured {
 
   @Override
   protected void damageEntity(DamageSource source, float amount) {
-    if (getConfig(this).getBoolean(ALLOW_RESIST)) {
+    if (getConfig(this).getBoolean(ALLOW_RESIST_KEY)) {
       amount *= 3.0F / 5.0F;
     }
     super.damageEntity(source, amount);
   }
 
-  @Override
-  public void onBuilt(IBlockState body, IBlockState legs, IBlockState arm1, IBlockState arm2) {
-    // use block metadata to give this golem the right texture (defaults to last
-    // item in color array)
-    final int meta = body.getBlock().getMetaFromState(body) % this.getColorArray().length;
-    this.setTextureNum((byte) (this.getColorArray().length - meta - 1));
+  /**
+   * Registered with {@link com.golems.util.GolemLookup#addVariants}: use block
+   * metadata to give this golem the right texture (the color array is in
+   * reverse order of metadata)
+   **/
+  public static int getVariant(final IBlockState state) {
+    final int meta = state.getBlock().getMetaFromState(state) % COLOR_ARRAY.length;
+    return COLOR_ARRAY.length - meta - 1;
   }
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(ALLOW_RESIST)) {
+    if (getConfig(this).getBoolean(ALLOW_RESIST_KEY)) {
       String sResist = TextFormatting.DARK_GRAY + trans("effect.resistance");
       list.add(sResist);
     }
@@ -4,13 +4,13 @@ import java.util.List;
 
 import com.golems.blocks.ContainerPortableWorkbench;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
-import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.inventory.Container;
 import net.minecraft.item.ItemStack;
@@ -21,17 +21,16 @@ import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public final class EntityCraftingGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Crafting";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
 
   public EntityCraftingGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.CRAFTING_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.29D);
-    this.addHealItem(new ItemStack(Blocks.PLANKS, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
   }
 
   @Override
@@ -59,7 +58,7 @@ public final class EntityCraftingGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.BLUE + trans("entitytip.click_open_crafting"));
     }
     return list;
@@ -4,9 +4,7 @@ import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
@@ -17,7 +15,6 @@ public final class EntityDiamondGolem extends GolemBase {
     super(world);
     this.setLootTableLoc(GolemNames.DIAMOND_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
-    this.addHealItem(new ItemStack(Items.DIAMOND), 0.25D);
   }
 
   @Override
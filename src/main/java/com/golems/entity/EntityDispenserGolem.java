@@ -5,7 +5,10 @@ import java.util.List;
 import com.golems.container.ContainerDispenserGolem;
 import com.golems.gui.GuiLoader;
 import com.golems.main.ExtraGolems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.FloatKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 import com.google.common.base.Predicate;
 
@@ -43,6 +46,9 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
   public static final String ALLOW_SPECIAL = "Allow Special: Shoot Arrows";
   public static final String ARROW_DAMAGE = "Arrow Damage";
   public static final String ARROW_SPEED = "Arrow Speed";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final FloatKey ARROW_DAMAGE_KEY = GolemConfigKey.floatKey(ARROW_DAMAGE);
+  public static final IntKey ARROW_SPEED_KEY = GolemConfigKey.intKey(ARROW_SPEED);
 
   private static final String KEY_INVENTORY = "Items";
   private static final String KEY_SLOT = "Slot";
@@ -54,9 +60,6 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
     }
   };
 
-  private boolean allowArrows;
-  private double arrowDamage;
-  private int arrowSpeed;
   private InventoryBasic inventory;
 
   private final EntityAIAttackRanged aiArrowAttack;
@@ -65,14 +68,9 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
   public EntityDispenserGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.DISPENSER_GOLEM);
-    this.addHealItem(new ItemStack(Blocks.COBBLESTONE), 0.25D);
     // set config values
-    final GolemConfigSet cfg = getConfig(this);
-    this.allowArrows = cfg.getBoolean(ALLOW_SPECIAL);
-    this.arrowDamage = Math.max(0D, cfg.getFloat(ARROW_DAMAGE));
-    this.arrowSpeed = cfg.getInt(ARROW_SPEED);
-    // init combat AI
-    aiArrowAttack = new EntityAIAttackRanged(this, 1.0D, arrowSpeed, 32.0F);
+    // init combat AI; the vanilla ranged AI keeps its interval, so a reload does not change arrow speed
+    aiArrowAttack = new EntityAIAttackRanged(this, 1.0D, getConfig(this).getInt(ARROW_SPEED_KEY), 32.0F);
     aiMeleeAttack = new EntityAIAttackMelee(this, 1.0D, true);
     // init inventory
     this.initInventory();
@@ -107,7 +105,7 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
     super.onLivingUpdate();
     // update combat style every few seconds
     if (this.ticksExisted % 50 == 0) {
-      final boolean forceMelee = !allowArrows
+      final boolean forceMelee = !getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)
           || (this.getAttackTarget() != null && this.getAttackTarget().getDistanceSq(this) < 3.5D);
       this.updateCombatTask(forceMelee);
     }
@@ -289,7 +287,7 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
       double d1 = target.getEntityBoundingBox().minY + (target.height / 3.0D) - arrow.posY;
       double d2 = target.posZ - this.posZ;
       double d3 = (double) MathHelper.sqrt(d0 * d0 + d2 * d2);
-      arrow.setDamage(arrowDamage + rand.nextDouble() * 0.5D);
+      arrow.setDamage(Math.max(0D, getConfig(this).getFloat(ARROW_DAMAGE_KEY)) + rand.nextDouble() * 0.5D);
       arrow.pickupStatus = PickupStatus.ALLOWED;
       arrow.shoot(d0, d1 + d3 * 0.2D, d2, 1.6F, 1.2F);
       // play sound and add arrow to world
@@ -307,7 +305,7 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
   }
 
   public void updateCombatTask() {
-    updateCombatTask(!allowArrows);
+    updateCombatTask(!getConfig(this).getBoolean(ALLOW_SPECIAL_KEY));
   }
 
   public void updateCombatTask(final boolean forceMelee) {
@@ -337,7 +335,7 @@ public final class EntityDispenserGolem extends GolemBase implements IRangedAtta
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.LIGHT_PURPLE + trans("entitytip.shoots_arrows"));
       // final int arrowCount = countArrows(this.inventory);
       // if(arrowCount > 0) {
@@ -1,7 +1,11 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemEventStats;
+import com.golems.debug.GolemFlightRecorder;
 import com.golems.events.EndGolemTeleportEvent;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
@@ -15,7 +19,6 @@ import net.minecraft.util.*;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.common.MinecraftForge;
 
 import java.util.List;
 
@@ -23,6 +26,8 @@ public class EntityEndstoneGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Teleporting";
   public static final String ALLOW_WATER_HURT = "Can Take Water Damage";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final BooleanKey ALLOW_WATER_HURT_KEY = GolemConfigKey.booleanKey(ALLOW_WATER_HURT);
 
   /**
    * countdown timer for next teleport.
@@ -34,6 +39,8 @@ public class EntityEndstoneGolem extends GolemBase {
   protected boolean allowTeleport;
   protected boolean isHurtByWater;
   protected boolean hasAmbientParticles;
+  /** True when built by the default constructor, so allowTeleport and isHurtByWater follow the config. **/
+  private boolean followsConfig;
 
   protected int ticksBetweenIdleTeleports;
   /** Percent chance to teleport away when hurt by non-projectile. **/
@@ -47,8 +54,9 @@ public class EntityEndstoneGolem extends GolemBase {
     this(world, 32.0D, true);
     GolemConfigSet cfg = getConfig(this);
     this.setLootTableLoc(GolemNames.ENDSTONE_GOLEM);
-    this.isHurtByWater = cfg.getBoolean(ALLOW_WATER_HURT);
-    this.allowTeleport = cfg.getBoolean(ALLOW_SPECIAL);
+    this.isHurtByWater = cfg.getBoolean(ALLOW_WATER_HURT_KEY);
+    this.allowTeleport = cfg.getBoolean(ALLOW_SPECIAL_KEY);
+    this.followsConfig = true;
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -130,7 +138,7 @@ public class EntityEndstoneGolem extends GolemBase {
       // if it's something else, golem MIGHT teleport away
       // if it passes a random chance OR has no attack target
       if (rand.nextInt(this.chanceToTeleportWhenHurt) == 0 || (this.getRevengeTarget() == null && rand.nextBoolean())
-          || (this.isHurtByWater && src == DamageSource.DROWN)) {
+          || (src == DamageSource.DROWN && this.takesWaterDamage())) {
         // attempt teleport
         for (int i = 0; i < 16; ++i) {
           if (this.teleportRandomly()) {
@@ -142,6 +150,16 @@ public class EntityEndstoneGolem extends GolemBase {
     return super.attackEntityFrom(src, amnt);
   }
 
+  /** @return whether this golem may teleport, read from the config unless a subclass set it **/
+  protected boolean canTeleport() {
+    return this.followsConfig ? getConfig(this).getBoolean(ALLOW_SPECIAL_KEY) : this.allowTeleport;
+  }
+
+  /** @return whether water hurts this golem, read from the config unless a subclass set it **/
+  protected boolean takesWaterDamage() {
+    return this.followsConfig ? getConfig(this).getBoolean(ALLOW_WATER_HURT_KEY) : this.isHurtByWater;
+  }
+
   protected boolean teleportRandomly() {
     final double d0 = this.posX + (this.rand.nextDouble() - 0.5D) * range;
     final double d1 = this.posY + (this.rand.nextDouble() - 0.5D) * range * 0.5D;
@@ -168,11 +186,18 @@ public class EntityEndstoneGolem extends GolemBase {
    * Teleport the golem.
    **/
   protected boolean teleportTo(final double x, final double y, final double z) {
+    final Object jfrEvent = GolemFlightRecorder.beginEndTeleport();
+    GolemEventStats.beginConstruct(this.world);
     final EndGolemTeleportEvent event = new EndGolemTeleportEvent(this, x, y, z, 0);
-    if (!this.allowTeleport || MinecraftForge.EVENT_BUS.post(event)) {
+    GolemEventStats.endConstruct(this.world, EndGolemTeleportEvent.class);
+    if (!this.canTeleport() || GolemEventStats.post(this.world, event)) {
+      GolemFlightRecorder.endTeleport(jfrEvent, this, 0.0D, false);
       return false;
     }
+    final double distance = jfrEvent != null
+        ? this.getDistance(event.getTargetX(), event.getTargetY(), event.getTargetZ()) : 0.0D;
     final boolean flag = this.attemptTeleport(event.getTargetX(), event.getTargetY(), event.getTargetZ());
+    GolemFlightRecorder.endTeleport(jfrEvent, this, distance, flag);
 
     if (flag) {
       this.world.playSound((EntityPlayer) null, this.prevPosX, this.prevPosY, this.prevPosZ,
@@ -191,7 +216,8 @@ public class EntityEndstoneGolem extends GolemBase {
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
     // this will only fire for the Endstone Golem, not child classes
-    if (this.getClass() == EntityEndstoneGolem.class && getConfig(this).getBoolean(EntityEndstoneGolem.ALLOW_SPECIAL)) {
+    if (this.getClass() == EntityEndstoneGolem.class
+        && getConfig(this).getBoolean(EntityEndstoneGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.DARK_AQUA + trans("entitytip.can_teleport"));
     }
     return list;
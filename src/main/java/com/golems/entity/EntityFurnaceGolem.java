@@ -2,8 +2,13 @@ package com.golems.entity;
 
 import java.util.List;
 
+import com.golems.debug.GolemNetworkStats;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.items.ItemBedrockGolem;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.client.gui.GuiScreen;
@@ -13,7 +18,6 @@ import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.entity.ai.EntityAITempt;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
@@ -35,20 +39,23 @@ public final class EntityFurnaceGolem extends GolemBase {
 
   private static final DataParameter<Integer> FUEL = EntityDataManager.createKey(EntityFurnaceGolem.class,
       DataSerializers.VARINT);
+  static {
+    GolemNetworkStats.registerMetadata(FUEL, GolemNetworkStats.Source.METADATA_FUEL);
+  }
   private static final String KEY_FUEL = "FuelRemaining";
 
   private static final ResourceLocation LIT = makeTexture(ExtraGolems.MODID, GolemNames.FURNACE_GOLEM + "_lit");
   private static final ResourceLocation UNLIT = makeTexture(ExtraGolems.MODID, GolemNames.FURNACE_GOLEM + "_unlit");
 
   public static final String FUEL_FACTOR = "Burn Time";
+  public static final IntKey FUEL_FACTOR_KEY = GolemConfigKey.intKey(FUEL_FACTOR);
   public static final int MAX_FUEL = 102400;
+  /** The burn time when this golem was built; {@link #getFuelBurnFactor()} follows the config. **/
   public final int fuelBurnFactor;
 
   public EntityFurnaceGolem(final World world) {
     super(world);
-    fuelBurnFactor = Math.max(1, getConfig(this).getInt(FUEL_FACTOR));
-    this.setImmuneToFire(true);
-    this.addHealItem(new ItemStack(Blocks.COBBLESTONE), 0.25D);
+    fuelBurnFactor = Math.max(1, getConfig(this).getInt(FUEL_FACTOR_KEY));
     this.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).setBaseValue(1.0D);
   }
 
@@ -187,6 +194,11 @@ public final class EntityFurnaceGolem extends GolemBase {
     return this.getDataManager().get(FUEL).intValue();
   }
 
+  /** @return ticks between using one unit of fuel **/
+  public int getFuelBurnFactor() {
+    return Math.max(1, getConfig(this).getInt(FUEL_FACTOR_KEY));
+  }
+
   /** @return a number between 0.0 and 1.0 to indicate fuel level **/
   public float getFuelPercentage() {
     return (float) getFuel() / (float) MAX_FUEL;
@@ -258,7 +270,7 @@ public final class EntityFurnaceGolem extends GolemBase {
     @Override
     public boolean shouldExecute() {
       // only uses fuel every X ticks
-      return golem.isServerWorld() && golem.getFuel() > 0 && golem.ticksExisted % golem.fuelBurnFactor == 0;
+      return golem.isServerWorld() && golem.getFuel() > 0 && golem.ticksExisted % golem.getFuelBurnFactor() == 0;
     }
 
     @Override
@@ -268,7 +280,9 @@ public final class EntityFurnaceGolem extends GolemBase {
 
     @Override
     public void startExecuting() {
+      final long start = GolemTickProfiler.start();
       golem.addFuel(-1);
+      GolemTickProfiler.stop(golem, Section.AI, start);
     }
   }
 
@@ -299,6 +313,7 @@ public final class EntityFurnaceGolem extends GolemBase {
 
     @Override
     public void updateTask() {
+      final long start = GolemTickProfiler.start();
       // freeze the golem and ai tasks
       golem.motionX = 0D;
       golem.motionZ = 0D;
@@ -317,7 +332,7 @@ public final class EntityFurnaceGolem extends GolemBase {
       final double lookZ = golem.getLookVec().z;
       golem.getLookHelper().setLookPosition(lookX, lookY, lookZ, golem.getHorizontalFaceSpeed(),
           golem.getVerticalFaceSpeed());
-
+      GolemTickProfiler.stop(golem, Section.AI, start);
     }
   }
 }
@@ -6,14 +6,14 @@ import com.golems.blocks.BlockUtilityGlow;
 import com.golems.entity.ai.EntityAIUtilityBlock;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
-import com.golems.util.GolemLookup;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
@@ -25,7 +25,10 @@ public final class EntityGlowstoneGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Emit Light";
   public static final String FREQUENCY = "Light Frequency";
-  private boolean allowSpecial;
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
+  /** Fixed permission from the flexible constructor, or null to read it from the config **/
+  private Boolean allowSpecial;
 
   /**
    * Float value between 0.0F and 1.0F that determines light level
@@ -36,14 +39,14 @@ public final class EntityGlowstoneGolem extends GolemBase {
    * Default constructor for EntityGlowstoneGolem
    **/
   public EntityGlowstoneGolem(final World world) {
-    // dangerous ... too expensive to check for non-null in constructor call :(
-    this(world, 1.0F, GolemLookup.getConfig(EntityGlowstoneGolem.class).getInt(FREQUENCY),
-        GolemLookup.getConfig(EntityGlowstoneGolem.class).getBoolean(ALLOW_SPECIAL));
-    this.isImmuneToFire = true;
+    super(world);
+    this.brightness = 1.0F;
+    // read frequency and permission from the config as it is reloaded
+    this.tasks.addTask(9,
+        new EntityAIUtilityBlock(this, getLightState(this.brightness), FREQUENCY_KEY, ALLOW_SPECIAL_KEY));
     this.setCanTakeFallDamage(true);
     this.setCanSwim(true);
     this.setLootTableLoc(GolemNames.GLOWSTONE_GOLEM);
-    this.addHealItem(new ItemStack(Items.GLOWSTONE_DUST), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -53,11 +56,13 @@ public final class EntityGlowstoneGolem extends GolemBase {
   public EntityGlowstoneGolem(final World world, final float lightLevel, final int freq, final boolean allowed) {
     super(world);
     this.allowSpecial = allowed;
-    int lightInt = (int) (lightLevel * 15.0F);
     this.brightness = lightLevel;
-    final IBlockState state = GolemItems.blockLightSource.getDefaultState().withProperty(BlockUtilityGlow.LIGHT_LEVEL,
-        lightInt);
-    this.tasks.addTask(9, new EntityAIUtilityBlock(this, state, freq, allowed));
+    this.tasks.addTask(9, new EntityAIUtilityBlock(this, getLightState(lightLevel), freq, allowed));
+  }
+
+  private static IBlockState getLightState(final float lightLevel) {
+    final int lightInt = (int) (lightLevel * 15.0F);
+    return GolemItems.blockLightSource.getDefaultState().withProperty(BlockUtilityGlow.LIGHT_LEVEL, lightInt);
   }
 
   @Override
@@ -93,7 +98,7 @@ public final class EntityGlowstoneGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (allowSpecial) {
+    if (allowSpecial != null ? allowSpecial : getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.RED + trans("entitytip.lights_area"));
     }
     return list;
@@ -4,9 +4,7 @@ import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
@@ -18,8 +16,6 @@ public final class EntityGoldGolem extends GolemBase {
     this.setLootTableLoc(GolemNames.GOLD_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.19D);
     this.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).setBaseValue(0.9D);
-    this.addHealItem(new ItemStack(Items.GOLD_INGOT), 0.25D);
-    this.addHealItem(new ItemStack(Items.GOLD_NUGGET), 0.025D);
   }
 
   protected ResourceLocation applyTexture() {
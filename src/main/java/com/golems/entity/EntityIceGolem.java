@@ -1,7 +1,17 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemEventStats;
+import com.golems.debug.GolemFlightRecorder;
+import com.golems.debug.GolemMetrics;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.events.IceGolemFreezeEvent;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
@@ -16,7 +26,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 
 import java.util.List;
@@ -27,6 +36,9 @@ public final class EntityIceGolem extends GolemBase {
   public static final String ALLOW_SPECIAL = "Allow Special: Freeze Blocks";
   public static final String CAN_USE_REGULAR_ICE = "Can Use Regular Ice";
   public static final String AOE = "Area of Effect";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final BooleanKey CAN_USE_REGULAR_ICE_KEY = GolemConfigKey.booleanKey(CAN_USE_REGULAR_ICE);
+  public static final IntKey AOE_KEY = GolemConfigKey.intKey(AOE);
 
   public EntityIceGolem(final World world) {
     super(world);
@@ -58,11 +70,18 @@ public final class EntityIceGolem extends GolemBase {
         this.attackEntityFrom(DamageSource.ON_FIRE, 1.0F);
       }
       GolemConfigSet cfg = getConfig(this);
-      if (cfg.getBoolean(ALLOW_SPECIAL)) {
-        final IceGolemFreezeEvent event = new IceGolemFreezeEvent(this, below, cfg.getInt(AOE));
-        if (!MinecraftForge.EVENT_BUS.post(event) && event.getResult() != Result.DENY) {
+      if (cfg.getBoolean(ALLOW_SPECIAL_KEY)) {
+        final long start = GolemTickProfiler.start();
+        final Object jfrEvent = GolemFlightRecorder.beginFreezePass();
+        GolemEventStats.beginConstruct(this.world);
+        final IceGolemFreezeEvent event = new IceGolemFreezeEvent(this, below, cfg.getInt(AOE_KEY));
+        GolemEventStats.endConstruct(this.world, IceGolemFreezeEvent.class);
+        if (!GolemEventStats.post(this.world, event) && event.getResult() != Result.DENY) {
           this.freezeBlocks(event.getAffectedPositions(), event.getFunction(), event.updateFlag);
         }
+        GolemFlightRecorder.freezePass(jfrEvent, this, cfg.getInt(AOE_KEY), event.getAffectedPositions().size());
+        GolemMetrics.special(this);
+        GolemTickProfiler.stop(this, Section.SPECIAL, start);
       }
     }
   }
@@ -104,7 +123,11 @@ public final class EntityIceGolem extends GolemBase {
       final IBlockState currentState = this.world.getBlockState(pos);
       final IBlockState toSet = function.apply(currentState);
       if (toSet != null && toSet != currentState) {
-        flag &= this.world.setBlockState(pos, toSet, updateFlag);
+        if (this.world.setBlockState(pos, toSet, updateFlag)) {
+          GolemBlockWrites.record(this.world, pos, Source.ICE_FREEZE);
+        } else {
+          flag = false;
+        }
       }
     }
     return flag;
@@ -112,7 +135,7 @@ public final class EntityIceGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityIceGolem.ALLOW_SPECIAL))
+    if (getConfig(this).getBoolean(EntityIceGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.AQUA + trans("entitytip.freezes_blocks"));
     return list;
   }
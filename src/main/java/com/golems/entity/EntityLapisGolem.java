@@ -1,17 +1,16 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.EnumDyeColor;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
@@ -24,6 +23,7 @@ import java.util.List;
 public final class EntityLapisGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Potion Effects";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
 
   private static final Potion[] badEffects = { MobEffects.BLINDNESS, MobEffects.SLOWNESS, MobEffects.POISON,
       MobEffects.INSTANT_DAMAGE, MobEffects.WEAKNESS, MobEffects.WITHER, MobEffects.LEVITATION, MobEffects.GLOWING };
@@ -32,7 +32,6 @@ public final class EntityLapisGolem extends GolemBase {
     super(world);
     this.setLootTableLoc(GolemNames.LAPIS_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
-    this.addHealItem(new ItemStack(Items.DYE, 1, EnumDyeColor.BLUE.getDyeDamage()), 0.25D);
   }
 
   @Override
@@ -48,7 +47,7 @@ public final class EntityLapisGolem extends GolemBase {
     if (super.attackEntityAsMob(entityIn) && entityIn instanceof EntityLivingBase) {
       final EntityLivingBase entity = (EntityLivingBase) entityIn;
       final GolemConfigSet cfg = getConfig(this);
-      if (cfg.getBoolean(ALLOW_SPECIAL)) {
+      if (cfg.getBoolean(ALLOW_SPECIAL_KEY)) {
         final Potion potionID = entity.isEntityUndead() ? MobEffects.INSTANT_HEALTH
             : badEffects[rand.nextInt(badEffects.length)];
         final int len = potionID.isInstant() ? 1 : (20 * (5 + rand.nextInt(9)));
@@ -67,7 +66,7 @@ public final class EntityLapisGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityLapisGolem.ALLOW_SPECIAL))
+    if (getConfig(this).getBoolean(EntityLapisGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.LIGHT_PURPLE + trans("entitytip.attacks_use_potion_effects"));
     return list;
   }
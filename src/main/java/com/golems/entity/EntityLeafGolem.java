@@ -1,27 +1,27 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
 public final class EntityLeafGolem extends GolemColorized {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Regeneration";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
 
   private static final ResourceLocation TEXTURE_BASE = GolemBase.makeTexture(ExtraGolems.MODID, GolemNames.LEAF_GOLEM);
   private static final ResourceLocation TEXTURE_OVERLAY = GolemBase.makeTexture(ExtraGolems.MODID,
@@ -31,8 +31,6 @@ public final class EntityLeafGolem extends GolemColorized {
     super(world, 0x5F904A, TEXTURE_BASE, TEXTURE_OVERLAY);
     this.setCanSwim(true);
     this.setLootTableLoc(GolemNames.LEAF_GOLEM);
-    this.addHealItem(new ItemStack(Blocks.LEAVES, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Blocks.LEAVES2, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.31D);
   }
 
@@ -45,7 +43,7 @@ public final class EntityLeafGolem extends GolemColorized {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     GolemConfigSet cfg = getConfig(this);
-    if (cfg.getBoolean(ALLOW_SPECIAL) && this.getActivePotionEffect(MobEffects.REGENERATION) == null
+    if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && this.getActivePotionEffect(MobEffects.REGENERATION) == null
         && rand.nextInt(40) == 0) {
       this.addPotionEffect(new PotionEffect(MobEffects.REGENERATION, 200 + 20 * (1 + rand.nextInt(8)), 1));
     }
@@ -69,7 +67,7 @@ public final class EntityLeafGolem extends GolemColorized {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityLeafGolem.ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(EntityLeafGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.DARK_GREEN + trans("effect.regeneration") + " " + TextFormatting.DARK_GREEN
           + trans("enchantment.level.1"));
     }
@@ -1,6 +1,14 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemMetrics;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
@@ -9,9 +17,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.network.datasync.DataParameter;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
@@ -32,6 +38,11 @@ public final class EntityMagmaGolem extends GolemBase {
   public static final String ALLOW_SPLITTING = "Allow Special: Split";
   public static final String ALLOW_WATER_DAMAGE = "Enable Water Damage";
   public static final String MELT_DELAY = "Melting Delay";
+  public static final BooleanKey ALLOW_FIRE_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_FIRE_SPECIAL);
+  public static final BooleanKey ALLOW_LAVA_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_LAVA_SPECIAL);
+  public static final BooleanKey ALLOW_SPLITTING_KEY = GolemConfigKey.booleanKey(ALLOW_SPLITTING);
+  public static final BooleanKey ALLOW_WATER_DAMAGE_KEY = GolemConfigKey.booleanKey(ALLOW_WATER_DAMAGE);
+  public static final IntKey MELT_DELAY_KEY = GolemConfigKey.intKey(MELT_DELAY);
 
   private static final String TEXTURE_LOC = ExtraGolems.MODID + ":textures/entity/magma/" + GolemNames.MAGMA_GOLEM;
   private static final ResourceLocation[] TEXTURES = new ResourceLocation[] {
@@ -48,26 +59,14 @@ public final class EntityMagmaGolem extends GolemBase {
    * Helpers for "Standing Still" code
    */
   private int stillX, stillZ;
-  /**
-   * Whether this golem is hurt by water
-   */
-  private boolean isHurtByWater = true;
-
-  private boolean allowMelting;
-  private int meltDelay;
-
   public EntityMagmaGolem(final World world, final boolean isChild) {
     super(world);
     this.setChild(isChild);
-    this.isHurtByWater = getConfig(this).getBoolean(ALLOW_WATER_DAMAGE);
-    this.allowMelting = getConfig(this).getBoolean(ALLOW_LAVA_SPECIAL);
-    this.meltDelay = getConfig(this).getInt(MELT_DELAY);
     this.ticksStandingStill = 0;
-    this.setImmuneToFire(true);
-    this.setCanSwim(!this.isHurtByWater);
+    // swimming is set on the navigator and AI tasks here, so a reload does not change it
+    this.setCanSwim(!getConfig(this).getBoolean(ALLOW_WATER_DAMAGE_KEY));
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
     this.setLootTableLoc(GolemNames.MAGMA_GOLEM);
-    this.addHealItem(new ItemStack(Items.MAGMA_CREAM), 0.25D);
   }
 
   public EntityMagmaGolem(final World world) {
@@ -76,16 +75,15 @@ public final class EntityMagmaGolem extends GolemBase {
 
   @Override
   public void notifyDataManagerChange(DataParameter<?> key) {
+    super.notifyDataManagerChange(key);
     // change stats if this is a child vs. an adult golem
     GolemConfigSet cfg = getConfig(this);
     if (this.isChild()) {
       this.setSize(0.7F, 1.45F);
-      this.allowMelting = false;
       this.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).setBaseValue(cfg.getBaseAttack() * 0.6F);
       this.getEntityAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(cfg.getMaxHealth() / 3);
     } else {
       this.setSize(1.4F, 2.9F);
-      this.allowMelting = getConfig(this).getBoolean(ALLOW_LAVA_SPECIAL);
       this.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).setBaseValue(cfg.getBaseAttack());
       this.getEntityAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(cfg.getMaxHealth());
     }
@@ -109,7 +107,7 @@ public final class EntityMagmaGolem extends GolemBase {
   @Override
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
-      if (getConfig(this).getBoolean(ALLOW_FIRE_SPECIAL)) {
+      if (getConfig(this).getBoolean(ALLOW_FIRE_SPECIAL_KEY)) {
         entity.setFire(2 + rand.nextInt(5));
       }
       return true;
@@ -126,11 +124,13 @@ public final class EntityMagmaGolem extends GolemBase {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     // take damage from water/rain
-    if (this.isHurtByWater && this.isWet()) {
+    final GolemConfigSet cfg = getConfig(this);
+    if (cfg.getBoolean(ALLOW_WATER_DAMAGE_KEY) && this.isWet()) {
       this.attackEntityFrom(DamageSource.DROWN, 0.5F);
     }
     // check the cobblestone-melting math
-    if (this.allowMelting && !this.isChild()) {
+    if (!this.isChild() && cfg.getBoolean(ALLOW_LAVA_SPECIAL_KEY)) {
+      final long start = GolemTickProfiler.start();
       final int x = MathHelper.floor(this.posX);
       final int y = MathHelper.floor(this.posY - 0.20000000298023224D);
       final int z = MathHelper.floor(this.posZ);
@@ -139,9 +139,12 @@ public final class EntityMagmaGolem extends GolemBase {
 
       if (x == this.stillX && z == this.stillZ) {
         // check if it's been holding still long enough AND on top of cobblestone
-        if (++this.ticksStandingStill >= this.meltDelay && b1 == Blocks.COBBLESTONE && rand.nextInt(16) == 0) {
+        if (++this.ticksStandingStill >= cfg.getInt(MELT_DELAY_KEY) && b1 == Blocks.COBBLESTONE
+            && rand.nextInt(16) == 0) {
           IBlockState replace = Blocks.MAGMA.getDefaultState();
-          this.world.setBlockState(below, replace, 3);
+          if (this.world.setBlockState(below, replace, 3)) {
+            GolemBlockWrites.record(this.world, below, Source.MAGMA_MELT);
+          }
           this.ticksStandingStill = 0;
         }
       } else {
@@ -149,6 +152,8 @@ public final class EntityMagmaGolem extends GolemBase {
         this.stillX = x;
         this.stillZ = z;
       }
+      GolemMetrics.special(this);
+      GolemTickProfiler.stop(this, Section.SPECIAL, start);
     }
   }
 
@@ -160,7 +165,7 @@ public final class EntityMagmaGolem extends GolemBase {
   @Override
   public void setDead() {
     // spawn baby golems here if possible
-    if (!this.world.isRemote && !this.isChild() && getConfig(this).getBoolean(ALLOW_SPLITTING)) {
+    if (!this.world.isRemote && !this.isChild() && getConfig(this).getBoolean(ALLOW_SPLITTING_KEY)) {
       GolemBase slime1 = new EntityMagmaGolem(this.world, true);
       GolemBase slime2 = new EntityMagmaGolem(this.world, true);
       // copy attack target info
@@ -196,15 +201,15 @@ public final class EntityMagmaGolem extends GolemBase {
   public List<String> addSpecialDesc(final List<String> list) {
     GolemConfigSet cfg = getConfig(this);
     // 'melts lava'
-    if (!this.isChild() && cfg.getBoolean(ALLOW_LAVA_SPECIAL)) {
+    if (!this.isChild() && cfg.getBoolean(ALLOW_LAVA_SPECIAL_KEY)) {
       list.add(TextFormatting.RED + trans("entitytip.slowly_melts", trans("tile.stonebrick.name")));
     }
     // 'ignites mobs'
-    if (cfg.getBoolean(ALLOW_FIRE_SPECIAL)) {
+    if (cfg.getBoolean(ALLOW_FIRE_SPECIAL_KEY)) {
       list.add(TextFormatting.GOLD + trans("entitytip.lights_mobs_on_fire"));
     }
     // 'splits upon death'
-    if (!this.isChild() && cfg.getBoolean(ALLOW_SPLITTING)) {
+    if (!this.isChild() && cfg.getBoolean(ALLOW_SPLITTING_KEY)) {
       list.add(TextFormatting.RED + trans("entitytip.splits_upon_death"));
     }
     return list;
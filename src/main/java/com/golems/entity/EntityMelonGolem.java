@@ -3,7 +3,9 @@ package com.golems.entity;
 import com.golems.entity.ai.EntityAIPlaceRandomBlocksStrictly;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.Block;
@@ -14,10 +16,8 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -32,15 +32,15 @@ public final class EntityMelonGolem extends GolemBase {
   public static final String ALLOW_SPECIAL = "Allow Special: Plant Flowers";
   public static final String FREQUENCY = "Flower Frequency";
   public static final String ALLOW_HEALING = "Allow Special: Random Healing";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
+  public static final BooleanKey ALLOW_HEALING_KEY = GolemConfigKey.booleanKey(ALLOW_HEALING);
 
   public EntityMelonGolem(final World world) {
     super(world);
     this.setCanSwim(true);
     this.tasks.addTask(2, this.makeFlowerAI());
     this.setLootTableLoc(GolemNames.MELON_GOLEM);
-    this.addHealItem(new ItemStack(Items.MELON), 0.25D);
-    this.addHealItem(new ItemStack(Items.SPECKLED_MELON), 0.35D);
-    this.addHealItem(new ItemStack(Items.MELON_SEEDS), 0.1D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -63,7 +63,7 @@ public final class EntityMelonGolem extends GolemBase {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     // heals randomly (about every 20 sec)
-    if (rand.nextInt(Config.RANDOM_HEAL_TIMER) == 0 && getConfig(this).getBoolean(ALLOW_HEALING)) {
+    if (rand.nextInt(Config.RANDOM_HEAL_TIMER) == 0 && getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       this.addPotionEffect(new PotionEffect(MobEffects.REGENERATION, 20, 2));
     }
   }
@@ -72,7 +72,6 @@ public final class EntityMelonGolem extends GolemBase {
    * Create an EntityAIPlaceRandomBlocks.
    **/
   protected EntityAIBase makeFlowerAI() {
-    GolemConfigSet cfg = getConfig(this);
     final Block[] soils = { Blocks.DIRT, Blocks.GRASS, Blocks.MYCELIUM, Blocks.FARMLAND };
     // init list and AI for planting flowers
     final List<IBlockState> lFlowers = new ArrayList<>();
@@ -83,19 +82,15 @@ public final class EntityMelonGolem extends GolemBase {
       lFlowers.add(Blocks.TALLGRASS.getDefaultState().withProperty(BlockTallGrass.TYPE, e));
     }
     final IBlockState[] flowers = lFlowers.toArray(new IBlockState[lFlowers.size()]);
-    // get other parameters for the AI
-    final int freq = cfg.getInt(FREQUENCY);
-    // TODO: Fix possible NPE
-    final boolean allowed = cfg.getBoolean(ALLOW_SPECIAL);
-    return new EntityAIPlaceRandomBlocksStrictly(this, freq, flowers, soils, allowed);
+    return new EntityAIPlaceRandomBlocksStrictly(this, FREQUENCY_KEY, ALLOW_SPECIAL_KEY, 0.0F, flowers, soils);
   }
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityMelonGolem.ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(EntityMelonGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.GREEN + trans("entitytip.plants_flowers", trans("tile.flower1.name")));
     }
-    if (getConfig(this).getBoolean(ALLOW_HEALING)) {
+    if (getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       String sHeals = TextFormatting.RED + trans("entitytip.heals");
       list.add(sHeals);
     }
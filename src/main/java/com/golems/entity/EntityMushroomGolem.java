@@ -3,17 +3,17 @@ package com.golems.entity;
 import com.golems.entity.ai.EntityAIPlaceRandomBlocksStrictly;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
@@ -26,6 +26,9 @@ public final class EntityMushroomGolem extends GolemMultiTextured {
   public static final String ALLOW_SPECIAL = "Allow Special: Plant Mushrooms";
   public static final String FREQUENCY = "Mushroom Frequency";
   public static final String ALLOW_HEALING = "Allow Special: Random Healing";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
+  public static final BooleanKey ALLOW_HEALING_KEY = GolemConfigKey.booleanKey(ALLOW_HEALING);
 
   public static final String SHROOM_PREFIX = "shroom";
   public static final String[] SHROOM_TYPES = { "red", "brown" };
@@ -33,16 +36,10 @@ public final class EntityMushroomGolem extends GolemMultiTextured {
   public EntityMushroomGolem(final World world) {
     super(world, SHROOM_PREFIX, SHROOM_TYPES);
     this.setCanSwim(true);
-    this.addHealItem(new ItemStack(Blocks.BROWN_MUSHROOM), 0.25D);
-    this.addHealItem(new ItemStack(Blocks.RED_MUSHROOM), 0.25D);
-    GolemConfigSet cfg = getConfig(this);
-    final boolean allowed = cfg.getBoolean(ALLOW_SPECIAL);
-    int freq = allowed ? cfg.getInt(FREQUENCY) : -100;
-    freq += this.rand.nextInt(Math.max(10, freq / 2));
     this.tasks.addTask(2,
-        new EntityAIPlaceRandomBlocksStrictly(this, freq,
+        new EntityAIPlaceRandomBlocksStrictly(this, FREQUENCY_KEY, ALLOW_SPECIAL_KEY, this.rand.nextFloat(),
             new IBlockState[] { Blocks.BROWN_MUSHROOM.getDefaultState(), Blocks.RED_MUSHROOM.getDefaultState() },
-            new Block[] { Blocks.DIRT, Blocks.GRASS, Blocks.MYCELIUM, Blocks.GRAVEL }, allowed));
+            new Block[] { Blocks.DIRT, Blocks.GRASS, Blocks.MYCELIUM, Blocks.GRAVEL }));
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.30D);
   }
 
@@ -66,7 +63,7 @@ public final class EntityMushroomGolem extends GolemMultiTextured {
     super.onLivingUpdate();
     // heals randomly, but only at night
     if (!this.getEntityWorld().isDaytime() && rand.nextInt(Config.RANDOM_HEAL_TIMER) == 0
-        && getConfig(this).getBoolean(ALLOW_HEALING)) {
+        && getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       this.addPotionEffect(new PotionEffect(MobEffects.REGENERATION, 20, 2));
     }
   }
@@ -82,10 +79,10 @@ public final class EntityMushroomGolem extends GolemMultiTextured {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityMushroomGolem.ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(EntityMushroomGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.DARK_GREEN + trans("entitytip.plants_shrooms"));
     }
-    if (getConfig(this).getBoolean(ALLOW_HEALING)) {
+    if (getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       String sHeals = TextFormatting.LIGHT_PURPLE + trans("entitytip.heals");
       list.add(sHeals);
     }
@@ -3,14 +3,14 @@ package com.golems.entity;
 import java.util.List;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
@@ -19,12 +19,11 @@ import net.minecraft.world.World;
 public final class EntityNetherBrickGolem extends GolemBase {
 
   public static final String ALLOW_FIRE_SPECIAL = "Allow Special: Burn Enemies";
+  public static final BooleanKey ALLOW_FIRE_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_FIRE_SPECIAL);
 
   public EntityNetherBrickGolem(final World world) {
     super(world);
-    this.setImmuneToFire(true);
     this.setLootTableLoc(GolemNames.NETHERBRICK_GOLEM);
-    this.addHealItem(new ItemStack(Items.NETHERBRICK), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
   }
 
@@ -40,7 +39,7 @@ public final class EntityNetherBrickGolem extends GolemBase {
   public boolean attackEntityAsMob(final Entity entity) {
     if (super.attackEntityAsMob(entity)) {
       final GolemConfigSet cfg = getConfig(this);
-      if (cfg.getBoolean(ALLOW_FIRE_SPECIAL)) {
+      if (cfg.getBoolean(ALLOW_FIRE_SPECIAL_KEY)) {
         entity.setFire(2 + rand.nextInt(5));
       }
       return true;
@@ -55,7 +54,7 @@ public final class EntityNetherBrickGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityNetherBrickGolem.ALLOW_FIRE_SPECIAL))
+    if (getConfig(this).getBoolean(EntityNetherBrickGolem.ALLOW_FIRE_SPECIAL_KEY))
       list.add(TextFormatting.RED + trans("entitytip.lights_mobs_on_fire"));
     return list;
   }
@@ -5,7 +5,9 @@ import java.util.List;
 import com.golems.entity.ai.EntityAIPlaceRandomBlocksStrictly;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.Block;
@@ -13,10 +15,8 @@ import net.minecraft.block.BlockNetherWart;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -30,12 +30,14 @@ public final class EntityNetherWartGolem extends GolemBase {
   public static final String ALLOW_SPECIAL = "Allow Special: Plant Netherwart";
   public static final String FREQUENCY = "Netherwart Frequency";
   public static final String ALLOW_HEALING = "Allow Special: Random Healing";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
+  public static final BooleanKey ALLOW_HEALING_KEY = GolemConfigKey.booleanKey(ALLOW_HEALING);
 
   public EntityNetherWartGolem(final World world) {
     super(world);
     this.setCanSwim(true);
     this.setLootTableLoc(GolemNames.NETHERWART_GOLEM);
-    this.addHealItem(new ItemStack(Items.NETHER_WART), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -49,7 +51,7 @@ public final class EntityNetherWartGolem extends GolemBase {
     super.onLivingUpdate();
     // heals randomly, but only at night or in the nether
     if ((!this.getEntityWorld().isDaytime() || this.getEntityWorld().provider.isNether())
-        && rand.nextInt(Config.RANDOM_HEAL_TIMER) == 0 && getConfig(this).getBoolean(ALLOW_HEALING)) {
+        && rand.nextInt(Config.RANDOM_HEAL_TIMER) == 0 && getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       this.addPotionEffect(new PotionEffect(MobEffects.REGENERATION, 20, 2));
     }
   }
@@ -61,10 +63,8 @@ public final class EntityNetherWartGolem extends GolemBase {
         Blocks.NETHER_WART.getDefaultState().withProperty(BlockNetherWart.AGE, 1),
         Blocks.NETHER_WART.getDefaultState().withProperty(BlockNetherWart.AGE, 2) };
     final Block[] soils = { Blocks.SOUL_SAND };
-    GolemConfigSet cfg = getConfig(this);
-    final boolean spawn = cfg.getBoolean(ALLOW_SPECIAL);
-    final int freq = cfg.getInt(FREQUENCY);
-    this.tasks.addTask(2, new EntityAIPlaceRandomBlocksStrictly(this, freq, flowers, soils, spawn));
+    this.tasks.addTask(2,
+        new EntityAIPlaceRandomBlocksStrictly(this, FREQUENCY_KEY, ALLOW_SPECIAL_KEY, 0.0F, flowers, soils));
   }
 
   @Override
@@ -79,10 +79,10 @@ public final class EntityNetherWartGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntityNetherWartGolem.ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(EntityNetherWartGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.RED + trans("entitytip.plants_warts"));
     }
-    if (getConfig(this).getBoolean(ALLOW_HEALING)) {
+    if (getConfig(this).getBoolean(ALLOW_HEALING_KEY)) {
       String sHeals = TextFormatting.RED + trans("entitytip.heals");
       list.add(sHeals);
     }
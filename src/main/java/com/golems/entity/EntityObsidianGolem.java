@@ -13,7 +13,6 @@ public final class EntityObsidianGolem extends GolemBase {
   public EntityObsidianGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.OBSIDIAN_GOLEM);
-    this.setImmuneToFire(true);
   }
 
   @Override
@@ -4,9 +4,7 @@ import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
@@ -16,7 +14,6 @@ public final class EntityQuartzGolem extends GolemBase {
   public EntityQuartzGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.QUARTZ_GOLEM);
-    this.addHealItem(new ItemStack(Items.QUARTZ), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
   }
 
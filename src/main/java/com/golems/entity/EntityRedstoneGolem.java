@@ -6,14 +6,13 @@ import com.golems.blocks.BlockUtilityPower;
 import com.golems.entity.ai.EntityAIUtilityBlock;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
-import com.golems.util.GolemLookup;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
@@ -24,15 +23,17 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 public final class EntityRedstoneGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Redstone Power";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
   public static final int DEF_FREQ = 2;
 
   /**
    * Default constructor for Redstone Golem
    **/
   public EntityRedstoneGolem(final World world) {
-    this(world, GolemLookup.getConfig(EntityRedstoneGolem.class).getBoolean(ALLOW_SPECIAL), 15, DEF_FREQ);
+    super(world);
+    // permission is read from the config as it is reloaded
+    this.tasks.addTask(9, new EntityAIUtilityBlock(this, getPowerState(15), DEF_FREQ, ALLOW_SPECIAL_KEY));
     this.setLootTableLoc(GolemNames.REDSTONE_GOLEM);
-    this.addHealItem(new ItemStack(Items.REDSTONE), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -41,9 +42,11 @@ public final class EntityRedstoneGolem extends GolemBase {
    **/
   public EntityRedstoneGolem(final World world, boolean allowSpecial, int power, int frequency) {
     super(world);
-    final IBlockState state = GolemItems.blockPowerSource.getDefaultState().withProperty(BlockUtilityPower.POWER_LEVEL,
-        power);
-    this.tasks.addTask(9, new EntityAIUtilityBlock(this, state, frequency, allowSpecial));
+    this.tasks.addTask(9, new EntityAIUtilityBlock(this, getPowerState(power), frequency, allowSpecial));
+  }
+
+  private static IBlockState getPowerState(final int power) {
+    return GolemItems.blockPowerSource.getDefaultState().withProperty(BlockUtilityPower.POWER_LEVEL, power);
   }
 
   @Override
@@ -70,7 +73,7 @@ public final class EntityRedstoneGolem extends GolemBase {
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
     // does not fire for child classes
-    if (this.getClass() == EntityRedstoneGolem.class && getConfig(this).getBoolean(ALLOW_SPECIAL))
+    if (this.getClass() == EntityRedstoneGolem.class && getConfig(this).getBoolean(ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.RED + trans("entitytip.emits_redstone_signal"));
     return list;
   }
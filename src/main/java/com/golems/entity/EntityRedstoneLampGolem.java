@@ -7,12 +7,12 @@ import com.golems.blocks.BlockUtilityGlow;
 import com.golems.entity.ai.EntityAIUtilityBlock;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
@@ -23,6 +23,8 @@ public final class EntityRedstoneLampGolem extends GolemMultiTextured {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Emit Light";
   public static final String FREQUENCY = "Light Frequency";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
 
   public static final String LAMP_PREFIX = "redstone_lamp";
   public static final String[] VARIANTS = { "lit", "unlit" };
@@ -32,12 +34,9 @@ public final class EntityRedstoneLampGolem extends GolemMultiTextured {
   public EntityRedstoneLampGolem(final World world) {
     super(world, LAMP_PREFIX, VARIANTS);
     this.setCanTakeFallDamage(true);
-    this.addHealItem(new ItemStack(Items.REDSTONE), 0.25D);
-    this.addHealItem(new ItemStack(Items.GLOWSTONE_DUST), 0.25D);
-    final GolemConfigSet cfg = getConfig(this);
     final IBlockState state = GolemItems.blockLightSource.getDefaultState().withProperty(BlockUtilityGlow.LIGHT_LEVEL,
         15);
-    this.tasks.addTask(9, new EntityAIUtilityBlock(this, state, cfg.getInt(FREQUENCY), cfg.getBoolean(ALLOW_SPECIAL),
+    this.tasks.addTask(9, new EntityAIUtilityBlock(this, state, FREQUENCY_KEY, ALLOW_SPECIAL_KEY,
         EntityAIUtilityBlock.getDefaultBiPred(state).and(LIT_PRED)));
   }
 
@@ -82,7 +81,7 @@ public final class EntityRedstoneLampGolem extends GolemMultiTextured {
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
     // does not fire for child classes
-    if (getConfig(this).getBoolean(ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.GOLD + trans("entitytip.lights_area_toggle"));
     }
     return list;
@@ -4,22 +4,16 @@ import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public final class EntitySandstoneGolem extends GolemBase {
 
   public EntitySandstoneGolem(final World world) {
     super(world);
     this.setLootTableLoc(GolemNames.SANDSTONE_GOLEM);
-    this.addHealItem(new ItemStack(Blocks.SANDSTONE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Blocks.SAND, 1, 0), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.28D);
   }
 
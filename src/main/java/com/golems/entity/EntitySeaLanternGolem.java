@@ -8,17 +8,17 @@ import com.golems.blocks.BlockUtilityGlow;
 import com.golems.entity.ai.EntityAIUtilityBlock;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
-import com.golems.util.GolemConfigSet;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -31,6 +31,8 @@ public final class EntitySeaLanternGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Emit Light";
   public static final String FREQUENCY = "Light Frequency";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey FREQUENCY_KEY = GolemConfigKey.intKey(FREQUENCY);
   public static final BiPredicate<GolemBase, IBlockState> WATER_PRED = (golem,
       toReplace) -> toReplace.getBlock() != GolemItems.blockLightSourceWater
           && toReplace.getMaterial() == Material.WATER && toReplace.getValue(BlockLiquid.LEVEL).intValue() == 0;
@@ -40,8 +42,6 @@ public final class EntitySeaLanternGolem extends GolemBase {
   public EntitySeaLanternGolem(final World world) {
     super(world);
     this.canDrown = false;
-    this.addHealItem(new ItemStack(Items.PRISMARINE_CRYSTALS), 0.25D);
-    this.addHealItem(new ItemStack(Items.PRISMARINE_SHARD), 0.25D);
     this.setLootTableLoc(GolemNames.SEALANTERN_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
 
@@ -52,15 +52,13 @@ public final class EntitySeaLanternGolem extends GolemBase {
     super.initEntityAI();
     // lights above and below water... need to add to different lists to run
     // concurrently
-    GolemConfigSet cfg = getConfig(this);
     this.tasks.addTask(8,
         new EntityAIUtilityBlock(this, GolemItems.blockLightSourceWater.getDefaultState()
-            .withProperty(BlockUtilityGlow.LIGHT_LEVEL, BRIGHTNESS_INT), cfg.getInt(FREQUENCY),
-            cfg.getBoolean(ALLOW_SPECIAL), WATER_PRED));
+            .withProperty(BlockUtilityGlow.LIGHT_LEVEL, BRIGHTNESS_INT), FREQUENCY_KEY, ALLOW_SPECIAL_KEY, WATER_PRED));
     this.targetTasks.addTask(8,
         new EntityAIUtilityBlock(this,
             GolemItems.blockLightSource.getDefaultState().withProperty(BlockUtilityGlow.LIGHT_LEVEL, BRIGHTNESS_INT),
-            cfg.getInt(FREQUENCY), cfg.getBoolean(ALLOW_SPECIAL)));
+            FREQUENCY_KEY, ALLOW_SPECIAL_KEY));
   }
 
   @Override
@@ -100,7 +98,7 @@ public final class EntitySeaLanternGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntitySeaLanternGolem.ALLOW_SPECIAL)) {
+    if (getConfig(this).getBoolean(EntitySeaLanternGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.GOLD + trans("entitytip.lights_area"));
     }
     list.add(TextFormatting.AQUA + trans("entitytip.breathes_underwater"));
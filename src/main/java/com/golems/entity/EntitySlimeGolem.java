@@ -1,15 +1,16 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.FloatKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.monster.EntitySlime;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.network.datasync.DataParameter;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
@@ -24,8 +25,9 @@ public final class EntitySlimeGolem extends GolemBase {
   public static final String ALLOW_SPECIAL = "Allow Special: Extra Knockback";
   public static final String ALLOW_SPLITTING = "Allow Special: Split";
   public static final String KNOCKBACK = "Knockback Factor";
-
-  private float knockbackPower;
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final BooleanKey ALLOW_SPLITTING_KEY = GolemConfigKey.booleanKey(ALLOW_SPLITTING);
+  public static final FloatKey KNOCKBACK_KEY = GolemConfigKey.floatKey(KNOCKBACK);
 
   public EntitySlimeGolem(final World world) {
     this(world, false);
@@ -36,7 +38,6 @@ public final class EntitySlimeGolem extends GolemBase {
     this.setChild(isBaby);
     this.setCanSwim(true);
     this.setLootTableLoc(GolemNames.SLIME_GOLEM);
-    this.addHealItem(new ItemStack(Items.SLIME_BALL), 0.25D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.29D);
   }
 
@@ -51,8 +52,8 @@ public final class EntitySlimeGolem extends GolemBase {
       GolemConfigSet cfg = getConfig(this);
       // knocks back the entity it's attacking (if it's adult and not attacking a
       // slime)
-      if (cfg.getBoolean(ALLOW_SPECIAL) && !(entity instanceof EntitySlime) && !this.isChild()) {
-        knockbackTarget(entity, cfg.getFloat(KNOCKBACK));
+      if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && !(entity instanceof EntitySlime) && !this.isChild()) {
+        knockbackTarget(entity, cfg.getFloat(KNOCKBACK_KEY));
       }
       return true;
     }
@@ -64,8 +65,8 @@ public final class EntitySlimeGolem extends GolemBase {
     if (!this.isEntityInvulnerable(source)) {
       super.damageEntity(source, amount);
       // knocks back the entity that is attacking it
-      if (!this.isChild() && source.getImmediateSource() != null && getConfig(this).getBoolean(ALLOW_SPECIAL)) {
-        knockbackTarget(source.getImmediateSource(), this.knockbackPower);
+      if (!this.isChild() && source.getImmediateSource() != null && getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
+        knockbackTarget(source.getImmediateSource(), getConfig(this).getFloat(KNOCKBACK_KEY) * 0.325F);
       }
     }
   }
@@ -83,7 +84,7 @@ public final class EntitySlimeGolem extends GolemBase {
   @Override
   public void setDead() {
     // spawn baby golems here if possible
-    if (!this.world.isRemote && !this.isChild() && getConfig(this).getBoolean(ALLOW_SPLITTING)) {
+    if (!this.world.isRemote && !this.isChild() && getConfig(this).getBoolean(ALLOW_SPLITTING_KEY)) {
       GolemBase slime1 = new EntitySlimeGolem(this.world, true);
       GolemBase slime2 = new EntitySlimeGolem(this.world, true);
       // copy attack target info
@@ -106,16 +107,15 @@ public final class EntitySlimeGolem extends GolemBase {
 
   @Override
   public void notifyDataManagerChange(DataParameter<?> key) {
+    super.notifyDataManagerChange(key);
     // change stats if this is a child vs. an adult golem
     if (this.isChild()) {
-      this.knockbackPower = 0.0F;
       this.setSize(0.7F, 1.45F);
       this.getEntityAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(getConfig(this).getMaxHealth() / 3);
       this.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE)
           .setBaseValue(getConfig(this).getBaseAttack() * 0.6F);
       this.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).setBaseValue(0.0D);
     } else {
-      this.knockbackPower = getConfig(this).getFloat(KNOCKBACK) * 0.325F;
       this.getEntityAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(getConfig(this).getMaxHealth());
       this.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).setBaseValue(getConfig(this).getBaseAttack());
       this.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).setBaseValue(0.35D);
@@ -130,10 +130,10 @@ public final class EntitySlimeGolem extends GolemBase {
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
     final GolemConfigSet cfg = getConfig(this);
-    if (cfg.getBoolean(EntitySlimeGolem.ALLOW_SPECIAL)) {
+    if (cfg.getBoolean(EntitySlimeGolem.ALLOW_SPECIAL_KEY)) {
       list.add(TextFormatting.GREEN + trans("entitytip.has_knockback"));
     }
-    if (!this.isChild() && cfg.getBoolean(ALLOW_SPLITTING)) {
+    if (!this.isChild() && cfg.getBoolean(ALLOW_SPLITTING_KEY)) {
       list.add(TextFormatting.GREEN + trans("entitytip.splits_upon_death"));
     }
     return list;
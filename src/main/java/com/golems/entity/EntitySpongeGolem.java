@@ -1,14 +1,22 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemEventStats;
+import com.golems.debug.GolemFlightRecorder;
+import com.golems.debug.GolemMetrics;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.events.SpongeGolemSoakEvent;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -16,9 +24,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
-import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.List;
 
@@ -28,12 +34,15 @@ public final class EntitySpongeGolem extends GolemBase {
   public static final String INTERVAL = "Water Soaking Frequency";
   public static final String RANGE = "Water Soaking Range";
   public static final String PARTICLES = "Can Render Sponge Particles";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey INTERVAL_KEY = GolemConfigKey.intKey(INTERVAL);
+  public static final IntKey RANGE_KEY = GolemConfigKey.intKey(RANGE);
+  public static final BooleanKey PARTICLES_KEY = GolemConfigKey.booleanKey(PARTICLES);
 
   public EntitySpongeGolem(final World world) {
     super(world);
     this.setCanSwim(true);
     this.setLootTableLoc(GolemNames.SPONGE_GOLEM);
-    this.addHealItem(new ItemStack(Blocks.SPONGE, 1, 1), 0.75D);
   }
 
   @Override
@@ -50,21 +59,28 @@ public final class EntitySpongeGolem extends GolemBase {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     GolemConfigSet cfg = getConfig(this);
-    final int interval = cfg.getInt(INTERVAL);
+    final int interval = cfg.getInt(INTERVAL_KEY);
     // TODO: Fix possible NPE
-    if (cfg.getBoolean(ALLOW_SPECIAL) && (interval <= 1 || this.ticksExisted % interval == 0)) {
+    if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && (interval <= 1 || this.ticksExisted % interval == 0)) {
+      final long start = GolemTickProfiler.start();
+      final Object jfrEvent = GolemFlightRecorder.beginSoakPass();
       final int x = MathHelper.floor(this.posX);
       final int y = MathHelper.floor(this.posY - 0.20000000298023224D) + 2;
       final int z = MathHelper.floor(this.posZ);
       final BlockPos center = new BlockPos(x, y, z);
 
-      final SpongeGolemSoakEvent event = new SpongeGolemSoakEvent(this, center, cfg.getInt(RANGE));
-      if (!MinecraftForge.EVENT_BUS.post(event) && event.getResult() != Result.DENY) {
+      GolemEventStats.beginConstruct(this.world);
+      final SpongeGolemSoakEvent event = new SpongeGolemSoakEvent(this, center, cfg.getInt(RANGE_KEY));
+      GolemEventStats.endConstruct(this.world, SpongeGolemSoakEvent.class);
+      if (!GolemEventStats.post(this.world, event) && event.getResult() != Result.DENY) {
         this.replaceWater(event.getPositionList(), event.getReplacementState(), event.updateFlag);
       }
+      GolemFlightRecorder.soakPass(jfrEvent, this, event.range, event.getPositionList().size());
+      GolemMetrics.special(this);
+      GolemTickProfiler.stop(this, Section.SPECIAL, start);
     }
 
-    if (cfg.getBoolean(PARTICLES) && Math.abs(this.motionX) < 0.05D && Math.abs(this.motionZ) < 0.05D
+    if (cfg.getBoolean(PARTICLES_KEY) && Math.abs(this.motionX) < 0.05D && Math.abs(this.motionZ) < 0.05D
         && world.isRemote) {
       final EnumParticleTypes particle = this.isBurning() ? EnumParticleTypes.SMOKE_NORMAL
           : EnumParticleTypes.WATER_SPLASH;
@@ -92,14 +108,18 @@ public final class EntitySpongeGolem extends GolemBase {
   public boolean replaceWater(final List<BlockPos> positions, final IBlockState replaceWater, final int updateFlag) {
     boolean flag = true;
     for (final BlockPos p : positions) {
-      flag &= this.world.setBlockState(p, replaceWater, updateFlag);
+      if (this.world.setBlockState(p, replaceWater, updateFlag)) {
+        GolemBlockWrites.record(this.world, p, Source.SPONGE_SOAK);
+      } else {
+        flag = false;
+      }
     }
     return flag;
   }
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (getConfig(this).getBoolean(EntitySpongeGolem.ALLOW_SPECIAL))
+    if (getConfig(this).getBoolean(EntitySpongeGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.YELLOW + trans("entitytip.absorbs_water"));
     return list;
   }
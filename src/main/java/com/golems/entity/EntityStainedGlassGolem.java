@@ -5,14 +5,11 @@ import com.golems.util.GolemNames;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemDye;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public final class EntityStainedGlassGolem extends GolemColorizedMultiTextured {
 
@@ -28,8 +25,6 @@ public final class EntityStainedGlassGolem extends GolemColorizedMultiTextured {
     super(world, TEXTURE_BASE, TEXTURE_OVERLAY, COLOR_ARRAY);
     this.setCanTakeFallDamage(true);
     this.setLootTableLoc(GolemNames.STAINEDGLASS_GOLEM);
-    this.addHealItem(new ItemStack(Blocks.STAINED_GLASS, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Blocks.STAINED_GLASS_PANE, 1, OreDictionary.WILDCARD_VALUE), 0.1D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.30D);
   }
 
@@ -52,11 +47,13 @@ public final class EntityStainedGlassGolem extends GolemColorizedMultiTextured {
     return SoundEvents.BLOCK_GLASS_BREAK;
   }
 
-  @Override
-  public void onBuilt(IBlockState body, IBlockState legs, IBlockState arm1, IBlockState arm2) {
-    // use block metadata to give this golem the right texture (defaults to last
-    // item of color array)
-    final int meta = body.getBlock().getMetaFromState(body) % this.getColorArray().length;
-    this.setTextureNum((byte) (this.getColorArray().length - meta - 1));
+  /**
+   * Registered with {@link com.golems.util.GolemLookup#addVariants}: use block
+   * metadata to give this golem the right texture (the color array is in
+   * reverse order of metadata)
+   **/
+  public static int getVariant(final IBlockState state) {
+    final int meta = state.getBlock().getMetaFromState(state) % COLOR_ARRAY.length;
+    return COLOR_ARRAY.length - meta - 1;
   }
 }
@@ -2,7 +2,16 @@ package com.golems.entity;
 
 import java.util.List;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemMetrics;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
+import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemNames;
 
 import net.minecraft.block.BlockCrops;
@@ -10,10 +19,8 @@ import net.minecraft.block.BlockStem;
 import net.minecraft.block.IGrowable;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemDye;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
@@ -25,21 +32,19 @@ public final class EntityStrawGolem extends GolemBase {
 
   public static final String ALLOW_SPECIAL = "Allow Special: Crop Boost";
   public static final String SPECIAL_FREQ = "Crop Boost Frequency";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
+  public static final IntKey SPECIAL_FREQ_KEY = GolemConfigKey.intKey(SPECIAL_FREQ);
   private int range;
-  private int boostFreq;
-  private boolean allowed;
+  /** 0 to 1, how far above the configured frequency this golem boosts crops **/
+  private final float boostJitter;
 
   public EntityStrawGolem(final World world) {
     super(world);
     this.setCanSwim(true);
-    this.addHealItem(new ItemStack(Items.WHEAT), 0.25D);
-    this.addHealItem(new ItemStack(Items.WHEAT_SEEDS), 0.025D);
     this.setLootTableLoc(GolemNames.STRAW_GOLEM);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.35D);
-    this.boostFreq = getConfig(this).getInt(SPECIAL_FREQ);
-    this.boostFreq += this.rand.nextInt(Math.max(10, this.boostFreq / 2));
+    this.boostJitter = this.rand.nextFloat();
     this.range = 4;
-    this.allowed = getConfig(this).getBoolean(ALLOW_SPECIAL);
   }
 
   /**
@@ -51,18 +56,27 @@ public final class EntityStrawGolem extends GolemBase {
   public void onLivingUpdate() {
     super.onLivingUpdate();
     // look for crops to boost
-    if (this.allowed && this.rand.nextInt(boostFreq) == 0) {
+    final GolemConfigSet cfg = getConfig(this);
+    if (cfg.getBoolean(ALLOW_SPECIAL_KEY) && this.rand.nextInt(getBoostFreq(cfg)) == 0) {
+      final long start = GolemTickProfiler.start();
       tryBoostCrop();
+      GolemMetrics.special(this);
+      GolemTickProfiler.stop(this, Section.SPECIAL, start);
     }
   }
 
+  private int getBoostFreq(final GolemConfigSet cfg) {
+    final int freq = cfg.getInt(SPECIAL_FREQ_KEY);
+    return Math.max(1, freq + (int) (this.boostJitter * Math.max(10, freq / 2)));
+  }
+
   /**
    * Checks random blocks in a radius until either a growable crop has been found
    * and boosted, or no crops were found in a limited number of attempts.
    * 
-   * @return
+   * @return whether a crop was boosted
    **/
-  private boolean tryBoostCrop() {
+  boolean tryBoostCrop() {
     final int maxAttempts = 25;
     final int variationY = 2;
     int attempts = 0;
@@ -84,6 +98,7 @@ public final class EntityStrawGolem extends GolemBase {
         if (crop.canGrow(this.world, blockpos, state, this.world.isRemote)) {
           // grow the crop!
           crop.grow(this.world, rand, blockpos, state);
+          GolemBlockWrites.record(this.world, blockpos, Source.CROP_BOOST);
           // spawn particles
           if (this.world.isRemote) {
             ItemDye.spawnBonemealParticles(this.world, blockpos, 0);
@@ -107,7 +122,7 @@ public final class EntityStrawGolem extends GolemBase {
 
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
-    if (this.allowed) {
+    if (getConfig(this).getBoolean(ALLOW_SPECIAL_KEY)) {
       String sCrops = TextFormatting.GREEN + trans("entitytip.grows_crops");
       list.add(sCrops);
     }
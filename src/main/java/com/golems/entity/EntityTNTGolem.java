@@ -3,7 +3,6 @@ package com.golems.entity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
@@ -17,14 +16,22 @@ import net.minecraft.world.WorldServer;
 
 import java.util.List;
 
+import com.golems.debug.GolemFlightRecorder;
+import com.golems.debug.GolemNetworkStats;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigKey;
+import com.golems.util.GolemConfigKey.BooleanKey;
 import com.golems.util.GolemNames;
 
 public class EntityTNTGolem extends GolemBase {
 
   protected static final DataParameter<Boolean> DATA_IGNITED = EntityDataManager
       .<Boolean>createKey(EntityTNTGolem.class, DataSerializers.BOOLEAN);
+  static {
+    GolemNetworkStats.registerMetadata(DATA_IGNITED, GolemNetworkStats.Source.METADATA_IGNITED);
+  }
   public static final String ALLOW_SPECIAL = "Allow Special: Explode";
+  public static final BooleanKey ALLOW_SPECIAL_KEY = GolemConfigKey.booleanKey(ALLOW_SPECIAL);
 
   protected final int minExplosionRad;
   protected final int maxExplosionRad;
@@ -34,6 +41,8 @@ public class EntityTNTGolem extends GolemBase {
    **/
   protected final int chanceToExplodeWhenAttacking;
   protected boolean allowedToExplode = false;
+  /** True when built by the default constructor, so allowedToExplode follows the config. **/
+  private boolean followsConfig;
 
   protected boolean willExplode;
   protected int fuseTimer;
@@ -42,9 +51,8 @@ public class EntityTNTGolem extends GolemBase {
   public EntityTNTGolem(final World world) {
     this(world, 3, 6, 50, 10);
     this.setLootTableLoc(GolemNames.TNT_GOLEM);
-    this.addHealItem(new ItemStack(Items.GUNPOWDER), 0.25D);
-    this.addHealItem(new ItemStack(Blocks.SAND), 0.25D);
-    this.allowedToExplode = getConfig(this).getBoolean(ALLOW_SPECIAL);
+    this.allowedToExplode = getConfig(this).getBoolean(ALLOW_SPECIAL_KEY);
+    this.followsConfig = true;
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.26D);
   }
 
@@ -194,14 +202,21 @@ public class EntityTNTGolem extends GolemBase {
     this.willExplode = false;
   }
 
+  /** @return whether this golem may explode, read from the config unless a subclass set it **/
+  protected boolean isAllowedToExplode() {
+    return this.followsConfig ? getConfig(this).getBoolean(ALLOW_SPECIAL_KEY) : this.allowedToExplode;
+  }
+
   protected void explode() {
-    if (this.allowedToExplode) {
+    if (this.isAllowedToExplode()) {
       if (!this.world.isRemote) {
+        final Object jfrEvent = GolemFlightRecorder.beginTntExplosion();
         final boolean flag = this.world.getGameRules().getBoolean("mobGriefing");
         final float range = this.maxExplosionRad > this.minExplosionRad
             ? (minExplosionRad + rand.nextInt(maxExplosionRad - minExplosionRad))
             : this.minExplosionRad;
         this.world.createExplosion(this, this.posX, this.posY, this.posZ, range, flag);
+        GolemFlightRecorder.tntExplosion(jfrEvent, this, range, flag);
         this.setDead();
       }
     } else {
@@ -217,7 +232,7 @@ public class EntityTNTGolem extends GolemBase {
   @Override
   public List<String> addSpecialDesc(final List<String> list) {
     // only fires for this golem, not child classes
-    if (this.getClass() == EntityTNTGolem.class && getConfig(this).getBoolean(EntityTNTGolem.ALLOW_SPECIAL))
+    if (this.getClass() == EntityTNTGolem.class && getConfig(this).getBoolean(EntityTNTGolem.ALLOW_SPECIAL_KEY))
       list.add(TextFormatting.RED + trans("entitytip.explodes"));
     return list;
   }
@@ -1,6 +1,7 @@
 package com.golems.entity;
 
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemBlockIndex;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLog;
@@ -10,13 +11,11 @@ import net.minecraft.block.BlockOldLog;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public final class EntityWoodenGolem extends GolemMultiTextured {
 
@@ -26,10 +25,6 @@ public final class EntityWoodenGolem extends GolemMultiTextured {
   public EntityWoodenGolem(final World world) {
     super(world, WOOD_PREFIX, woodTypes);
     this.setCanSwim(true);
-    this.addHealItem(new ItemStack(Blocks.LOG, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Blocks.LOG2, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Blocks.PLANKS), 0.25D);
-    this.addHealItem(new ItemStack(Items.STICK), 0.1D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.30D);
   }
 
@@ -50,16 +45,17 @@ public final class EntityWoodenGolem extends GolemMultiTextured {
     return ExtraGolems.MODID;
   }
 
-  @Override
-  public void onBuilt(IBlockState body, IBlockState legs, IBlockState arm1, IBlockState arm2) {
-    // use block metadata to give this golem the right texture
-    if (body.getBlock() instanceof BlockNewLog || body.getBlock() instanceof BlockOldLog) {
-      final int meta = body.getBlock().getMetaFromState(body.withProperty(BlockLog.LOG_AXIS, EnumAxis.NONE));
-      byte textureNum = body.getBlock() == Blocks.LOG2 ? (byte) (meta + 4) : (byte) meta;
-      textureNum %= this.getNumTextures();
-      this.setTextureNum(textureNum);
+  /**
+   * Registered with {@link com.golems.util.GolemLookup#addVariants}: use block
+   * metadata of vanilla logs to give this golem the right texture
+   **/
+  public static int getVariant(final IBlockState state) {
+    if (state.getBlock() instanceof BlockNewLog || state.getBlock() instanceof BlockOldLog) {
+      final int meta = state.getBlock().getMetaFromState(state.withProperty(BlockLog.LOG_AXIS, EnumAxis.NONE));
+      final int textureNum = state.getBlock() == Blocks.LOG2 ? meta + 4 : meta;
+      return textureNum % woodTypes.length;
     }
-
+    return GolemBlockIndex.NO_VARIANT;
   }
 
   @Override
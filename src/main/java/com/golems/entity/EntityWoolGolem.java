@@ -6,7 +6,6 @@ import com.golems.main.ExtraGolems;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
-import net.minecraft.init.Items;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundEvent;
@@ -15,7 +14,6 @@ import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.oredict.OreDictionary;
 
 public final class EntityWoolGolem extends GolemMultiTextured {
 
@@ -28,8 +26,6 @@ public final class EntityWoolGolem extends GolemMultiTextured {
   public EntityWoolGolem(final World world) {
     super(world, WOOL_PREFIX, coloredWoolTypes);
     this.setCanSwim(true);
-    this.addHealItem(new ItemStack(Blocks.WOOL, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
-    this.addHealItem(new ItemStack(Items.STRING), 0.1D);
     this.getEntityAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.30D);
   }
 
@@ -70,11 +66,12 @@ public final class EntityWoolGolem extends GolemMultiTextured {
     super.setTextureNum(toSet, updateInstantly);
   }
 
-  @Override
-  public void onBuilt(IBlockState body, IBlockState legs, IBlockState arm1, IBlockState arm2) {
-    // use block metadata to give this golem the right texture (defaults to 0)
-    final int meta = body.getBlock().getMetaFromState(body) % this.getTextureArray().length;
-    this.setTextureNum((byte) meta);
+  /**
+   * Registered with {@link com.golems.util.GolemLookup#addVariants}: use block
+   * metadata to give this golem the right texture
+   **/
+  public static int getVariant(final IBlockState state) {
+    return state.getBlock().getMetaFromState(state) % coloredWoolTypes.length;
   }
 
   @Override
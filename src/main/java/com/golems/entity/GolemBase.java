@@ -1,10 +1,17 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemCensus;
+import com.golems.debug.GolemNetworkStats;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.items.ItemBedrockGolem;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemConfigOverrides;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemLookup;
+import com.golems.util.GolemProfile;
+import com.golems.util.HealItemIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -19,10 +26,8 @@ import net.minecraft.entity.ai.EntityAIWanderAvoidWater;
 import net.minecraft.entity.monster.EntityIronGolem;
 import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.datasync.DataParameter;
@@ -44,10 +49,7 @@ import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 /**
@@ -61,10 +63,27 @@ public abstract class GolemBase extends EntityIronGolem {
   public static final Logger LOGGER = LogManager.getFormatterLogger(ExtraGolems.MODID);
 
   private static final String KEY_CHILD = "isChild";
+
+  static {
+    GolemNetworkStats.registerMetadata(CHILD, GolemNetworkStats.Source.METADATA_CHILD);
+  }
   public static final int WANDER_DISTANCE = 64;
 
-  /** Map to customize healing items **/
-  protected Map<ItemStack, Double> healItemMap = new HashMap<>();
+  /**
+   * Config, building blocks and heal items shared by every golem of this class,
+   * and the {@link GolemLookup#getProfileGeneration()} it was fetched at.
+   * Set lazily by {@link #getProfile()} because {@code applyEntityAttributes}
+   * needs it before the constructor body runs, so they have no initializers.
+   **/
+  private GolemProfile profile;
+  private int profileGeneration;
+  /**
+   * The config with overrides for this golem's dimension applied, and the
+   * {@link GolemConfigOverrides#getGeneration()} it was resolved at. Also
+   * without initializers, for the same reason as {@link #profile}.
+   **/
+  private GolemConfigSet config;
+  private int configGeneration;
 
   protected ResourceLocation textureLoc;
   protected ResourceLocation lootTableLoc;
@@ -79,9 +98,10 @@ public abstract class GolemBase extends EntityIronGolem {
   protected boolean canDrown = false;
 
   private int attackTimer = 0;
+  private final GolemCensus.Tracker censusTracker = new GolemCensus.Tracker();
 
-  // swimming AI
-  protected EntityAIBase swimmingAI = new EntityAISwimming(this);
+  // swimming AI, created only when needed
+  protected EntityAIBase swimmingAI = null;
   protected EntityAIBase wanderAvoidWater = null;
   protected EntityAIBase wander = null;
 
@@ -93,7 +113,7 @@ public abstract class GolemBase extends EntityIronGolem {
    * {@code SharedMonsterAttributes.MAX_HEALTH} using the config <br>
    * {@code takesFallDamage} to false <br>
    * {@code canSwim} to false. <br>
-   * {@code healItemMap} using the golem building blocks
+   * {@code profile} shared by all golems of this class
    * 
    * @param world the entity world
    **/
@@ -102,17 +122,9 @@ public abstract class GolemBase extends EntityIronGolem {
     this.setSize(1.4F, 2.9F);
     this.setCanTakeFallDamage(false); //TODO make configurable in config
     this.setCanSwim(false);
-    GolemConfigSet cfg = getConfig(this);
-    this.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).setBaseValue(cfg.getBaseAttack());
-    this.getEntityAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(cfg.getMaxHealth());
+    this.setImmuneToFire(getProfile().isFireproof());
+    // attributes were already set from the config in applyEntityAttributes
     this.experienceValue = 4 + rand.nextInt((int) 8);
-    // map healing items based on building blocks
-    for (final Block b : getBuildingBlocks(this)) {
-      Item i = Item.getItemFromBlock(b);
-      if (i != Items.AIR) {
-        healItemMap.put(new ItemStack(i), 0.75D);
-      }
-    }
   }
 
   ////////////// BEHAVIOR OVERRIDES //////////////////
@@ -129,6 +141,67 @@ public abstract class GolemBase extends EntityIronGolem {
     this.getDataManager().register(CHILD, Boolean.valueOf(false));
   }
 
+  @Override
+  public void onUpdate() {
+    final long start = GolemTickProfiler.start();
+    super.onUpdate();
+    GolemCensus.update(this);
+    GolemTickProfiler.stop(this, Section.UPDATE, start);
+  }
+
+  @Override
+  public void setDead() {
+    super.setDead();
+    GolemCensus.remove(this);
+  }
+
+  /**
+   * @return the config of this golem's class with the overrides for its
+   *         dimension applied. Fetched again only after the overrides were
+   *         resolved again; an entity that changes dimension is a new entity
+   **/
+  @Nonnull
+  public GolemConfigSet getResolvedConfig() {
+    final int generation = GolemConfigOverrides.getGeneration();
+    if (this.config == null || this.configGeneration != generation) {
+      final int dimension = this.world != null ? this.world.provider.getDimension() : 0;
+      this.config = getProfile().getConfig().forDimension(dimension);
+      this.configGeneration = generation;
+    }
+    return this.config;
+  }
+
+  /**
+   * @return the GolemProfile shared by every golem of this class. Fetched
+   *         again only after a registration replaced it
+   **/
+  public GolemProfile getProfile() {
+    final int generation = GolemLookup.getProfileGeneration();
+    if (this.profile == null || this.profileGeneration != generation) {
+      this.profile = GolemLookup.getProfile(this.getClass());
+      this.profileGeneration = generation;
+    }
+    return this.profile;
+  }
+
+  public GolemCensus.Tracker getCensusTracker() {
+    return this.censusTracker;
+  }
+
+  @Override
+  public void notifyDataManagerChange(final DataParameter<?> key) {
+    super.notifyDataManagerChange(key);
+    GolemNetworkStats.metadata(this, key);
+  }
+
+  @Override
+  public void playSound(final SoundEvent sound, final float volume, final float pitch) {
+    super.playSound(sound, volume, pitch);
+    if (!this.isSilent()) {
+      GolemNetworkStats.sound(this, volume);
+    }
+  }
+
   @Override
   public void onLivingUpdate() {
     super.onLivingUpdate();
@@ -309,6 +382,14 @@ public abstract class GolemBase extends EntityIronGolem {
   public void onBuilt(IBlockState body, IBlockState legs, IBlockState arm1, IBlockState arm2) {
   }
 
+  /**
+   * Called before the golem is spawned when it is built from a block state
+   * that has a variant (see {@link GolemLookup#addVariants}), so the golem does
+   * not need to decode the block state in {@link #onBuilt}
+   **/
+  public void setVariant(final int variant) {
+  }
+
   public void setLootTableLoc(final ResourceLocation lootTable) {
     this.lootTableLoc = lootTable;
   }
@@ -354,25 +435,37 @@ public abstract class GolemBase extends EntityIronGolem {
    **/
   public void setCanSwim(final boolean canSwim) {
     ((PathNavigateGround) this.getNavigator()).setCanSwim(canSwim);
-    if (null == wander) {
-      wander = new EntityAIWander(this, 0.8D);
-    }
-    if (null == wanderAvoidWater) {
-      wanderAvoidWater = new EntityAIWanderAvoidWater(this, 0.8);
-    }
-
     if (canSwim) {
+      if (null == swimmingAI) {
+        swimmingAI = new EntityAISwimming(this);
+      }
+      if (null == wander) {
+        wander = new EntityAIWander(this, 0.8D);
+      }
       this.tasks.addTask(0, swimmingAI);
       this.tasks.addTask(5, wander);
-      this.tasks.removeTask(wanderAvoidWater);
+      if (wanderAvoidWater != null) {
+        this.tasks.removeTask(wanderAvoidWater);
+      }
     } else {
-      this.tasks.removeTask(swimmingAI);
-      this.tasks.removeTask(wander);
+      if (null == wanderAvoidWater) {
+        wanderAvoidWater = new EntityAIWanderAvoidWater(this, 0.8);
+      }
+      if (swimmingAI != null) {
+        this.tasks.removeTask(swimmingAI);
+      }
+      if (wander != null) {
+        this.tasks.removeTask(wander);
+      }
       this.tasks.addTask(5, wanderAvoidWater);
     }
   }
 
   /**
+   * Golems of a class registered with {@link GolemLookup#setFireproof(Class)}
+   * are already immune to fire; register the class rather than calling this
+   * from a constructor so that the Golem Book shows it.
+   *
    * @param toSet whether golem is immune to fire
    **/
   public void setImmuneToFire(final boolean toSet) {
@@ -380,22 +473,45 @@ public abstract class GolemBase extends EntityIronGolem {
   }
 
   /**
-   * Registers an item that can be used to heal the golem
-   * 
+   * Registers an item that can be used to heal every golem of this class.
+   * Only the first call for each item and metadata has any effect; later
+   * calls (one per golem constructed) are skipped quietly.
+   *
    * @param s          an ItemStack containing the item
    * @param multiplier the percentage of health that should be added (typically
    *                   0.25 or 0.5)
+   * @deprecated heal items are shared by the class. Call
+   *             {@link GolemLookup#addHealItem(Class, ItemStack, double)}
+   *             where the golem is registered instead
    **/
+  @Deprecated
   public GolemBase addHealItem(final ItemStack s, final double multiplier) {
-    healItemMap.put(s, multiplier);
+    GolemLookup.addHealItemIfAbsent(this.getClass(), s, multiplier);
+    return this;
+  }
+
+  /**
+   * Registers every item with the given OreDictionary name as a healing item
+   * for every golem of this class, including entries registered later.
+   *
+   * @param oreName    the OreDictionary name, for example "plankWood"
+   * @param multiplier the percentage of health that should be added
+   * @deprecated heal items are shared by the class. Call
+   *             {@link GolemLookup#addHealItem(Class, String, double)}
+   *             where the golem is registered instead
+   **/
+  @Deprecated
+  public GolemBase addHealItem(final String oreName, final double multiplier) {
+    GolemLookup.addHealItemIfAbsent(this.getClass(), oreName, multiplier);
     return this;
   }
 
   /**
-   * @return a Set of ItemStacks that are valid healing items
+   * @return a Set of ItemStacks that are valid healing items. They are
+   *         registered with {@link GolemLookup#addHealItem(Class, ItemStack, double)}
    **/
   public Set<ItemStack> getHealItems() {
-    return healItemMap.keySet();
+    return getProfile().getHealItems();
   }
 
   /**
@@ -427,21 +543,20 @@ public abstract class GolemBase extends EntityIronGolem {
     return false;
   }
 
-  /** @return The Blocks used to build this golem, or null if there is none **/
+  /** @return The Blocks used to build this golem, shared by all golems of the class. Do not modify **/
   @Nullable
   public static Block[] getBuildingBlocks(GolemBase golem) {
-    return GolemLookup.getBuildingBlocks(golem.getClass());
+    return golem.getProfile().getBuildingBlocks();
   }
 
   /**
    * @param golem the golem
-   * @return The GolemConfigSet associated with this golem, or the empty GCS if there is
-   * none
+   * @return The GolemConfigSet associated with this golem, with the overrides for its
+   * dimension applied, or the empty GCS if there is none
    **/
   @Nonnull
   public static GolemConfigSet getConfig(GolemBase golem) {
-    return golem != null && GolemLookup.hasConfig(golem.getClass()) ? GolemLookup.getConfig(golem.getClass())
-        : GolemConfigSet.EMPTY;
+    return golem != null ? golem.getResolvedConfig() : GolemConfigSet.EMPTY;
   }
 
   /**
@@ -451,21 +566,16 @@ public abstract class GolemBase extends EntityIronGolem {
    **/
   public float getHealAmount(final ItemStack i) {
     if (i != null && !i.isEmpty()) {
-      // check each entry in the map for matches
-      for (final Entry<ItemStack, Double> e : healItemMap.entrySet()) {
-        // make sure item and metadata are the same (or WILDCARD)
-        boolean itemMatches = e.getKey().getItem() == i.getItem();
-        boolean metaMatches = e.getKey().getMetadata() == OreDictionary.WILDCARD_VALUE
-            || e.getKey().getMetadata() == i.getMetadata();
-        // if it's a match, use the mapped percentage to calculate health to restore
-        if (itemMatches && metaMatches) {
-          double h = this.getMaxHealth() * e.getValue();
-          if (this.isChild()) {
-            h *= 1.75D;
-          }
-          // maximum heal amount is 32, for no reason at all
-          return Math.min((float) h, 32.0F);
+      // look up the item and metadata (or WILDCARD) in the shared index
+      final double multiplier = getProfile().getHealIndex().getMultiplier(i);
+      // if it's a match, use the mapped percentage to calculate health to restore
+      if (multiplier != HealItemIndex.NONE) {
+        double h = this.getMaxHealth() * multiplier;
+        if (this.isChild()) {
+          h *= 1.75D;
         }
+        // maximum heal amount is 32, for no reason at all
+        return Math.min((float) h, 32.0F);
       }
     }
     return 0;
@@ -2,8 +2,10 @@ package com.golems.entity;
 
 import javax.annotation.Nullable;
 
+import com.golems.debug.GolemNetworkStats;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
+import com.golems.util.GolemProfile;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -19,6 +21,9 @@ public abstract class GolemColorizedMultiTextured extends GolemColorized {
 
   protected static final DataParameter<Byte> DATA_TEXTURE = EntityDataManager
       .<Byte>createKey(GolemColorizedMultiTextured.class, DataSerializers.BYTE);
+  static {
+    GolemNetworkStats.registerMetadata(DATA_TEXTURE, GolemNetworkStats.Source.METADATA_TEXTURE);
+  }
   protected static final String NBT_TEXTURE = "GolemTextureData";
   protected final int[] colors;
   protected final ResourceLocation[] lootTables;
@@ -39,12 +44,26 @@ public abstract class GolemColorizedMultiTextured extends GolemColorized {
       @Nullable final ResourceLocation overlay, final int[] lColors) {
     super(world, 0L, base, overlay);
     colors = lColors;
-    lootTables = new ResourceLocation[colors.length];
-    for (int n = 0, len = colors.length; n < len; n++) {
-      // initialize loot tables
-      this.lootTables[n] = new ResourceLocation(getModId(),
-          "entities/" + this.getEntityString().replaceAll(getModId() + ":", "") + "/" + n);
+    final GolemProfile profile = this.getProfile();
+    if (profile.getLootTables() != null) {
+      lootTables = profile.getLootTables();
+    } else {
+      lootTables = makeLootTables(getModId(), this.getEntityString().replaceAll(getModId() + ":", ""),
+          colors.length);
+    }
+  }
+
+  /**
+   * @return loot tables named '0' through '[count-1]' under the subfile [name].
+   *         Register them with {@link com.golems.util.GolemLookup#addTextures}
+   *         so every golem of the class shares them
+   **/
+  public static ResourceLocation[] makeLootTables(final String modId, final String name, final int count) {
+    final ResourceLocation[] loot = new ResourceLocation[count];
+    for (int n = 0; n < count; n++) {
+      loot[n] = new ResourceLocation(modId, "entities/" + name + "/" + n);
     }
+    return loot;
   }
 
   @Override
@@ -105,6 +124,12 @@ public abstract class GolemColorizedMultiTextured extends GolemColorized {
     return this.lootTables[this.getTextureNum() % this.lootTables.length];
   }
 
+  /** The variant of a multi-textured golem is its texture index **/
+  @Override
+  public void setVariant(final int variant) {
+    this.setTextureNum((byte) (variant % this.colors.length));
+  }
+
   public void setTextureNum(final byte toSet) {
     this.getDataManager().set(DATA_TEXTURE, new Byte(toSet));
   }
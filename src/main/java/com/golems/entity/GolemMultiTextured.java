@@ -1,7 +1,9 @@
 package com.golems.entity;
 
+import com.golems.debug.GolemNetworkStats;
 import com.golems.main.ExtraGolems;
 import com.golems.util.GolemNames;
+import com.golems.util.GolemProfile;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -21,6 +23,9 @@ public abstract class GolemMultiTextured extends GolemBase {
    **/
   protected static final DataParameter<Byte> DATA_TEXTURE = EntityDataManager.<Byte>createKey(GolemMultiTextured.class,
       DataSerializers.BYTE);
+  static {
+    GolemNetworkStats.registerMetadata(DATA_TEXTURE, GolemNetworkStats.Source.METADATA_TEXTURE);
+  }
   protected static final String NBT_TEXTURE = "GolemTextureData";
 
   /**
@@ -47,19 +52,40 @@ public abstract class GolemMultiTextured extends GolemBase {
    * }</code><br>
    * This will initialize textures for <code>golem_example_one.png</code>,
    * <code>golem_example_two.png</code> and <code>golem_example_three.png</code>,
-   * as well as loot tables for the same names with the JSON suffix
+   * as well as loot tables for the same names with the JSON suffix.
+   * Golems whose arrays were registered with
+   * {@link com.golems.util.GolemLookup#addTextures} share them; others build
+   * their own.
    **/
   public GolemMultiTextured(final World world, final String prefix, final String[] textureNames) {
     super(world);
-    this.textures = new ResourceLocation[textureNames.length];
-    this.lootTables = new ResourceLocation[textureNames.length];
+    final GolemProfile profile = this.getProfile();
+    if (profile.getTextures() != null && profile.getLootTables() != null) {
+      this.textures = profile.getTextures();
+      this.lootTables = profile.getLootTables();
+    } else {
+      this.textures = makeTextures(getModId(), prefix, textureNames);
+      this.lootTables = makeLootTables(getModId(), prefix, textureNames);
+    }
+  }
+
+  /** @return the textures for the given names, see {@link #GolemMultiTextured(World, String, String[])} **/
+  public static ResourceLocation[] makeTextures(final String modId, final String prefix, final String[] textureNames) {
+    final ResourceLocation[] tex = new ResourceLocation[textureNames.length];
+    for (int n = 0, len = textureNames.length; n < len; n++) {
+      tex[n] = GolemBase.makeTexture(modId, "golem_" + prefix + "_" + textureNames[n]);
+    }
+    return tex;
+  }
+
+  /** @return the loot tables for the given names, see {@link #GolemMultiTextured(World, String, String[])} **/
+  public static ResourceLocation[] makeLootTables(final String modId, final String prefix,
+      final String[] textureNames) {
+    final ResourceLocation[] loot = new ResourceLocation[textureNames.length];
     for (int n = 0, len = textureNames.length; n < len; n++) {
-      // initialize textures
-      final String s = textureNames[n];
-      this.textures[n] = GolemBase.makeTexture(getModId(), "golem_" + prefix + "_" + s);
-      // initialize loot tables
-      this.lootTables[n] = new ResourceLocation(getModId(), "entities/golem_" + prefix + "/" + s);
+      loot[n] = new ResourceLocation(modId, "entities/golem_" + prefix + "/" + textureNames[n]);
     }
+    return loot;
   }
 
   @Override
@@ -120,6 +146,12 @@ public abstract class GolemMultiTextured extends GolemBase {
     this.setTextureNum(nbt.getByte(NBT_TEXTURE));
   }
 
+  /** The variant of a multi-textured golem is its texture index **/
+  @Override
+  public void setVariant(final int variant) {
+    this.setTextureNum((byte) (variant % this.textures.length));
+  }
+
   /**
    * Calls {@link #setTextureNum(byte, boolean)} with <b>toSet</b> and
    * <b>true</b>.
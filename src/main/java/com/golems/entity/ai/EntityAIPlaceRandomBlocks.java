@@ -1,6 +1,11 @@
 package com.golems.entity.ai;
 
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.entity.GolemBase;
+import com.golems.util.GolemConfigKey.IntKey;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.ai.EntityAIBase;
@@ -21,9 +26,32 @@ public class EntityAIPlaceRandomBlocks extends EntityAIBase {
   public final Block[] plantSupports;
   public final boolean checkSupports;
   public final Predicate<EntityAIPlaceRandomBlocks> canExecute;
+  private final IntKey intervalKey;
+  private final float jitter;
 
   public EntityAIPlaceRandomBlocks(final GolemBase golemBase, final int ticksBetweenPlanting,
       final IBlockState[] plants, final Block[] soils, final Predicate<EntityAIPlaceRandomBlocks> pred) {
+    this(golemBase, ticksBetweenPlanting, null, 0.0F, plants, soils, pred);
+  }
+
+  /**
+   * @param golemBase   the GolemBase to use
+   * @param intervalKey config key for the average ticks between planting
+   * @param jitter      0 to 1, how far above the configured interval this golem
+   *                    plants (up to half the interval, at least 10 ticks)
+   * @param plants      the states to place
+   * @param soils       the blocks that may be planted on, or null for any
+   * @param pred        extra condition checked before planting
+   **/
+  public EntityAIPlaceRandomBlocks(final GolemBase golemBase, final IntKey intervalKey, final float jitter,
+      final IBlockState[] plants, final Block[] soils, final Predicate<EntityAIPlaceRandomBlocks> pred) {
+    this(golemBase, withJitter(GolemBase.getConfig(golemBase).getInt(intervalKey), jitter), intervalKey, jitter,
+        plants, soils, pred);
+  }
+
+  private EntityAIPlaceRandomBlocks(final GolemBase golemBase, final int ticksBetweenPlanting,
+      final IntKey intervalKey, final float jitter, final IBlockState[] plants, final Block[] soils,
+      final Predicate<EntityAIPlaceRandomBlocks> pred) {
     this.setMutexBits(8);
     this.golem = golemBase;
     this.tickDelay = ticksBetweenPlanting;
@@ -31,6 +59,8 @@ public class EntityAIPlaceRandomBlocks extends EntityAIBase {
     this.plantSupports = soils;
     this.canExecute = pred;
     this.checkSupports = (soils != null);
+    this.intervalKey = intervalKey;
+    this.jitter = jitter;
   }
 
   public EntityAIPlaceRandomBlocks(final GolemBase golemBase, final int ticksBetweenPlanting,
@@ -38,13 +68,24 @@ public class EntityAIPlaceRandomBlocks extends EntityAIBase {
     this(golemBase, ticksBetweenPlanting, plants, null, p);
   }
 
+  /** @return ticks between planting, from the config if this AI was built with a key **/
+  public int getTickDelay() {
+    return Math.max(1, intervalKey != null
+        ? withJitter(GolemBase.getConfig(golem).getInt(intervalKey), jitter) : tickDelay);
+  }
+
+  private static int withJitter(final int interval, final float jitter) {
+    return interval + (int) (jitter * Math.max(10, interval / 2));
+  }
+
   @Override
   public boolean shouldExecute() {
-    return golem.world.rand.nextInt(tickDelay) == 0 && this.canExecute.test(this);
+    return golem.world.rand.nextInt(getTickDelay()) == 0 && this.canExecute.test(this);
   }
 
   @Override
   public void startExecuting() {
+    final long start = GolemTickProfiler.start();
     final int x = MathHelper.floor(golem.posX);
     final int y = MathHelper.floor(golem.posY - 0.20000000298023224D);
     final int z = MathHelper.floor(golem.posZ);
@@ -54,6 +95,7 @@ public class EntityAIPlaceRandomBlocks extends EntityAIBase {
     if (golem.world.isAirBlock(in) && isPlantSupport(golem.world, below)) {
       setToPlant(golem.world, in);
     }
+    GolemTickProfiler.stop(golem, Section.AI, start);
   }
 
   @Override
@@ -63,7 +105,11 @@ public class EntityAIPlaceRandomBlocks extends EntityAIBase {
 
   public boolean setToPlant(final World world, final BlockPos pos) {
     final IBlockState state = this.plantables[world.rand.nextInt(this.plantables.length)];
-    return world.setBlockState(pos, state, 2);
+    if (world.setBlockState(pos, state, 2)) {
+      GolemBlockWrites.record(world, pos, Source.PLANTING);
+      return true;
+    }
+    return false;
   }
 
   public boolean isPlantSupport(final World world, final BlockPos pos) {
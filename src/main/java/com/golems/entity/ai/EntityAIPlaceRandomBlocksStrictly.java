@@ -1,6 +1,8 @@
 package com.golems.entity.ai;
 
 import com.golems.entity.GolemBase;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 
@@ -19,9 +21,18 @@ public class EntityAIPlaceRandomBlocksStrictly extends EntityAIPlaceRandomBlocks
     this(golemBase, ticksBetweenPlanting, plants, null, configAllows);
   }
 
+  /**
+   * Reads the interval and the permission from the config each time the AI
+   * is polled, so a config reload reaches golems that are already alive.
+   **/
+  public EntityAIPlaceRandomBlocksStrictly(final GolemBase golemBase, final IntKey intervalKey,
+      final BooleanKey allowKey, final float jitter, final IBlockState[] plants, @Nullable final Block[] soils) {
+    super(golemBase, intervalKey, jitter, plants, soils, (t -> GolemBase.getConfig(t.golem).getBoolean(allowKey)));
+  }
+
   @Override
   public boolean shouldExecute() {
-    return canExecute.test(this) && golem.world.rand.nextInt(tickDelay) == 0;
+    return canExecute.test(this) && golem.world.rand.nextInt(getTickDelay()) == 0;
   }
 
   public static Predicate<EntityAIPlaceRandomBlocks> getGriefingPredicate() {
@@ -2,7 +2,15 @@ package com.golems.entity.ai;
 
 import java.util.function.BiPredicate;
 
+import com.golems.blocks.BlockUtilityPower;
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemBlockWrites.Source;
+import com.golems.debug.GolemFlightRecorder;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.GolemTickProfiler.Section;
 import com.golems.entity.GolemBase;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.IntKey;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.ai.EntityAIBase;
@@ -12,7 +20,8 @@ import net.minecraft.util.math.MathHelper;
 
 /**
  * Places a single IBlockState every {@code tickDelay} ticks with certain
- * conditions
+ * conditions. When built with config keys, the interval and permission are
+ * read from the golem's config each time, so they follow config reloads.
  **/
 public class EntityAIUtilityBlock extends EntityAIBase {
 
@@ -21,6 +30,9 @@ public class EntityAIUtilityBlock extends EntityAIBase {
   public final int tickDelay;
   public final boolean configAllows;
   public final BiPredicate<GolemBase, IBlockState> predicate;
+  private final Source writeSource;
+  private final IntKey intervalKey;
+  private final BooleanKey allowKey;
 
   /**
    * @param golemIn        the GolemBase to use
@@ -40,6 +52,67 @@ public class EntityAIUtilityBlock extends EntityAIBase {
     this.tickDelay = interval;
     this.configAllows = cfgAllows;
     this.predicate = canReplacePred;
+    this.writeSource = stateIn.getBlock() instanceof BlockUtilityPower ? Source.UTILITY_POWER : Source.UTILITY_LIGHT;
+    this.intervalKey = null;
+    this.allowKey = null;
+  }
+
+  /**
+   * @param golemIn        the GolemBase to use
+   * @param stateIn        the IBlockState that will be placed
+   * @param intervalKey    config key for the ticks between placing blocks
+   * @param allowKey       config key for whether this AI is enabled
+   * @param canReplacePred BiPredicate to use when determining whether to place
+   *                       a Block
+   **/
+  public EntityAIUtilityBlock(final GolemBase golemIn, final IBlockState stateIn, final IntKey intervalKey,
+      final BooleanKey allowKey, final BiPredicate<GolemBase, IBlockState> canReplacePred) {
+    this.setMutexBits(8);
+    this.golem = golemIn;
+    this.stateToPlace = stateIn;
+    this.tickDelay = GolemBase.getConfig(golemIn).getInt(intervalKey);
+    this.configAllows = GolemBase.getConfig(golemIn).getBoolean(allowKey);
+    this.predicate = canReplacePred;
+    this.writeSource = stateIn.getBlock() instanceof BlockUtilityPower ? Source.UTILITY_POWER : Source.UTILITY_LIGHT;
+    this.intervalKey = intervalKey;
+    this.allowKey = allowKey;
+  }
+
+  public EntityAIUtilityBlock(final GolemBase golemIn, final IBlockState stateIn, final IntKey intervalKey,
+      final BooleanKey allowKey) {
+    this(golemIn, stateIn, intervalKey, allowKey, getDefaultBiPred(stateIn));
+  }
+
+  /**
+   * Constructor for a fixed interval whose permission is read from the config
+   * each time the AI is polled. Only replaces air.
+   *
+   * @param golemIn  the GolemBase to use
+   * @param stateIn  the IBlockState that will be placed every {@code interval} ticks
+   * @param interval ticks between placing block
+   * @param allowKey config key for whether this AI is enabled
+   **/
+  public EntityAIUtilityBlock(final GolemBase golemIn, final IBlockState stateIn, final int interval,
+      final BooleanKey allowKey) {
+    this.setMutexBits(8);
+    this.golem = golemIn;
+    this.stateToPlace = stateIn;
+    this.tickDelay = interval;
+    this.configAllows = GolemBase.getConfig(golemIn).getBoolean(allowKey);
+    this.predicate = getDefaultBiPred(stateIn);
+    this.writeSource = stateIn.getBlock() instanceof BlockUtilityPower ? Source.UTILITY_POWER : Source.UTILITY_LIGHT;
+    this.intervalKey = null;
+    this.allowKey = allowKey;
+  }
+
+  /** @return ticks between placing blocks, from the config if this AI was built with keys **/
+  public int getTickDelay() {
+    return Math.max(1, intervalKey != null ? GolemBase.getConfig(golem).getInt(intervalKey) : tickDelay);
+  }
+
+  /** @return whether this AI is enabled, from the config if this AI was built with keys **/
+  public boolean isAllowed() {
+    return allowKey != null ? GolemBase.getConfig(golem).getBoolean(allowKey) : configAllows;
   }
 
   /**
@@ -59,7 +132,7 @@ public class EntityAIUtilityBlock extends EntityAIBase {
 
   @Override
   public boolean shouldExecute() {
-    return this.configAllows;
+    return this.isAllowed();
   }
 
   /**
@@ -67,26 +140,40 @@ public class EntityAIUtilityBlock extends EntityAIBase {
    */
   @Override
   public void updateTask() {
-    long tickMod = this.golem.ticksExisted % this.tickDelay;
-    if (this.configAllows && tickMod == (long) 0) {
-      final int x = MathHelper.floor(golem.posX);
-      final int y = MathHelper.floor(golem.posY - 0.20000000298023224D - golem.getYOffset());
-      final int z = MathHelper.floor(golem.posZ);
-      final BlockPos blockPosIn = new BlockPos(x, y, z);
-      // test the predicate against each BlockPos in a vertical column around this
-      // golem
-      // when it passes, place the block and return
-      for (int i = 0; i < 3; i++) {
-        BlockPos temp = blockPosIn.up(i);
-        final IBlockState cur = golem.getEntityWorld().getBlockState(temp);
-        // if there's already a matching block, stop here
-        if (cur.getBlock() == stateToPlace.getBlock()) {
-          return;
-        }
-        if (this.predicate.test(golem, cur)) {
-          this.golem.getEntityWorld().setBlockState(temp, getStateToPlace(cur), 2 | 4);
-          return;
+    long tickMod = this.golem.ticksExisted % this.getTickDelay();
+    if (tickMod == (long) 0 && this.isAllowed()) {
+      final long start = GolemTickProfiler.start();
+      try {
+        placeBlock();
+      } finally {
+        GolemTickProfiler.stop(golem, Section.AI, start);
+      }
+    }
+  }
+
+  /** Places {@link #stateToPlace} in the first spot of the column around the golem that passes the predicate **/
+  private void placeBlock() {
+    final int x = MathHelper.floor(golem.posX);
+    final int y = MathHelper.floor(golem.posY - 0.20000000298023224D - golem.getYOffset());
+    final int z = MathHelper.floor(golem.posZ);
+    final BlockPos blockPosIn = new BlockPos(x, y, z);
+    // test the predicate against each BlockPos in a vertical column around this
+    // golem
+    // when it passes, place the block and return
+    for (int i = 0; i < 3; i++) {
+      BlockPos temp = blockPosIn.up(i);
+      final IBlockState cur = golem.getEntityWorld().getBlockState(temp);
+      // if there's already a matching block, stop here
+      if (cur.getBlock() == stateToPlace.getBlock()) {
+        return;
+      }
+      if (this.predicate.test(golem, cur)) {
+        final Object jfrEvent = GolemFlightRecorder.beginUtilityBlock();
+        if (this.golem.getEntityWorld().setBlockState(temp, getStateToPlace(cur), 2 | 4)) {
+          GolemBlockWrites.record(this.golem.getEntityWorld(), temp, writeSource);
+          GolemFlightRecorder.utilityBlock(jfrEvent, this.golem, this.stateToPlace.getBlock(), true);
         }
+        return;
       }
     }
   }
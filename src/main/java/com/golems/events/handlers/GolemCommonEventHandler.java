@@ -1,11 +1,13 @@
 package com.golems.events.handlers;
 
 import com.golems.blocks.BlockGolemHead;
+import com.golems.debug.GolemFlightRecorder;
 import com.golems.entity.*;
 import com.golems.items.ItemBedrockGolem;
 import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
-import com.golems.util.ReflectionUtil;
+import com.golems.util.GolemConfigOverrides;
+import com.golems.util.GolemLookup;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.BlockPumpkin;
@@ -22,19 +24,32 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.village.Village;
+import net.minecraft.world.World;
 import net.minecraft.world.biome.*;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.living.LivingSetAttackTargetEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.oredict.OreDictionary;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
 
 /**
@@ -43,7 +58,58 @@ import java.util.Random;
 public class GolemCommonEventHandler {
 
   public static final Logger LOGGER = LogManager.getFormatterLogger(ExtraGolems.MODID);
-  private static List<String> entityAINearestAttackableTargetTargetClassFieldNames = new ArrayList<>();
+
+  /** Creatures that joined each server world and still need their target tasks adjusted **/
+  private static final Map<World, Queue<EntityCreature>> PENDING_TARGET_TASKS = new HashMap<>();
+
+  /**
+   * Getter for the target class of each EntityAINearestAttackableTarget type,
+   * found with reflection once per class. The field is matched by type, not
+   * name, so it works with obfuscated names. Null if the class has none
+   **/
+  private static final ClassValue<MethodHandle> TARGET_CLASS_GETTERS = new ClassValue<MethodHandle>() {
+    @Override
+    protected MethodHandle computeValue(final Class<?> type) {
+      if (!EntityAINearestAttackableTarget.class.isAssignableFrom(type)) {
+        return null;
+      }
+      for (final Field field : EntityAINearestAttackableTarget.class.getDeclaredFields()) {
+        if (field.getType() == Class.class && !Modifier.isStatic(field.getModifiers())) {
+          try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+          } catch (final IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Cannot read the target class of %s: %s", type.getName(), e);
+            return null;
+          }
+        }
+      }
+      return null;
+    }
+  };
+
+  /**
+   * Heal items registered by OreDictionary name and golem building blocks
+   * pick up new entries the next time they are used
+   **/
+  @SubscribeEvent
+  public void onOreRegister(final OreDictionary.OreRegisterEvent event) {
+    GolemLookup.invalidateProfiles();
+    GolemLookup.invalidateBlockIndex();
+  }
+
+  /** Resolves the golem config overrides for this world's dimension once, before golems tick in it **/
+  @SubscribeEvent
+  public void onWorldLoad(final WorldEvent.Load event) {
+    GolemConfigOverrides.onWorldLoad(event.getWorld());
+  }
+
+  @SubscribeEvent
+  public void onWorldUnload(final WorldEvent.Unload event) {
+    GolemConfigOverrides.onWorldUnload(event.getWorld());
+    PENDING_TARGET_TASKS.remove(event.getWorld());
+  }
 
   @SubscribeEvent
   public void onPopulateChunk(PopulateChunkEvent.Post event) {
@@ -61,6 +127,7 @@ public class GolemCommonEventHandler {
         Biome biome = event.getWorld().getBiome(pos);
         Class<? extends GolemBase> golemClazz = getGolemForBiome(biome, event.getRand());
         if (golemClazz != null) {
+          final Object jfrEvent = GolemFlightRecorder.beginVillageSpawn();
           GolemBase golemInstance = (GolemBase) EntityList.newEntity(golemClazz, event.getWorld());
           BlockPos spawn = getSafeSpawnPos(golemInstance, pos.add(8, 0, 8));
           if (spawn != null) {
@@ -78,6 +145,7 @@ public class GolemCommonEventHandler {
               ((GolemColorizedMultiTextured) golemInstance).setTextureNum(texture);
             }
           }
+          GolemFlightRecorder.villageSpawn(jfrEvent, golemClazz, event.getChunkX(), event.getChunkZ(), spawn != null);
         }
       }
     }
@@ -251,67 +319,85 @@ public class GolemCommonEventHandler {
 //		}
   }
 
-  private Field fetchTargetClassFieldFromClass(Object aiTask) {
-    Class<?> clazz = aiTask.getClass();
-    clazz = !clazz.getSimpleName().equals("EntityAINearestAttackableTarget") ? aiTask.getClass().getSuperclass() : clazz;
-    clazz = !clazz.getSimpleName().equals("EntityAINearestAttackableTarget") ? clazz.getSuperclass() : clazz;
-    Field[] entityAINearestAttackableTargetFields = ReflectionUtil.getClassFields(clazz);
-    //LOGGER.info("fields found: " + entityAINearestAttackableTargetFields.length);
-    for (Field field : entityAINearestAttackableTargetFields) {
-      //LOGGER.info("field name: " + field.getName());
-      //LOGGER.info("field type: " + field.getType());
-      Object fieldValue = ReflectionUtil.getFieldValueNoException(field.getName(), aiTask);
-      if (field.getType().equals(Class.class) && fieldValue.equals(EntityPlayer.class)) {
-        //LOGGER.info("found entityAINearestAttackableTargetTargetClassFieldName field");
-        return field;
-      }
+  /**
+   * The target class of a task, or null if it has none. Checked per task
+   * because the same task class can target different entities
+   **/
+  @Nullable
+  private static Object getTargetClass(final Object aiTask) {
+    final MethodHandle getter = TARGET_CLASS_GETTERS.get(aiTask.getClass());
+    if (getter == null) {
+      return null;
+    }
+    try {
+      return (Object) getter.invokeExact(aiTask);
+    } catch (final Throwable e) {
+      return null;
     }
-    return null;
   }
 
-  private boolean doesAiTaskTargetPlayer(Object aiTask) {
-    boolean result = false;
-    //LOGGER.info("AITask class name: " + aiTask.getClass().getSimpleName(), ", superclass = " + aiTask.getClass().getSuperclass().getSimpleName());
-    Object fetchedFieldValue = null;
-    for (String possibleFieldName : entityAINearestAttackableTargetTargetClassFieldNames) {
-      fetchedFieldValue = ReflectionUtil.getFieldValueNoException(possibleFieldName, aiTask);
-      if (fetchedFieldValue != null) {
-        break;
-      }
+  /**
+   * Queues each creature that joins a server world. Its target tasks are
+   * adjusted at the end of the world tick instead of in the middle of
+   * loading the chunk, see {@link #onWorldTick(TickEvent.WorldTickEvent)}.
+   * Client-side creatures do not run target tasks, so they are skipped
+   **/
+  @SubscribeEvent
+  public void onEntitySpawn(EntityJoinWorldEvent event) {
+    if (event.getEntity() instanceof EntityCreature && !event.getWorld().isRemote) {
+      PENDING_TARGET_TASKS.computeIfAbsent(event.getWorld(), w -> new ArrayDeque<>())
+          .add((EntityCreature) event.getEntity());
     }
-    if (fetchedFieldValue == null || entityAINearestAttackableTargetTargetClassFieldNames.isEmpty()) {
-      Field fetchedField = fetchTargetClassFieldFromClass(aiTask);
-      if (fetchedField != null) {
-        entityAINearestAttackableTargetTargetClassFieldNames.add(fetchedField.getName());
-        fetchedFieldValue = ReflectionUtil.getFieldValueNoException(fetchedField.getName(), aiTask);
+  }
+
+  /**
+   * Adjusts the target tasks of up to {@link Config#getTargetTaskBudget()}
+   * queued creatures in this world. The rest wait for the next tick, so a
+   * chunk-load storm is spread over several ticks
+   **/
+  @SubscribeEvent
+  public void onWorldTick(final TickEvent.WorldTickEvent event) {
+    if (event.phase != TickEvent.Phase.END || event.side != Side.SERVER) {
+      return;
+    }
+    final Queue<EntityCreature> queue = PENDING_TARGET_TASKS.get(event.world);
+    if (queue == null) {
+      return;
+    }
+    int budget = Config.getTargetTaskBudget();
+    EntityCreature creature;
+    while (budget > 0 && (creature = queue.poll()) != null) {
+      if (!creature.isDead) {
+        adjustTargetTasks(creature);
+        budget--;
       }
     }
-    return fetchedFieldValue != null && fetchedFieldValue.equals(EntityPlayer.class);
   }
 
-  @SubscribeEvent
-  public void onEntitySpawn(EntityJoinWorldEvent event) {
-    Entity entity = event.getEntity();
-    if (entity instanceof EntityCreature) {
-      EntityCreature livingEntity = (EntityCreature) entity;
-      List<EntityAITasks.EntityAITaskEntry> toRemove = new ArrayList<>();
-      boolean foundPlayerTargetingTask = false;
+  /**
+   * Moves tasks that make a creature look for players below the other target
+   * tasks (priority 3), so it prefers golems it can see
+   **/
+  private static void adjustTargetTasks(final EntityCreature livingEntity) {
+    List<EntityAITasks.EntityAITaskEntry> toRemove = null;
 
-      for (EntityAITasks.EntityAITaskEntry entityAITaskEntry : livingEntity.targetTasks.taskEntries) {
-        if(entityAITaskEntry.action instanceof EntityAINearestAttackableTarget) {
-          if (doesAiTaskTargetPlayer(entityAITaskEntry.action)) {
-            toRemove.add(entityAITaskEntry);
-            foundPlayerTargetingTask = true;
-          }
+    for (EntityAITasks.EntityAITaskEntry entityAITaskEntry : livingEntity.targetTasks.taskEntries) {
+      if (entityAITaskEntry.action instanceof EntityAINearestAttackableTarget
+          && getTargetClass(entityAITaskEntry.action) == EntityPlayer.class) {
+        if (toRemove == null) {
+          toRemove = new ArrayList<>(2);
         }
+        toRemove.add(entityAITaskEntry);
       }
+    }
 
-      if(foundPlayerTargetingTask) {
-        LOGGER.info("adjusting player target priority for " + entity.getName());
-        for (EntityAITasks.EntityAITaskEntry taskEntry : toRemove) {
-          livingEntity.targetTasks.removeTask(taskEntry.action);
-          livingEntity.targetTasks.addTask(3,taskEntry.action);
-        }
+    if (toRemove != null) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("adjusting player target priority for %s", livingEntity.getName());
+      }
+      for (EntityAITasks.EntityAITaskEntry taskEntry : toRemove) {
+        livingEntity.targetTasks.removeTask(taskEntry.action);
+        livingEntity.targetTasks.addTask(3, taskEntry.action);
       }
     }
   }
@@ -0,0 +1,83 @@
+package com.golems.events.handlers;
+
+import com.golems.debug.GolemBlockWrites;
+import com.golems.debug.GolemCensus;
+import com.golems.debug.GolemEventStats;
+import com.golems.debug.GolemLoadTest;
+import com.golems.entity.GolemBase;
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+/**
+ * World and tick hooks for the debug tools in {@code com.golems.debug}: keeps
+ * the {@link GolemCensus} in step with golems joining and unloading, drops
+ * {@link GolemBlockWrites} stats of unloaded chunks, times
+ * ticks for a running {@link GolemLoadTest}, and logs the golem event
+ * profiler summary at the configured interval.
+ **/
+public class GolemDebugEventHandler {
+
+  private static final int MAX_LISTENERS_LOGGED = 5;
+
+  private int ticks;
+
+  /** Lowest priority so that golems whose spawn another mod cancels are never counted **/
+  @SubscribeEvent(priority = EventPriority.LOWEST)
+  public void onEntityJoinWorld(final EntityJoinWorldEvent event) {
+    if (event.getEntity() instanceof GolemBase) {
+      GolemCensus.add((GolemBase) event.getEntity());
+    }
+  }
+
+  @SubscribeEvent
+  public void onChunkUnload(final ChunkEvent.Unload event) {
+    if (event.getWorld().isRemote) {
+      return;
+    }
+    GolemBlockWrites.onChunkUnload(event.getWorld().provider.getDimension(), event.getChunk().x, event.getChunk().z);
+    for (final ClassInheritanceMultiMap<Entity> section : event.getChunk().getEntityLists()) {
+      for (final GolemBase golem : section.getByClass(GolemBase.class)) {
+        GolemCensus.remove(golem);
+      }
+    }
+  }
+
+  @SubscribeEvent
+  public void onWorldUnload(final WorldEvent.Unload event) {
+    if (!event.getWorld().isRemote) {
+      GolemCensus.clearDimension(event.getWorld().provider.getDimension());
+      GolemBlockWrites.onWorldUnload(event.getWorld().provider.getDimension());
+    }
+  }
+
+  @SubscribeEvent
+  public void onServerTick(final TickEvent.ServerTickEvent event) {
+    if (event.phase == TickEvent.Phase.START) {
+      GolemLoadTest.onTickStart();
+      return;
+    }
+    GolemLoadTest.onTickEnd(FMLCommonHandler.instance().getMinecraftServerInstance());
+    if (!GolemEventStats.isEnabled() || Config.getEventStatsLogInterval() <= 0) {
+      return;
+    }
+    if (++ticks >= Config.getEventStatsLogInterval() * 60 * 20) {
+      ticks = 0;
+      if (!GolemEventStats.getStats().isEmpty()) {
+        ExtraGolems.LOGGER.info("Golem event costs since the last reset:");
+        for (final String line : GolemEventStats.summarize(MAX_LISTENERS_LOGGED)) {
+          ExtraGolems.LOGGER.info(line);
+        }
+      }
+    }
+  }
+}
@@ -1,24 +1,18 @@
 package com.golems.gui;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import com.golems.entity.EntityBedrockGolem;
-import com.golems.entity.EntityRedstoneLampGolem;
-import com.golems.entity.GolemBase;
 import com.golems.entity.GolemMultiTextured;
 import com.golems.main.ExtraGolems;
-import com.golems.util.GolemLookup;
+import com.golems.util.GolemDescriptor;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.resources.I18n;
-import net.minecraft.entity.EntityList;
-import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.TextFormatting;
@@ -38,19 +32,19 @@ public class GolemBookEntry {
   private final float ATTACK;
   private final List<String> SPECIALS;
 
-  public GolemBookEntry(@Nonnull GolemBase golem) {
+  public GolemBookEntry(@Nonnull GolemDescriptor golem) {
     // initialize fields based on golem attributes
-    this.GOLEM_NAME = "entity." + EntityList.getEntityString(golem) + ".name";
-    this.MULTI_TEXTURE = golem.doesInteractChangeTexture() && !(golem instanceof EntityRedstoneLampGolem);
-    this.FIREPROOF = (golem.isImmuneToFire() && !(golem instanceof EntityBedrockGolem));
+    this.GOLEM_NAME = "entity." + golem.getEntityName() + ".name";
+    this.MULTI_TEXTURE = golem.isMultiTexture();
+    this.FIREPROOF = golem.isFireproof();
     this.HEALTH = (int) golem.getMaxHealth();
-    this.ATTACK = (float) golem.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).getBaseValue();
-    this.SPECIALS = golem.addSpecialDesc(new ArrayList<String>());
-    this.BLOCKS = GolemLookup.getBuildingBlocks(golem.getClass());
+    this.ATTACK = golem.getAttack();
+    this.SPECIALS = golem.getSpecials();
+    this.BLOCKS = golem.getBuildingBlocks();
 
     // find the image to add to the book (if it exists)
     final String img = (ExtraGolems.MODID + ":textures/gui/screenshots/")
-        .concat(EntityList.getEntityString(golem).replaceFirst(ExtraGolems.MODID + ".", "")).concat(".png");
+        .concat(golem.getEntityName().replaceFirst(ExtraGolems.MODID + ".", "")).concat(".png");
     try {
       // System.out.println("LOADING IMAGE: " + img);
       this.IMAGE = Minecraft.getMinecraft().getResourceManager().getResource(new ResourceLocation(img))
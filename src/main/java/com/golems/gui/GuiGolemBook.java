@@ -5,9 +5,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import com.golems.entity.GolemBase;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
+import com.golems.util.GolemDescriptor;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
@@ -115,6 +115,8 @@ public class GuiGolemBook extends GuiScreen {
 
   public static final List<GolemBookEntry> GOLEMS = new ArrayList();
   private static final List<GolemBookEntry> ALPHABETICAL = new ArrayList();
+  /** Descriptor generation the entries were built from **/
+  private static int entriesGeneration;
   private final EntityPlayer player;
   private final ItemStack book;
 
@@ -156,7 +158,7 @@ public class GuiGolemBook extends GuiScreen {
 
   public GuiGolemBook(EntityPlayer playerIn, ItemStack itemIn) {
     super();
-    if (GOLEMS.isEmpty()) {
+    if (GOLEMS.isEmpty() || entriesGeneration != GolemDescriptor.getGeneration()) {
       initGolemBookEntries(playerIn.getEntityWorld());
     }
     this.player = playerIn;
@@ -170,12 +172,14 @@ public class GuiGolemBook extends GuiScreen {
   }
 
   /**
-   * Populates the GolemEntry list to use in book gui
+   * Populates the GolemEntry list to use in book gui. Built again when the
+   * golem descriptors are dropped after a config reload.
    **/
   private static final void initGolemBookEntries(World world) {
+    entriesGeneration = GolemDescriptor.getGeneration();
     GOLEMS.clear();
-    for (GolemBase golem : ExtraGolems.proxy.DUMMY_GOLEMS) {
-      if (GolemBase.getConfig(golem).canSpawn()) {
+    for (GolemDescriptor golem : GolemDescriptor.getAll(world)) {
+      if (golem.getConfig().canSpawn()) {
         GOLEMS.add(new GolemBookEntry(golem));
       }
     }
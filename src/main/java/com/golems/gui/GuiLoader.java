@@ -1,7 +1,5 @@
 package com.golems.gui;
 
-import com.golems.main.ExtraGolems;
-import com.golems.util.GolemLookup;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -17,10 +15,6 @@ public final class GuiLoader {
     // only load client-side, of course
     if (!playerIn.getEntityWorld().isRemote)
       return;
-    // populate the DummyGolems list if it is empty
-    if (ExtraGolems.proxy.DUMMY_GOLEMS.isEmpty()) {
-      ExtraGolems.proxy.DUMMY_GOLEMS.addAll(GolemLookup.getDummyGolemList(playerIn.getEntityWorld()));
-    }
     // open the gui
     Minecraft.getMinecraft().displayGuiScreen(new GuiGolemBook(playerIn, itemstack));
   }
@@ -1,21 +1,14 @@
 package com.golems.integration;
 
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 
-import com.golems.entity.EntityBedrockGolem;
-import com.golems.entity.EntityRedstoneLampGolem;
 import com.golems.entity.GolemBase;
+import com.golems.util.GolemDescriptor;
 
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.item.Item;
-import net.minecraft.item.ItemStack;
-import net.minecraft.util.NonNullList;
 import net.minecraft.util.text.TextFormatting;
-import net.minecraftforge.oredict.OreDictionary;
 
 /**
  * Base class to get in-game information about types of golems. Currently used
@@ -44,6 +37,8 @@ public abstract class GolemDescriptionManager {
   /**
    * Checks the passed golem for various characteristics, making a String for each
    * one. Use this from a child class in order to populate your descriptions.
+   * Attack and specials are read from the golem itself; everything that is the
+   * same for each golem of its type comes from its {@link GolemDescriptor}.
    * 
    * @return a LinkedList containing all descriptions that apply to the passed
    *         golem
@@ -51,24 +46,24 @@ public abstract class GolemDescriptionManager {
   @SuppressWarnings("WeakerAccess")
   public List<String> getEntityDescription(final GolemBase golem) {
     List<String> list = new LinkedList<>();
+    final GolemDescriptor descriptor = GolemDescriptor.get(golem);
     if (showAttack) {
       final float attackAmount = (float) golem.getEntityAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).getBaseValue();
       list.add(TextFormatting.GRAY + trans("entitytip.attack") + " : " + TextFormatting.WHITE + attackAmount);
     }
 
     // add right-click-texture to tip if possible
-    if (this.showMultiTexture && golem.doesInteractChangeTexture() && !(golem instanceof EntityRedstoneLampGolem)) {
+    if (this.showMultiTexture && descriptor.isMultiTexture()) {
       list.add(TextFormatting.BLUE + trans("entitytip.click_change_texture"));
     }
 
     // add fire immunity to tip if possible
-    if (this.showFireproof && golem.isImmuneToFire() && !(golem instanceof EntityBedrockGolem)) {
+    if (this.showFireproof && descriptor.isFireproof()) {
       list.add(TextFormatting.GOLD + trans("entitytip.is_fireproof"));
     }
 
     // add knockback resist to tip if possible
-    if (this.showKnockbackResist
-        && golem.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).getBaseValue() > 0.8999D) {
+    if (this.showKnockbackResist && descriptor.isKnockbackResistant()) {
       final String sResist = TextFormatting.GRAY + trans("attribute.name.generic.knockbackResistance");
       list.add(sResist);
     }
@@ -76,26 +71,8 @@ public abstract class GolemDescriptionManager {
     // add heal item list to tip if possible
     if (this.showHealItems) {
       list.add(TextFormatting.RED + trans("entitytip.heal_items"));
-      // use a set to avoid duplicate entries
-      final Set<String> set = new HashSet<>();
-      final String prefix = TextFormatting.RED + "\u2764" + TextFormatting.GRAY + " ";
-      // iterate through all healing items
-      for (final ItemStack s : golem.getHealItems()) {
-        // for wildcard items, iterate through subtypes and add each one's name
-        if (s.getMetadata() == OreDictionary.WILDCARD_VALUE) {
-          final Item i = s.getItem();
-          final NonNullList<ItemStack> subItems = NonNullList.create();
-          i.getSubItems(i.getCreativeTab(), subItems);
-          for (final ItemStack s2 : subItems) {
-            set.add(prefix + i.getItemStackDisplayName(s2));
-          }
-        } else {
-          // for non-wildcard items, just add the itemstack name
-          set.add(prefix + s.getDisplayName());
-        }
-      }
-      // add all of the itemstack names to the master list
-      list.addAll(set);
+      // names are built once per type of golem, not every time the tooltip is drawn
+      list.addAll(descriptor.getHealItemNames());
     }
 
     // add special information
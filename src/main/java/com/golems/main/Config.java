@@ -1,5 +1,6 @@
 package com.golems.main;
 
+import com.golems.debug.GolemMetricsExporter;
 import com.golems.entity.*;
 import com.golems.util.GolemConfigSet;
 import com.golems.util.GolemLookup;
@@ -10,6 +11,7 @@ import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +34,20 @@ public final class Config {
   private static boolean enableInteractTexture;
   private static boolean enableFriendlyFire = false;
   private static boolean enableHealGolems;
+  private static boolean enableTickProfiler;
+  private static boolean enableBlockWriteStats;
+  private static int blockWriteWarnThreshold;
+  private static boolean enableEventProfiler;
+  private static int eventStatsLogInterval;
+  private static int censusChunkWarnThreshold;
+  private static String metricsExport;
+  private static String metricsFile;
+  private static int metricsInterval;
+  private static int metricsPort;
+  private static boolean enableNetworkAccounting;
+  private static boolean enableConfigHotReload;
+  private static int targetTaskBudget;
+  private static File configFile;
   private static int villageGolemSpawnChance;
   private static String[] villageGolemSpawnsDesert = new String[] { GolemNames.STRAW_GOLEM, GolemNames.SANDSTONE_GOLEM,
       GolemNames.SANDSTONE_GOLEM, GolemNames.SANDSTONE_GOLEM, GolemNames.REDSANDSTONE_GOLEM, GolemNames.BONE_GOLEM,
@@ -48,6 +64,7 @@ public final class Config {
 
   public static void mainRegistry(final Configuration config) {
     config.load();
+    configFile = config.getConfigFile();
     GolemConfigSet.EMPTY = new GolemConfigSet(config, "test", false, 0.0D, 0.0F);
     initGolemConfigSets(config);
     loadOther(config);
@@ -60,43 +77,43 @@ public final class Config {
     int randomHealSec = RANDOM_HEAL_TIMER / 20;
     GolemLookup.addConfig(EntityBedrockGolem.class, new GolemConfigSet(config, "Bedrock Golem", 999.0D, 32.0F));
     GolemLookup.addConfig(EntityBoneGolem.class, new GolemConfigSet(config, "Bone Golem", 54.0D, 9.5F));
-    GolemLookup.addConfig(EntityBookshelfGolem.class, new GolemConfigSet(config, "Bookshelf Golem", 28.0D, 1.5F).addKey(EntityBookshelfGolem.ALLOW_SPECIAL, true, "Whether this golem can give itself potion effects"));
+    GolemLookup.addConfig(EntityBookshelfGolem.class, new GolemConfigSet(config, "Bookshelf Golem", 28.0D, 1.5F).addKey(EntityBookshelfGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can give itself potion effects"));
     GolemLookup.addConfig(EntityClayGolem.class, new GolemConfigSet(config, "Clay Golem", 20.0D, 2.0F));
-    GolemLookup.addConfig(EntityCoalGolem.class, new GolemConfigSet(config, "Coal Golem", 14.0D, 2.5F).addKey(EntityCoalGolem.ALLOW_SPECIAL, false, "Whether this golem can inflict blindness"));
-    GolemLookup.addConfig(EntityConcreteGolem.class, new GolemConfigSet(config, "Concrete Golem", 38.0D, 6.0F).addKey(EntityConcreteGolem.ALLOW_RESIST, true, "Whether this golem reduces damage it takes"));
+    GolemLookup.addConfig(EntityCoalGolem.class, new GolemConfigSet(config, "Coal Golem", 14.0D, 2.5F).addKey(EntityCoalGolem.ALLOW_SPECIAL_KEY, false, "Whether this golem can inflict blindness"));
+    GolemLookup.addConfig(EntityConcreteGolem.class, new GolemConfigSet(config, "Concrete Golem", 38.0D, 6.0F).addKey(EntityConcreteGolem.ALLOW_RESIST_KEY, true, "Whether this golem reduces damage it takes"));
     GolemLookup.addConfig(EntityCobblestoneGolem.class, new GolemConfigSet(config, "Cobblestone Golem", 30.0D, 4.00F));
-    GolemLookup.addConfig(EntityCraftingGolem.class, new GolemConfigSet(config, "Crafting Golem", 24.0D, 2.0F).addKey(EntityCraftingGolem.ALLOW_SPECIAL, true, "Whether this golem can open a crafting grid"));
+    GolemLookup.addConfig(EntityCraftingGolem.class, new GolemConfigSet(config, "Crafting Golem", 24.0D, 2.0F).addKey(EntityCraftingGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can open a crafting grid"));
     GolemLookup.addConfig(EntityDiamondGolem.class, new GolemConfigSet(config, "Diamond Golem", 220.0D, 20.0F));
-    GolemLookup.addConfig(EntityDispenserGolem.class, new GolemConfigSet(config, "Dispenser Golem", 78.0D, 5.2F).addKey(EntityDispenserGolem.ALLOW_SPECIAL, true, "Whether the golem can shoot arrows").addKey(EntityDispenserGolem.ARROW_DAMAGE, 4.25F, 0F, 50F, "Base amount of damage dealt per arrow").addKey(EntityDispenserGolem.ARROW_SPEED, 30, 1, 12000, "Number of ticks between shooting arrows"));
+    GolemLookup.addConfig(EntityDispenserGolem.class, new GolemConfigSet(config, "Dispenser Golem", 78.0D, 5.2F).addKey(EntityDispenserGolem.ALLOW_SPECIAL_KEY, true, "Whether the golem can shoot arrows").addKey(EntityDispenserGolem.ARROW_DAMAGE_KEY, 4.25F, 0F, 50F, "Base amount of damage dealt per arrow").addKey(EntityDispenserGolem.ARROW_SPEED_KEY, 30, 1, 12000, "Number of ticks between shooting arrows"));
     GolemLookup.addConfig(EntityEmeraldGolem.class, new GolemConfigSet(config, "Emerald Golem", 190.0D, 18.0F));
-    GolemLookup.addConfig(EntityEndstoneGolem.class, new GolemConfigSet(config, "Endstone Golem", 50.0D, 8.0F).addKey(EntityEndstoneGolem.ALLOW_SPECIAL, true, "Whether this golem can teleport").addKey(EntityEndstoneGolem.ALLOW_WATER_HURT, true, "Whether the Endstone Golem takes damage from water"));
-    GolemLookup.addConfig(EntityFurnaceGolem.class, new GolemConfigSet(config, "Furnace Golem", 88.0D, 6.5F).addKey(EntityFurnaceGolem.FUEL_FACTOR, 8, 1, 24000, "Higher values make fuel last longer"));
+    GolemLookup.addConfig(EntityEndstoneGolem.class, new GolemConfigSet(config, "Endstone Golem", 50.0D, 8.0F).addKey(EntityEndstoneGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can teleport").addKey(EntityEndstoneGolem.ALLOW_WATER_HURT_KEY, true, "Whether the Endstone Golem takes damage from water"));
+    GolemLookup.addConfig(EntityFurnaceGolem.class, new GolemConfigSet(config, "Furnace Golem", 88.0D, 6.5F).addKey(EntityFurnaceGolem.FUEL_FACTOR_KEY, 8, 1, 24000, "Higher values make fuel last longer"));
     GolemLookup.addConfig(EntityGlassGolem.class, new GolemConfigSet(config, "Glass Golem", 8.0D, 13.0F));
-    GolemLookup.addConfig(EntityGlowstoneGolem.class, new GolemConfigSet(config, "Glowstone Golem", 8.0D, 12.0F).addKey(EntityGlowstoneGolem.ALLOW_SPECIAL, true, "Whether this golem can light the area").addKey(EntityGlowstoneGolem.FREQUENCY, 2, 1, 24000, "Number of ticks between updating light"));
+    GolemLookup.addConfig(EntityGlowstoneGolem.class, new GolemConfigSet(config, "Glowstone Golem", 8.0D, 12.0F).addKey(EntityGlowstoneGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can light the area").addKey(EntityGlowstoneGolem.FREQUENCY_KEY, 2, 1, 24000, "Number of ticks between updating light"));
     GolemLookup.addConfig(EntityGoldGolem.class, new GolemConfigSet(config, "Gold Golem", 80.0D, 8.0F));
     GolemLookup.addConfig(EntityHardenedClayGolem.class, new GolemConfigSet(config, "Hardened Clay Golem", 22.0D, 4.0F));
-    GolemLookup.addConfig(EntityIceGolem.class, new GolemConfigSet(config, "Ice Golem", 18.0D, 6.0F).addKey(EntityIceGolem.ALLOW_SPECIAL, true, "Whether this golem can freeze water and cool lava nearby").addKey(EntityIceGolem.CAN_USE_REGULAR_ICE, true, "When true, the Ice Golem can be built with regular ice as well as packed ice").addKey(EntityIceGolem.AOE, 3, 1, 8, "Radial distance at which this golem can freeze / cool liquids"));
-    GolemLookup.addConfig(EntityLapisGolem.class, new GolemConfigSet(config, "Lapis Lazuli Golem", 50.0D, 1.5F).addKey(EntityLapisGolem.ALLOW_SPECIAL, true, "Whether this golem can inflict harmful potion effects"));
-    GolemLookup.addConfig(EntityLeafGolem.class, new GolemConfigSet(config, "Leaf Golem", 6.0D, 0.5F).addKey(EntityLeafGolem.ALLOW_SPECIAL, true, "Whether this golem can heal itself"));
-    GolemLookup.addConfig(EntityMagmaGolem.class, new GolemConfigSet(config, "Magma Golem", 46.0D, 4.5F).addKey(EntityMagmaGolem.ALLOW_SPLITTING, true, "When true, this golem will split into 2 mini-golems upon death").addKey(EntityMagmaGolem.ALLOW_LAVA_SPECIAL, false, "Whether this golem can slowly melt cobblestone").addKey(EntityMagmaGolem.MELT_DELAY, 240, 1, 24000, "Number of ticks it takes to melt cobblestone if enabled (12 sec * 20 t/sec = 240 t)").addKey(EntityMagmaGolem.ALLOW_FIRE_SPECIAL, true, "Whether this golem can light creatures on fire").addKey(EntityMagmaGolem.ALLOW_WATER_DAMAGE, true, "When true, water will hurt this golem"));
-    GolemLookup.addConfig(EntityMelonGolem.class, new GolemConfigSet(config, "Melon Golem", 18.0D, 1.5F).addKey(EntityMelonGolem.ALLOW_HEALING, true, "Whether this golem can randomly heal (about every " + randomHealSec + " sec)").addKey(EntityMelonGolem.ALLOW_SPECIAL, true, "Whether this golem can plant flowers randomly").addKey(EntityMelonGolem.FREQUENCY, 240, 1, 24000, "Average number of ticks between planting flowers"));
-    GolemLookup.addConfig(EntityMushroomGolem.class, new GolemConfigSet(config, "Mushroom Golem", 30.0D, 3.0F).addKey(EntityMushroomGolem.ALLOW_HEALING, true, "Whether this golem can randomly heal at night (about every " + randomHealSec + " sec)").addKey(EntityMushroomGolem.ALLOW_SPECIAL, true, "Whether this golem can plant mushrooms randomly").addKey(EntityMushroomGolem.FREQUENCY, 420, 1, 24000, "Average number of ticks between planting mushrooms"));
-    GolemLookup.addConfig(EntityNetherBrickGolem.class, new GolemConfigSet(config, "Nether Brick Golem", 25.0D, 6.5F).addKey(EntityNetherBrickGolem.ALLOW_FIRE_SPECIAL, true, "Whether this golem can light creatures on fire"));
-    GolemLookup.addConfig(EntityNetherWartGolem.class, new GolemConfigSet(config, "Nether Wart Golem", 22.0D, 1.5F).addKey(EntityNetherWartGolem.ALLOW_HEALING, true, "Whether this golem can randomly heal at night (about every " + randomHealSec + " sec)").addKey(EntityNetherWartGolem.ALLOW_SPECIAL, true, "Whether this golem can plant netherwart randomly").addKey(EntityNetherWartGolem.FREQUENCY, 880, 1, 24000, "Average number of ticks between planting nether wart if enabled"));
+    GolemLookup.addConfig(EntityIceGolem.class, new GolemConfigSet(config, "Ice Golem", 18.0D, 6.0F).addKey(EntityIceGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can freeze water and cool lava nearby").addKey(EntityIceGolem.CAN_USE_REGULAR_ICE_KEY, true, "When true, the Ice Golem can be built with regular ice as well as packed ice").addKey(EntityIceGolem.AOE_KEY, 3, 1, 8, "Radial distance at which this golem can freeze / cool liquids"));
+    GolemLookup.addConfig(EntityLapisGolem.class, new GolemConfigSet(config, "Lapis Lazuli Golem", 50.0D, 1.5F).addKey(EntityLapisGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can inflict harmful potion effects"));
+    GolemLookup.addConfig(EntityLeafGolem.class, new GolemConfigSet(config, "Leaf Golem", 6.0D, 0.5F).addKey(EntityLeafGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can heal itself"));
+    GolemLookup.addConfig(EntityMagmaGolem.class, new GolemConfigSet(config, "Magma Golem", 46.0D, 4.5F).addKey(EntityMagmaGolem.ALLOW_SPLITTING_KEY, true, "When true, this golem will split into 2 mini-golems upon death").addKey(EntityMagmaGolem.ALLOW_LAVA_SPECIAL_KEY, false, "Whether this golem can slowly melt cobblestone").addKey(EntityMagmaGolem.MELT_DELAY_KEY, 240, 1, 24000, "Number of ticks it takes to melt cobblestone if enabled (12 sec * 20 t/sec = 240 t)").addKey(EntityMagmaGolem.ALLOW_FIRE_SPECIAL_KEY, true, "Whether this golem can light creatures on fire").addKey(EntityMagmaGolem.ALLOW_WATER_DAMAGE_KEY, true, "When true, water will hurt this golem"));
+    GolemLookup.addConfig(EntityMelonGolem.class, new GolemConfigSet(config, "Melon Golem", 18.0D, 1.5F).addKey(EntityMelonGolem.ALLOW_HEALING_KEY, true, "Whether this golem can randomly heal (about every " + randomHealSec + " sec)").addKey(EntityMelonGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can plant flowers randomly").addKey(EntityMelonGolem.FREQUENCY_KEY, 240, 1, 24000, "Average number of ticks between planting flowers"));
+    GolemLookup.addConfig(EntityMushroomGolem.class, new GolemConfigSet(config, "Mushroom Golem", 30.0D, 3.0F).addKey(EntityMushroomGolem.ALLOW_HEALING_KEY, true, "Whether this golem can randomly heal at night (about every " + randomHealSec + " sec)").addKey(EntityMushroomGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can plant mushrooms randomly").addKey(EntityMushroomGolem.FREQUENCY_KEY, 420, 1, 24000, "Average number of ticks between planting mushrooms"));
+    GolemLookup.addConfig(EntityNetherBrickGolem.class, new GolemConfigSet(config, "Nether Brick Golem", 25.0D, 6.5F).addKey(EntityNetherBrickGolem.ALLOW_FIRE_SPECIAL_KEY, true, "Whether this golem can light creatures on fire"));
+    GolemLookup.addConfig(EntityNetherWartGolem.class, new GolemConfigSet(config, "Nether Wart Golem", 22.0D, 1.5F).addKey(EntityNetherWartGolem.ALLOW_HEALING_KEY, true, "Whether this golem can randomly heal at night (about every " + randomHealSec + " sec)").addKey(EntityNetherWartGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can plant netherwart randomly").addKey(EntityNetherWartGolem.FREQUENCY_KEY, 880, 1, 24000, "Average number of ticks between planting nether wart if enabled"));
     GolemLookup.addConfig(EntityObsidianGolem.class, new GolemConfigSet(config, "Obsidian Golem", 120.0D, 18.0F));
     GolemLookup.addConfig(EntityPrismarineGolem.class, new GolemConfigSet(config, "Prismarine Golem", 24.0D, 8.0F));
     GolemLookup.addConfig(EntityQuartzGolem.class, new GolemConfigSet(config, "Quartz Golem", 85.0D, 8.5F));
     GolemLookup.addConfig(EntityRedSandstoneGolem.class, new GolemConfigSet(config, "Red Sandstone Golem", 15.0D, 4.0F));
-    GolemLookup.addConfig(EntityRedstoneGolem.class, new GolemConfigSet(config, "Redstone Golem", 18.0D, 2.0F).addKey(EntityRedstoneGolem.ALLOW_SPECIAL, true, "Whether this golem can emit redstone power"));
-    GolemLookup.addConfig(EntityRedstoneLampGolem.class, new GolemConfigSet(config, "Redstone Lamp Golem", 28.0F, 6.0F).addKey(EntityRedstoneLampGolem.ALLOW_SPECIAL, true, "Whether this golem can light up the area").addKey(EntityRedstoneLampGolem.FREQUENCY, 2, 1, 24000, "Number of ticks between updating light"));
+    GolemLookup.addConfig(EntityRedstoneGolem.class, new GolemConfigSet(config, "Redstone Golem", 18.0D, 2.0F).addKey(EntityRedstoneGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can emit redstone power"));
+    GolemLookup.addConfig(EntityRedstoneLampGolem.class, new GolemConfigSet(config, "Redstone Lamp Golem", 28.0F, 6.0F).addKey(EntityRedstoneLampGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can light up the area").addKey(EntityRedstoneLampGolem.FREQUENCY_KEY, 2, 1, 24000, "Number of ticks between updating light"));
     GolemLookup.addConfig(EntitySandstoneGolem.class, new GolemConfigSet(config, "Sandstone Golem", 15.0D, 4.0F));
-    GolemLookup.addConfig(EntitySeaLanternGolem.class, new GolemConfigSet(config, "Sea Lantern Golem", 24.0D, 6.0F).addKey(EntitySeaLanternGolem.ALLOW_SPECIAL, true, "Whether this golem lights up the area").addKey(EntitySeaLanternGolem.FREQUENCY, 5, 1, 24000, "Number of ticks between updating light"));
-    GolemLookup.addConfig(EntitySlimeGolem.class, new GolemConfigSet(config, "Slime Golem", 58.0D, 2.5F).addKey(EntitySlimeGolem.ALLOW_SPLITTING, true, "When true, this golem will split into 2 mini-golems upon death").addKey(EntitySlimeGolem.ALLOW_SPECIAL, true, "Whether this golem can apply extra knockback when attacking").addKey(EntitySlimeGolem.KNOCKBACK, 1.9412F, 0.001F, 10.0F, "How powerful the Slime Golem knockback is (Higher Value = Further Knockback)"));
-    GolemLookup.addConfig(EntitySpongeGolem.class, new GolemConfigSet(config, "Sponge Golem", 20.0D, 1.5F).addKey(EntitySpongeGolem.ALLOW_SPECIAL, true, "Whether this golem can absorb water").addKey(EntitySpongeGolem.PARTICLES, true, "Whether this golem should always drip water").addKey(EntitySpongeGolem.RANGE, 4, 2, 8, "Radial distance at which this golem can absorb water (Warning: larger values cause lag)").addKey(EntitySpongeGolem.INTERVAL, 20, 1, 24000, "Number of ticks between each water-check; increase to reduce lag"));
+    GolemLookup.addConfig(EntitySeaLanternGolem.class, new GolemConfigSet(config, "Sea Lantern Golem", 24.0D, 6.0F).addKey(EntitySeaLanternGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem lights up the area").addKey(EntitySeaLanternGolem.FREQUENCY_KEY, 5, 1, 24000, "Number of ticks between updating light"));
+    GolemLookup.addConfig(EntitySlimeGolem.class, new GolemConfigSet(config, "Slime Golem", 58.0D, 2.5F).addKey(EntitySlimeGolem.ALLOW_SPLITTING_KEY, true, "When true, this golem will split into 2 mini-golems upon death").addKey(EntitySlimeGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can apply extra knockback when attacking").addKey(EntitySlimeGolem.KNOCKBACK_KEY, 1.9412F, 0.001F, 10.0F, "How powerful the Slime Golem knockback is (Higher Value = Further Knockback)"));
+    GolemLookup.addConfig(EntitySpongeGolem.class, new GolemConfigSet(config, "Sponge Golem", 20.0D, 1.5F).addKey(EntitySpongeGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can absorb water").addKey(EntitySpongeGolem.PARTICLES_KEY, true, "Whether this golem should always drip water").addKey(EntitySpongeGolem.RANGE_KEY, 4, 2, 8, "Radial distance at which this golem can absorb water (Warning: larger values cause lag)").addKey(EntitySpongeGolem.INTERVAL_KEY, 20, 1, 24000, "Number of ticks between each water-check; increase to reduce lag"));
     GolemLookup.addConfig(EntityStainedClayGolem.class, new GolemConfigSet(config, "Stained Clay Golem", 26.0D, 3.0F));
     GolemLookup.addConfig(EntityStainedGlassGolem.class, new GolemConfigSet(config, "Stained Glass Golem", 9.0D, 12.0F));
-    GolemLookup.addConfig(EntityStrawGolem.class, new GolemConfigSet(config, "Straw Golem", 10.0D, 1.0F).addKey(EntityStrawGolem.ALLOW_SPECIAL, true, "Whether this golem can speed up crop growth").addKey(EntityStrawGolem.SPECIAL_FREQ, 460, 1, 24000, "Minimum number of ticks between crop-boosts"));
-    GolemLookup.addConfig(EntityTNTGolem.class, new GolemConfigSet(config, "TNT Golem", 14.0D, 2.5F).addKey(EntityTNTGolem.ALLOW_SPECIAL, true, "Whether this golem can explode when fighting or dying"));
+    GolemLookup.addConfig(EntityStrawGolem.class, new GolemConfigSet(config, "Straw Golem", 10.0D, 1.0F).addKey(EntityStrawGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can speed up crop growth").addKey(EntityStrawGolem.SPECIAL_FREQ_KEY, 460, 1, 24000, "Minimum number of ticks between crop-boosts"));
+    GolemLookup.addConfig(EntityTNTGolem.class, new GolemConfigSet(config, "TNT Golem", 14.0D, 2.5F).addKey(EntityTNTGolem.ALLOW_SPECIAL_KEY, true, "Whether this golem can explode when fighting or dying"));
     GolemLookup.addConfig(EntityWoodenGolem.class, new GolemConfigSet(config, "Wooden Golem", 20.0D, 3.0F));
     GolemLookup.addConfig(EntityWoolGolem.class, new GolemConfigSet(config, "Wool Golem", 10.0D, 1.0F));
   }
@@ -122,6 +139,36 @@ public final class Config {
         "The following golems will appear in villages in Plains biomes. (Duplicate entries increase chances)");
     villageGolemSpawnChance = config.getInt("Village Golem Spawn Chance", CATEGORY_OTHER, 60, 0, 100,
         "Percent chance for each village chunk to include an Extra Golems golem. Set to 0 to disable");
+    enableTickProfiler = config.getBoolean("Enable Tick Profiler", CATEGORY_OTHER, true,
+        "When true, golem tick times are recorded for the '/golems perf' command (small overhead)");
+    enableBlockWriteStats = config.getBoolean("Enable Block Write Stats", CATEGORY_OTHER, false,
+        "When true, golem block writes are counted per loaded chunk for '/golems writes' (small overhead)");
+    blockWriteWarnThreshold = config.getInt("Block Write Warning Threshold", CATEGORY_OTHER, 256, 0, 65536,
+        "Log a warning when golems change this many blocks in one chunk within one second. Needs "
+            + "'Enable Block Write Stats' (off by default). Set to 0 to disable");
+    enableEventProfiler = config.getBoolean("Enable Event Profiler", CATEGORY_OTHER, false,
+        "When true, the cost of golem events and of every listener is recorded for '/golems events' (noticeable overhead)");
+    eventStatsLogInterval = config.getInt("Event Profiler Log Interval", CATEGORY_OTHER, 10, 0, 1440,
+        "While the event profiler is on, log a summary every this many minutes. Set to 0 to disable");
+    censusChunkWarnThreshold = config.getInt("Golem Census Chunk Warning", CATEGORY_OTHER, 64, 0, 4096,
+        "Log a warning when this many golems are loaded in one chunk. Set to 0 to disable");
+    metricsExport = config.getString("Metrics Export", CATEGORY_OTHER, GolemMetricsExporter.MODE_OFF,
+        "Publish golem counters in Prometheus format: 'off', 'file' (rewrite 'Metrics File') "
+            + "or 'http' (loopback only, on 'Metrics Port')",
+        new String[] { GolemMetricsExporter.MODE_OFF, GolemMetricsExporter.MODE_FILE, GolemMetricsExporter.MODE_HTTP });
+    metricsFile = config.getString("Metrics File", CATEGORY_OTHER, "golems.prom",
+        "File the metrics exporter writes to, relative to the server directory");
+    metricsInterval = config.getInt("Metrics File Interval", CATEGORY_OTHER, 15, 1, 3600,
+        "Seconds between rewrites of the metrics file");
+    metricsPort = config.getInt("Metrics Port", CATEGORY_OTHER, 9405, 1, 65535,
+        "Port for the metrics HTTP endpoint; it only listens on the loopback address");
+    enableNetworkAccounting = config.getBoolean("Enable Network Accounting", CATEGORY_OTHER, false,
+        "When true, estimate the bytes golems send to each player for '/golems network' (small overhead)");
+    enableConfigHotReload = config.getBoolean("Enable Config Hot Reload", CATEGORY_OTHER, false,
+        "When true, edits to the per-golem sections of this file apply while the server runs");
+    targetTaskBudget = config.getInt("Target Task Adjustments Per Tick", CATEGORY_OTHER, 256, 1, 65536,
+        "Newly loaded mobs whose player-targeting AI is moved behind golems, per world per tick. "
+            + "The rest wait for the next tick");
   }
 
   public static boolean doesPumpkinBuildGolem() {
@@ -152,6 +199,65 @@ public final class Config {
     return enableHealGolems;
   }
 
+  public static boolean enableTickProfiler() {
+    return enableTickProfiler;
+  }
+
+  public static boolean enableBlockWriteStats() {
+    return enableBlockWriteStats;
+  }
+
+  public static int getBlockWriteWarnThreshold() {
+    return blockWriteWarnThreshold;
+  }
+
+  public static boolean enableEventProfiler() {
+    return enableEventProfiler;
+  }
+
+  /** @return minutes between event profiler summaries in the log, or 0 for never **/
+  public static int getEventStatsLogInterval() {
+    return eventStatsLogInterval;
+  }
+
+  public static int getCensusChunkWarnThreshold() {
+    return censusChunkWarnThreshold;
+  }
+
+  /** @return how many queued mobs have their target tasks adjusted in one world tick **/
+  public static int getTargetTaskBudget() {
+    return targetTaskBudget;
+  }
+
+  public static String getMetricsExport() {
+    return metricsExport;
+  }
+
+  public static String getMetricsFile() {
+    return metricsFile;
+  }
+
+  public static int getMetricsInterval() {
+    return metricsInterval;
+  }
+
+  public static int getMetricsPort() {
+    return metricsPort;
+  }
+
+  public static boolean enableNetworkAccounting() {
+    return enableNetworkAccounting;
+  }
+
+  public static boolean enableConfigHotReload() {
+    return enableConfigHotReload;
+  }
+
+  /** @return the file this config was loaded from **/
+  public static File getConfigFile() {
+    return configFile;
+  }
+
   public static List<Class<? extends GolemBase>> getDesertGolems() {
     if (desertGolems.isEmpty()) {
       // populate the list from the config values found earlier
@@ -1,14 +1,27 @@
 package com.golems.main;
 
+import com.golems.commands.CommandGolems;
+import com.golems.debug.GolemEventStats;
+import com.golems.debug.GolemLoadTest;
+import com.golems.debug.GolemMetricsExporter;
+import com.golems.debug.GolemNetworkStats;
+import com.golems.debug.GolemTickProfiler;
+import com.golems.debug.StartupTimer;
 import com.golems.integration.ModIds;
 import com.golems.proxies.CommonProxy;
+import com.golems.util.GolemConfigWatcher;
+import com.golems.util.GolemLookup;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLInterModComms;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
+import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppingEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,13 +50,16 @@ public class ExtraGolems {
 
   @Mod.EventHandler
   public static void preInit(final FMLPreInitializationEvent event) {
+    final long start = StartupTimer.start();
     Config.mainRegistry(new Configuration(event.getSuggestedConfigurationFile()));
+    StartupTimer.stop("config", start);
   }
 
   @Mod.EventHandler
   public static void init(final FMLInitializationEvent event) {
-
+    long start = StartupTimer.start();
     proxy.registerEvents();
+    StartupTimer.stop("registerEvents", start);
 
     if (Loader.isModLoaded(ModIds.WAILA)) {
       FMLInterModComms.sendMessage(ModIds.WAILA, "register",
@@ -54,7 +70,42 @@ public class ExtraGolems {
           "com.golems.integration.theoneprobe.TOPExtraGolems$GetTheOneProbe");
     }
     // Trial-run these methods to give the user feedback if there's errors
+    start = StartupTimer.start();
     Config.getPlainsGolems();
     Config.getDesertGolems();
+    StartupTimer.stop("villageGolemLists", start);
+    StartupTimer.report();
+  }
+
+  @Mod.EventHandler
+  public static void postInit(final FMLPostInitializationEvent event) {
+    // every mod has registered its golems, blocks and OreDictionary entries by now
+    GolemLookup.freeze();
+    GolemLookup.buildBlockIndex();
+  }
+
+  @Mod.EventHandler
+  public static void remapIds(final FMLModIdMappingEvent event) {
+    // block state ids changed, so the golem state table is stale
+    GolemLookup.invalidateBlockIndex();
+  }
+
+  @Mod.EventHandler
+  public static void serverStarting(final FMLServerStartingEvent event) {
+    GolemTickProfiler.reset(event.getServer().getTickCounter());
+    GolemEventStats.setEnabled(Config.enableEventProfiler());
+    GolemEventStats.reset();
+    GolemNetworkStats.setEnabled(Config.enableNetworkAccounting());
+    GolemNetworkStats.reset();
+    event.registerServerCommand(new CommandGolems());
+    GolemMetricsExporter.start();
+    GolemConfigWatcher.start();
+  }
+
+  @Mod.EventHandler
+  public static void serverStopping(final FMLServerStoppingEvent event) {
+    GolemLoadTest.stop();
+    GolemMetricsExporter.stop();
+    GolemConfigWatcher.stop();
   }
 }
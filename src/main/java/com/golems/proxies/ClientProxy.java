@@ -1,15 +1,20 @@
 package com.golems.proxies;
 
+import com.golems.commands.CommandGolemsBench;
+import com.golems.debug.StartupTimer;
 import com.golems.entity.*;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
+import com.golems.renders.GolemRenderBenchmark;
 import com.golems.renders.RenderColoredGolem;
 import com.golems.renders.RenderGolem;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
+import net.minecraftforge.client.ClientCommandHandler;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.client.model.ModelLoader;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.client.registry.IRenderFactory;
 import net.minecraftforge.fml.client.registry.RenderingRegistry;
 import net.minecraftforge.fml.common.Mod;
@@ -23,8 +28,16 @@ public final class ClientProxy extends CommonProxy {
 
   public static final IRenderFactory<GolemColorized> FACTORY_COLORED_GOLEM = RenderColoredGolem::new;
 
+  @Override
+  public void registerEvents() {
+    super.registerEvents();
+    MinecraftForge.EVENT_BUS.register(new GolemRenderBenchmark());
+    ClientCommandHandler.instance.registerCommand(new CommandGolemsBench());
+  }
+
   @SubscribeEvent
   public static void registerModels(final ModelRegistryEvent event) {
+    final long start = StartupTimer.start();
     // itemblocks
     registerRender(Item.getItemFromBlock(GolemItems.golemHead), Blocks.PUMPKIN.getRegistryName().toString());
     // items
@@ -74,6 +87,7 @@ public final class ClientProxy extends CommonProxy {
     registerEntityRender(EntityTNTGolem.class);
     registerEntityRender(EntityWoodenGolem.class);
     registerEntityRender(EntityWoolGolem.class);
+    StartupTimer.stop("registerModels", start);
   }
 
   /**
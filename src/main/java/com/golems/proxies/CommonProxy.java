@@ -4,13 +4,16 @@ import com.golems.blocks.BlockGolemHead;
 import com.golems.blocks.BlockUtilityGlow;
 import com.golems.blocks.BlockUtilityGlowWater;
 import com.golems.blocks.BlockUtilityPower;
+import com.golems.debug.StartupTimer;
 import com.golems.entity.*;
 import com.golems.events.handlers.GolemCommonEventHandler;
+import com.golems.events.handlers.GolemDebugEventHandler;
 import com.golems.items.ItemBedrockGolem;
 import com.golems.items.ItemGolemSpell;
 import com.golems.items.ItemInfoBook;
 import com.golems.main.ExtraGolems;
 import com.golems.main.GolemItems;
+import com.golems.util.GolemDescriptor;
 import com.golems.util.GolemLookup;
 import com.golems.util.GolemNames;
 
@@ -18,10 +21,13 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.EnumDyeColor;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
 import net.minecraft.world.storage.loot.LootTableList;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegistryEvent;
@@ -31,6 +37,7 @@ import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.EntityEntryBuilder;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -39,9 +46,11 @@ import java.util.List;
 public class CommonProxy {
 
   /**
-   * A List containing default instances of each Golem. They do not exist in the
-   * world, the list is simply a reference for things like Golem Info Book
+   * No longer filled: the Golem Book and tooltips do not keep golem instances.
+   *
+   * @deprecated use {@link GolemDescriptor#getAll(World)} instead
    **/
+  @Deprecated
   public static final List<GolemBase> DUMMY_GOLEMS = new LinkedList();
 
   protected static int golemEntityCount;
@@ -52,6 +61,7 @@ public class CommonProxy {
 
   public void registerEvents() {
     MinecraftForge.EVENT_BUS.register(new GolemCommonEventHandler());
+    MinecraftForge.EVENT_BUS.register(new GolemDebugEventHandler());
   }
 
   protected static EntityEntry build(Class<? extends GolemBase> entityClass, String name, Block... blocks) {
@@ -88,6 +98,7 @@ public class CommonProxy {
    */
   @SubscribeEvent
   public static void registerEntities(final RegistryEvent.Register<EntityEntry> event) {
+    final long start = StartupTimer.start();
     golemEntityCount = 0;
     // Register Golem EntityEntries as well as building blocks
     event.getRegistry().registerAll(build(EntityBedrockGolem.class, GolemNames.BEDROCK_GOLEM, false, (Block) null),
@@ -134,6 +145,104 @@ public class CommonProxy {
         build(EntityWoodenGolem.class, GolemNames.WOODEN_GOLEM, Blocks.LOG, Blocks.LOG2),
         build(EntityWoolGolem.class, GolemNames.WOOL_GOLEM, Blocks.WOOL));
 
+    // Textures chosen by the block state the golem is built from
+    GolemLookup.addVariants(EntityConcreteGolem.class, EntityConcreteGolem::getVariant);
+    GolemLookup.addVariants(EntityStainedClayGolem.class, EntityStainedClayGolem::getVariant);
+    GolemLookup.addVariants(EntityStainedGlassGolem.class, EntityStainedGlassGolem::getVariant);
+    GolemLookup.addVariants(EntityWoodenGolem.class, EntityWoodenGolem::getVariant);
+    GolemLookup.addVariants(EntityWoolGolem.class, EntityWoolGolem::getVariant);
+
+    // Items that heal each golem, besides its own building blocks
+    GolemLookup.addHealItem(EntityBoneGolem.class, new ItemStack(Items.BONE), 0.25D);
+    GolemLookup.addHealItem(EntityBoneGolem.class,
+        new ItemStack(Items.DYE, 1, EnumDyeColor.WHITE.getDyeDamage()), 0.08D);
+    GolemLookup.addHealItem(EntityBookshelfGolem.class, new ItemStack(Items.BOOK), 0.25D);
+    GolemLookup.addHealItem(EntityBookshelfGolem.class,
+        new ItemStack(Blocks.PLANKS, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
+    GolemLookup.addHealItem(EntityClayGolem.class, new ItemStack(Items.CLAY_BALL), 0.25D);
+    GolemLookup.addHealItem(EntityCoalGolem.class, new ItemStack(Items.COAL, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
+    GolemLookup.addHealItem(EntityConcreteGolem.class,
+        new ItemStack(Blocks.CONCRETE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityCobblestoneGolem.class,
+        new ItemStack(Blocks.COBBLESTONE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityCraftingGolem.class,
+        new ItemStack(Blocks.PLANKS, 1, OreDictionary.WILDCARD_VALUE), 0.25D);
+    GolemLookup.addHealItem(EntityDiamondGolem.class, new ItemStack(Items.DIAMOND), 0.25D);
+    GolemLookup.addHealItem(EntityDispenserGolem.class, new ItemStack(Blocks.COBBLESTONE), 0.25D);
+    GolemLookup.addHealItem(EntityEmeraldGolem.class, new ItemStack(Items.EMERALD), 0.25D);
+    GolemLookup.addHealItem(EntityFurnaceGolem.class, new ItemStack(Blocks.COBBLESTONE), 0.25D);
+    GolemLookup.addHealItem(EntityGlowstoneGolem.class, new ItemStack(Items.GLOWSTONE_DUST), 0.25D);
+    GolemLookup.addHealItem(EntityGoldGolem.class, new ItemStack(Items.GOLD_INGOT), 0.25D);
+    GolemLookup.addHealItem(EntityGoldGolem.class, new ItemStack(Items.GOLD_NUGGET), 0.025D);
+    GolemLookup.addHealItem(EntityLapisGolem.class,
+        new ItemStack(Items.DYE, 1, EnumDyeColor.BLUE.getDyeDamage()), 0.25D);
+    GolemLookup.addHealItem(EntityLeafGolem.class,
+        new ItemStack(Blocks.LEAVES, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityLeafGolem.class,
+        new ItemStack(Blocks.LEAVES2, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityMagmaGolem.class, new ItemStack(Items.MAGMA_CREAM), 0.25D);
+    GolemLookup.addHealItem(EntityMelonGolem.class, new ItemStack(Items.MELON), 0.25D);
+    GolemLookup.addHealItem(EntityMelonGolem.class, new ItemStack(Items.SPECKLED_MELON), 0.35D);
+    GolemLookup.addHealItem(EntityMelonGolem.class, new ItemStack(Items.MELON_SEEDS), 0.1D);
+    GolemLookup.addHealItem(EntityMushroomGolem.class, new ItemStack(Blocks.BROWN_MUSHROOM), 0.25D);
+    GolemLookup.addHealItem(EntityMushroomGolem.class, new ItemStack(Blocks.RED_MUSHROOM), 0.25D);
+    GolemLookup.addHealItem(EntityNetherBrickGolem.class, new ItemStack(Items.NETHERBRICK), 0.25D);
+    GolemLookup.addHealItem(EntityNetherWartGolem.class, new ItemStack(Items.NETHER_WART), 0.25D);
+    GolemLookup.addHealItem(EntityPrismarineGolem.class,
+        new ItemStack(Blocks.PRISMARINE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityPrismarineGolem.class, new ItemStack(Items.PRISMARINE_SHARD), 0.25D);
+    GolemLookup.addHealItem(EntityQuartzGolem.class, new ItemStack(Items.QUARTZ), 0.25D);
+    GolemLookup.addHealItem(EntityRedSandstoneGolem.class,
+        new ItemStack(Blocks.RED_SANDSTONE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityRedSandstoneGolem.class, new ItemStack(Blocks.SAND, 1, 1), 0.25D);
+    GolemLookup.addHealItem(EntityRedstoneGolem.class, new ItemStack(Items.REDSTONE), 0.25D);
+    GolemLookup.addHealItem(EntityRedstoneLampGolem.class, new ItemStack(Items.REDSTONE), 0.25D);
+    GolemLookup.addHealItem(EntityRedstoneLampGolem.class, new ItemStack(Items.GLOWSTONE_DUST), 0.25D);
+    GolemLookup.addHealItem(EntitySandstoneGolem.class,
+        new ItemStack(Blocks.SANDSTONE, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntitySandstoneGolem.class, new ItemStack(Blocks.SAND, 1, 0), 0.25D);
+    GolemLookup.addHealItem(EntitySeaLanternGolem.class, new ItemStack(Items.PRISMARINE_CRYSTALS), 0.25D);
+    GolemLookup.addHealItem(EntitySeaLanternGolem.class, new ItemStack(Items.PRISMARINE_SHARD), 0.25D);
+    GolemLookup.addHealItem(EntitySlimeGolem.class, new ItemStack(Items.SLIME_BALL), 0.25D);
+    GolemLookup.addHealItem(EntitySpongeGolem.class, new ItemStack(Blocks.SPONGE, 1, 1), 0.75D);
+    GolemLookup.addHealItem(EntityStainedClayGolem.class,
+        new ItemStack(Blocks.STAINED_HARDENED_CLAY, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityStainedGlassGolem.class,
+        new ItemStack(Blocks.STAINED_GLASS, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityStainedGlassGolem.class,
+        new ItemStack(Blocks.STAINED_GLASS_PANE, 1, OreDictionary.WILDCARD_VALUE), 0.1D);
+    GolemLookup.addHealItem(EntityStrawGolem.class, new ItemStack(Items.WHEAT), 0.25D);
+    GolemLookup.addHealItem(EntityStrawGolem.class, new ItemStack(Items.WHEAT_SEEDS), 0.025D);
+    GolemLookup.addHealItem(EntityTNTGolem.class, new ItemStack(Items.GUNPOWDER), 0.25D);
+    GolemLookup.addHealItem(EntityTNTGolem.class, new ItemStack(Blocks.SAND), 0.25D);
+    GolemLookup.addHealItem(EntityWoodenGolem.class, new ItemStack(Blocks.LOG, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityWoodenGolem.class,
+        new ItemStack(Blocks.LOG2, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityWoodenGolem.class, new ItemStack(Blocks.PLANKS), 0.25D);
+    GolemLookup.addHealItem(EntityWoodenGolem.class, new ItemStack(Items.STICK), 0.1D);
+    GolemLookup.addHealItem(EntityWoolGolem.class, new ItemStack(Blocks.WOOL, 1, OreDictionary.WILDCARD_VALUE), 0.75D);
+    GolemLookup.addHealItem(EntityWoolGolem.class, new ItemStack(Items.STRING), 0.1D);
+
+    // Texture and loot table arrays shared by every golem of a multi-textured class
+    addTextures(EntityMushroomGolem.class, EntityMushroomGolem.SHROOM_PREFIX, EntityMushroomGolem.SHROOM_TYPES);
+    addTextures(EntityRedstoneLampGolem.class, EntityRedstoneLampGolem.LAMP_PREFIX, EntityRedstoneLampGolem.VARIANTS);
+    addTextures(EntityWoodenGolem.class, EntityWoodenGolem.WOOD_PREFIX, EntityWoodenGolem.woodTypes);
+    addTextures(EntityWoolGolem.class, EntityWoolGolem.WOOL_PREFIX, EntityWoolGolem.coloredWoolTypes);
+    addLootTables(EntityCobblestoneGolem.class, GolemNames.COBBLESTONE_GOLEM,
+        EntityCobblestoneGolem.COLOR_ARRAY.length);
+    addLootTables(EntityConcreteGolem.class, GolemNames.CONCRETE_GOLEM, EntityConcreteGolem.COLOR_ARRAY.length);
+    addLootTables(EntityStainedClayGolem.class, GolemNames.STAINEDTERRACOTTA_GOLEM,
+        EntityStainedClayGolem.COLOR_ARRAY.length);
+    addLootTables(EntityStainedGlassGolem.class, GolemNames.STAINEDGLASS_GOLEM,
+        EntityStainedGlassGolem.COLOR_ARRAY.length);
+
+    // Golems that take no fire damage
+    GolemLookup.setFireproof(EntityFurnaceGolem.class);
+    GolemLookup.setFireproof(EntityGlowstoneGolem.class);
+    GolemLookup.setFireproof(EntityMagmaGolem.class);
+    GolemLookup.setFireproof(EntityNetherBrickGolem.class);
+    GolemLookup.setFireproof(EntityObsidianGolem.class);
+
     // Also register Golem Loot Tables
     LootTableList.register(new ResourceLocation(ExtraGolems.MODID, "entities/_golem_base"));
     registerLootTables(ExtraGolems.MODID, GolemNames.WOOL_GOLEM, EntityWoolGolem.coloredWoolTypes);
@@ -145,10 +254,26 @@ public class CommonProxy {
     registerLootTables(ExtraGolems.MODID, GolemNames.STAINEDGLASS_GOLEM, EntityStainedGlassGolem.COLOR_ARRAY.length);
     registerLootTables(ExtraGolems.MODID, GolemNames.STAINEDTERRACOTTA_GOLEM,
         EntityStainedClayGolem.COLOR_ARRAY.length);
+    StartupTimer.stop("registerEntities", start);
+  }
+
+  /** Registers the shared texture and loot table arrays of a {@link GolemMultiTextured} golem **/
+  private static void addTextures(final Class<? extends GolemMultiTextured> golemClazz, final String prefix,
+      final String[] textureNames) {
+    GolemLookup.addTextures(golemClazz, GolemMultiTextured.makeTextures(ExtraGolems.MODID, prefix, textureNames),
+        GolemMultiTextured.makeLootTables(ExtraGolems.MODID, prefix, textureNames));
+  }
+
+  /** Registers the shared loot table array of a {@link GolemColorizedMultiTextured} golem **/
+  private static void addLootTables(final Class<? extends GolemColorizedMultiTextured> golemClazz, final String name,
+      final int count) {
+    GolemLookup.addTextures(golemClazz, null,
+        GolemColorizedMultiTextured.makeLootTables(ExtraGolems.MODID, name, count));
   }
 
   @SubscribeEvent
   public static void registerItems(final RegistryEvent.Register<Item> event) {
+    final long start = StartupTimer.start();
     event.getRegistry().register(new ItemBlock(GolemItems.golemHead) {
       @Override
       @SideOnly(Side.CLIENT)
@@ -160,18 +285,21 @@ public class CommonProxy {
     event.getRegistry().register(new ItemBedrockGolem().setUnlocalizedName("spawn_bedrock_golem").setRegistryName(ExtraGolems.MODID, "spawn_bedrock_golem"));
     event.getRegistry().register(new ItemGolemSpell().setUnlocalizedName("golem_paper").setRegistryName(ExtraGolems.MODID, "golem_paper"));
     event.getRegistry().register(new ItemInfoBook().setUnlocalizedName("info_book").setRegistryName(ExtraGolems.MODID, "info_book"));
+    StartupTimer.stop("registerItems", start);
   }
 
   @SubscribeEvent
   public static void registerBlocks(final RegistryEvent.Register<Block> event) {
-    final int GLOWSTONE_FREQ = GolemLookup.getConfig(EntityGlowstoneGolem.class).getInt(EntityGlowstoneGolem.FREQUENCY);
+    final long start = StartupTimer.start();
+    final int GLOWSTONE_FREQ = GolemLookup.getConfig(EntityGlowstoneGolem.class).getInt(EntityGlowstoneGolem.FREQUENCY_KEY);
     final int SEALANTERN_FREQ = GolemLookup.getConfig(EntitySeaLanternGolem.class)
-        .getInt(EntitySeaLanternGolem.FREQUENCY);
+        .getInt(EntitySeaLanternGolem.FREQUENCY_KEY);
     event.getRegistry().registerAll(
         new BlockGolemHead().setUnlocalizedName("golem_head").setRegistryName(ExtraGolems.MODID, "golem_head"),
         new BlockUtilityGlow(Material.GLASS, 1.0F, GLOWSTONE_FREQ, Blocks.AIR.getDefaultState()).setUnlocalizedName("light_provider_full").setRegistryName(ExtraGolems.MODID, "light_provider_full"),
         new BlockUtilityGlowWater(Material.WATER, 1.0F, SEALANTERN_FREQ, Blocks.WATER.getDefaultState().withProperty(BlockLiquid.LEVEL, 0)).setUnlocalizedName("water_light_provider_full").setRegistryName(ExtraGolems.MODID, "water_light_provider_full"),
         new BlockUtilityPower(15, EntityRedstoneGolem.DEF_FREQ).setUnlocalizedName("power_provider_all").setRegistryName(ExtraGolems.MODID, "power_provider_all"));
+    StartupTimer.stop("registerBlocks", start);
   }
 
   /**
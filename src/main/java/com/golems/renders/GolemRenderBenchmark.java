@@ -0,0 +1,213 @@
+package com.golems.renders;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.golems.main.ExtraGolems;
+import com.golems.renders.GolemRenderStats.Pass;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Client render benchmark: flies the player along a fixed camera path around
+ * the point where it started, records every frame time, and reports frame
+ * time percentiles with the golem render counters from
+ * {@link GolemRenderStats}. Results also go to {@code golems-render-bench.json}
+ * in the game directory so runs can be compared.
+ * <br>
+ * The path orbits the center for the first half of the run, looking in, then
+ * flies straight across it. For a repeatable scene, spawn golems first with
+ * {@code /golems loadtest render} in single player.
+ **/
+@SideOnly(Side.CLIENT)
+public final class GolemRenderBenchmark {
+
+  /** Frames rendered before measuring starts, to let chunks and textures settle **/
+  private static final int WARMUP_FRAMES = 60;
+
+  private static GolemRenderBenchmark running;
+
+  private final double centerX;
+  private final double centerY;
+  private final double centerZ;
+  private final double radius;
+  private final double height;
+  private final long durationNanos;
+  private long[] frameNanos = new long[4096];
+  private int frames;
+  private int warmup = WARMUP_FRAMES;
+  private long startNanos;
+  private long lastFrame;
+
+  private GolemRenderBenchmark(final EntityPlayerSP player, final int seconds, final double radiusIn,
+      final double heightIn) {
+    this.centerX = player.posX;
+    this.centerY = player.posY;
+    this.centerZ = player.posZ;
+    this.radius = radiusIn;
+    this.height = heightIn;
+    this.durationNanos = seconds * 1_000_000_000L;
+  }
+
+  public static boolean isRunning() {
+    return running != null;
+  }
+
+  public static void start(final int seconds, final double radius, final double height) {
+    final EntityPlayerSP player = Minecraft.getMinecraft().player;
+    running = new GolemRenderBenchmark(player, seconds, radius, height);
+    player.capabilities.isFlying = true;
+    send(String.format("Golem render benchmark started: %d s, radius %.0f", seconds, radius));
+  }
+
+  public static void stop() {
+    running = null;
+    GolemRenderStats.setEnabled(false);
+  }
+
+  @SubscribeEvent
+  public void onRenderTick(final TickEvent.RenderTickEvent event) {
+    final GolemRenderBenchmark bench = running;
+    if (bench == null || event.phase != TickEvent.Phase.START) {
+      return;
+    }
+    final EntityPlayerSP player = Minecraft.getMinecraft().player;
+    if (player == null) {
+      stop();
+      return;
+    }
+    final long now = System.nanoTime();
+    if (bench.warmup > 0) {
+      if (--bench.warmup == 0) {
+        bench.startNanos = now;
+        GolemRenderStats.reset();
+        GolemRenderStats.setEnabled(true);
+      }
+      bench.moveCamera(player, 0.0D);
+    } else {
+      bench.addFrame(now - bench.lastFrame);
+      final double progress = (double) (now - bench.startNanos) / bench.durationNanos;
+      if (progress >= 1.0D) {
+        stop();
+        bench.report();
+        return;
+      }
+      bench.moveCamera(player, progress);
+    }
+    bench.lastFrame = now;
+  }
+
+  private void addFrame(final long nanos) {
+    if (frames == frameNanos.length) {
+      frameNanos = Arrays.copyOf(frameNanos, frames * 2);
+    }
+    frameNanos[frames++] = nanos;
+  }
+
+  private void moveCamera(final EntityPlayerSP player, final double progress) {
+    final double x;
+    final double y;
+    final double z;
+    final double lookX;
+    final double lookY;
+    final double lookZ;
+    if (progress < 0.5D) {
+      // orbit, looking at the center
+      final double angle = progress * 2.0D * 2.0D * Math.PI;
+      x = centerX + Math.cos(angle) * radius;
+      y = centerY + height;
+      z = centerZ + Math.sin(angle) * radius;
+      lookX = centerX;
+      lookY = centerY;
+      lookZ = centerZ;
+    } else {
+      // straight through the middle, looking ahead
+      final double t = (progress - 0.5D) * 2.0D;
+      x = centerX - radius + t * 2.0D * radius;
+      y = centerY + height * 0.5D;
+      z = centerZ;
+      lookX = x + 1.0D;
+      lookY = centerY;
+      lookZ = z;
+    }
+    final double dx = lookX - x;
+    final double dy = lookY - y;
+    final double dz = lookZ - z;
+    final float yaw = (float) (MathHelper.atan2(dz, dx) * (180.0D / Math.PI)) - 90.0F;
+    final float pitch = (float) -(MathHelper.atan2(dy, Math.sqrt(dx * dx + dz * dz)) * (180.0D / Math.PI));
+    player.motionX = 0.0D;
+    player.motionY = 0.0D;
+    player.motionZ = 0.0D;
+    player.setPositionAndRotation(x, y, z, yaw, pitch);
+    player.prevPosX = player.lastTickPosX = x;
+    player.prevPosY = player.lastTickPosY = y;
+    player.prevPosZ = player.lastTickPosZ = z;
+    player.prevRotationYaw = player.rotationYawHead = player.prevRotationYawHead = yaw;
+    player.prevRotationPitch = pitch;
+  }
+
+  private void report() {
+    if (frames == 0) {
+      send("Golem render benchmark recorded no frames");
+      return;
+    }
+    final long[] sorted = Arrays.copyOf(frameNanos, frames);
+    Arrays.sort(sorted);
+    long sum = 0L;
+    for (final long n : sorted) {
+      sum += n;
+    }
+    final double mean = sum / 1.0E6D / frames;
+    send(String.format(Locale.ROOT, "Golem render benchmark: %d frames, %.1f fps; frame ms mean %.2f, p50 %.2f, "
+        + "p90 %.2f, p99 %.2f, max %.2f", frames, 1000.0D / mean, mean, percentile(sorted, 0.50D),
+        percentile(sorted, 0.90D), percentile(sorted, 0.99D), sorted[frames - 1] / 1.0E6D));
+    send(String.format(Locale.ROOT, "  per frame: %.1f golems, %.1f texture binds, ~%.0f draw calls",
+        (double) GolemRenderStats.getGolems() / frames, (double) GolemRenderStats.getTextureBinds() / frames,
+        (double) GolemRenderStats.getDrawCalls() / frames));
+    final StringBuilder passes = new StringBuilder("  passes per frame:");
+    final StringBuilder json = new StringBuilder();
+    json.append(String.format(Locale.ROOT, "{\"frames\":%d,\"meanMs\":%.3f,\"p50Ms\":%.3f,\"p90Ms\":%.3f,"
+        + "\"p99Ms\":%.3f,\"maxMs\":%.3f,\"golemsPerFrame\":%.2f,\"textureBindsPerFrame\":%.2f,"
+        + "\"drawCallsPerFrame\":%.2f,\"passesPerFrame\":{", frames, mean, percentile(sorted, 0.50D),
+        percentile(sorted, 0.90D), percentile(sorted, 0.99D), sorted[frames - 1] / 1.0E6D,
+        (double) GolemRenderStats.getGolems() / frames, (double) GolemRenderStats.getTextureBinds() / frames,
+        (double) GolemRenderStats.getDrawCalls() / frames));
+    for (final Pass p : Pass.values()) {
+      final double perFrame = (double) GolemRenderStats.getPasses(p) / frames;
+      passes.append(String.format(Locale.ROOT, " %s %.1f", p.label, perFrame));
+      json.append(String.format(Locale.ROOT, "%s\"%s\":%.2f", p.ordinal() > 0 ? "," : "",
+          p.name().toLowerCase(Locale.ROOT), perFrame));
+    }
+    json.append("}}\n");
+    send(passes.toString());
+    final File out = new File(Minecraft.getMinecraft().mcDataDir, "golems-render-bench.json");
+    try {
+      Files.write(out.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (final IOException e) {
+      ExtraGolems.LOGGER.warn("Could not write %s: %s", out, e.toString());
+    }
+  }
+
+  private static double percentile(final long[] sorted, final double p) {
+    final int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1);
+    return sorted[Math.max(0, index)] / 1.0E6D;
+  }
+
+  private static void send(final String message) {
+    ExtraGolems.LOGGER.info(message);
+    if (Minecraft.getMinecraft().player != null) {
+      Minecraft.getMinecraft().player.sendMessage(new TextComponentString(message));
+    }
+  }
+}
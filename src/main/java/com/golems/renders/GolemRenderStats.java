@@ -0,0 +1,84 @@
+package com.golems.renders;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Counts golem render work while {@link GolemRenderBenchmark} is running:
+ * golems drawn, model passes by kind, texture binds and an estimate of draw
+ * calls (one display list per model part per pass). Render thread only.
+ **/
+@SideOnly(Side.CLIENT)
+public final class GolemRenderStats {
+
+  public enum Pass {
+    TEXTURED("textured"),
+    DAMAGE("damage overlay"),
+    COLOR_BASE("colorized base"),
+    COLOR_OVERLAY("colorized overlay");
+
+    public final String label;
+
+    Pass(final String labelIn) {
+      this.label = labelIn;
+    }
+  }
+
+  private static boolean enabled;
+  private static final long[] PASSES = new long[Pass.values().length];
+  private static long golems;
+  private static long textureBinds;
+  private static long drawCalls;
+
+  private GolemRenderStats() {
+    //
+  }
+
+  public static void setEnabled(final boolean enable) {
+    enabled = enable;
+  }
+
+  public static void reset() {
+    for (int i = 0; i < PASSES.length; i++) {
+      PASSES[i] = 0L;
+    }
+    golems = 0L;
+    textureBinds = 0L;
+    drawCalls = 0L;
+  }
+
+  static void golem() {
+    if (enabled) {
+      golems++;
+    }
+  }
+
+  static void pass(final Pass pass, final int modelParts) {
+    if (enabled) {
+      PASSES[pass.ordinal()]++;
+      drawCalls += modelParts;
+    }
+  }
+
+  static void textureBind() {
+    if (enabled) {
+      textureBinds++;
+    }
+  }
+
+  public static long getPasses(final Pass pass) {
+    return PASSES[pass.ordinal()];
+  }
+
+  public static long getGolems() {
+    return golems;
+  }
+
+  public static long getTextureBinds() {
+    return textureBinds;
+  }
+
+  public static long getDrawCalls() {
+    return drawCalls;
+  }
+}
@@ -1,6 +1,7 @@
 package com.golems.renders;
 
 import com.golems.entity.GolemColorized;
+import com.golems.renders.GolemRenderStats.Pass;
 
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.entity.RenderManager;
@@ -18,12 +19,14 @@ public class RenderColoredGolem extends RenderGolem<GolemColorized> {
     final float colorGreen = golem.getColorGreen();
     final float colorBlue = golem.getColorBlue();
     final float colorAlpha = golem.getColorAlpha();
+    GolemRenderStats.golem();
 
     // render first pass of golem texture (usually eyes and other opaque,
     // pre-colored features)
     if (golem.hasBase()) {
       this.texture = golem.getTextureBase();
       if (this.texture != null) {
+        this.pass = Pass.COLOR_BASE;
         super.doRender(golem, x, y, z, f0, f1);
       }
     }
@@ -41,6 +44,7 @@ public class RenderColoredGolem extends RenderGolem<GolemColorized> {
     // render second pass of golem texture
     this.texture = golem.getTextureToColor();
     if (this.texture != null) {
+      this.pass = Pass.COLOR_OVERLAY;
       super.doRender(golem, x, y, z, f0, f1);
     }
 
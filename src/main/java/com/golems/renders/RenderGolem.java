@@ -4,6 +4,7 @@ import org.lwjgl.opengl.GL11;
 
 import com.golems.entity.GolemBase;
 import com.golems.main.ExtraGolems;
+import com.golems.renders.GolemRenderStats.Pass;
 import com.golems.util.GolemNames;
 
 import net.minecraft.client.renderer.GlStateManager;
@@ -20,6 +21,8 @@ public class RenderGolem<T extends GolemBase> extends RenderLiving<T> {
   protected static final ResourceLocation fallbackTexture = GolemBase.makeTexture(ExtraGolems.MODID,
       GolemNames.CLAY_GOLEM);
   protected ResourceLocation texture;
+  /** What the next call to {@link #doRender} draws, for {@link GolemRenderStats} **/
+  protected Pass pass = Pass.TEXTURED;
 
   protected static final ResourceLocation[] damageIndicators = {
       GolemBase.makeTexture(ExtraGolems.MODID, "damage/damaged_0"),
@@ -36,11 +39,21 @@ public class RenderGolem<T extends GolemBase> extends RenderLiving<T> {
   public void doRender(final T golem, final double x, final double y, final double z, final float entityYaw,
       final float partialTicks) {
     // render everything else first
+    if (this.pass == Pass.TEXTURED) {
+      GolemRenderStats.golem();
+    }
     this.bindGolemTexture(golem);
     super.doRender(golem, x, y, z, entityYaw, partialTicks);
+    GolemRenderStats.pass(this.pass, this.mainModel.boxList.size());
     this.renderDamage(golem, x, y, z, entityYaw, partialTicks);
   }
 
+  @Override
+  protected boolean bindEntityTexture(final T golem) {
+    GolemRenderStats.textureBind();
+    return super.bindEntityTexture(golem);
+  }
+
   protected void bindGolemTexture(final T golem) {
     texture = golem.getTextureType();
   }
@@ -74,6 +87,7 @@ public class RenderGolem<T extends GolemBase> extends RenderLiving<T> {
       // actually render the damage texture
       this.texture = damageIndicators[index];
       super.doRender(golem, x, y, z, entityYaw, partialTicks);
+      GolemRenderStats.pass(Pass.DAMAGE, this.mainModel.boxList.size());
       // return GL settings to normal
       GlStateManager.disableBlend();
       GlStateManager.disableNormalize();
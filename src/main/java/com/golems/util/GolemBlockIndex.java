@@ -0,0 +1,135 @@
+package com.golems.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nullable;
+
+import com.golems.entity.GolemBase;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+
+/**
+ * Immutable index of everything that builds a golem, built by
+ * {@link GolemLookup#buildBlockIndex()}. It maps each Block (including
+ * OreDictionary aliases) to its golem, and has a dense int table indexed by
+ * {@link Block#getStateId(IBlockState)}. Each entry of the table packs a golem
+ * type index and a variant, so resolving the golem for a block state is one
+ * array read with no allocation.
+ * <br>
+ * The variant of a state comes from the function registered with
+ * {@link GolemLookup#addVariants(Class, java.util.function.ToIntFunction)}, for
+ * example the texture of a Wool Golem. State aliases registered with
+ * {@link GolemLookup#addStateAlias(IBlockState, Class, int)} replace the entry
+ * for their state, so one state of a block can build a different golem.
+ * State ids change when block ids are remapped, so the index is dropped then.
+ **/
+public final class GolemBlockIndex {
+
+  /** Entry for a block state that does not build a golem **/
+  public static final int NO_GOLEM = 0;
+  /** Variant of an entry whose golem has none for that state **/
+  public static final int NO_VARIANT = -1;
+  private static final int MAX_VARIANT = 0xFFFE;
+
+  private final Map<Block, Class<? extends GolemBase>> byBlock;
+  private final List<Class<? extends GolemBase>> types = new ArrayList<>();
+  private final int[] byState;
+
+  GolemBlockIndex(final Map<Block, Class<? extends GolemBase>> blocks,
+      final Map<Class<? extends GolemBase>, ToIntFunction<IBlockState>> variants,
+      final Map<IBlockState, StateAlias> stateAliases) {
+    this.byBlock = blocks;
+    final Map<Class<? extends GolemBase>, Integer> typeIndex = new HashMap<>();
+    final TIntIntMap entries = new TIntIntHashMap();
+    for (final Map.Entry<Block, Class<? extends GolemBase>> e : blocks.entrySet()) {
+      final int type = getTypeIndex(e.getValue(), typeIndex);
+      final ToIntFunction<IBlockState> variant = variants.get(e.getValue());
+      for (final IBlockState state : e.getKey().getBlockState().getValidStates()) {
+        // states that differ only in properties not stored in metadata share an id
+        final int id = Block.getStateId(state);
+        if (id >= 0 && !entries.containsKey(id)) {
+          entries.put(id, pack(type, variant != null ? variant.applyAsInt(state) : NO_VARIANT));
+        }
+      }
+    }
+    for (final Map.Entry<IBlockState, StateAlias> e : stateAliases.entrySet()) {
+      final int id = Block.getStateId(e.getKey());
+      if (id >= 0) {
+        entries.put(id, pack(getTypeIndex(e.getValue().golemClazz, typeIndex), e.getValue().variant));
+      }
+    }
+    int maxId = -1;
+    for (final int id : entries.keys()) {
+      maxId = Math.max(maxId, id);
+    }
+    this.byState = new int[maxId + 1];
+    for (final int id : entries.keys()) {
+      this.byState[id] = entries.get(id);
+    }
+  }
+
+  private int getTypeIndex(final Class<? extends GolemBase> clazz,
+      final Map<Class<? extends GolemBase>, Integer> typeIndex) {
+    Integer index = typeIndex.get(clazz);
+    if (index == null) {
+      index = this.types.size();
+      this.types.add(clazz);
+      typeIndex.put(clazz, index);
+    }
+    return index;
+  }
+
+  private static int pack(final int type, final int variant) {
+    final int v = variant >= 0 && variant <= MAX_VARIANT ? variant : NO_VARIANT;
+    return ((type + 1) << 16) | (v + 1);
+  }
+
+  /** @return the golem built from the given block, or null if there is none **/
+  @Nullable
+  public Class<? extends GolemBase> getGolemClass(final Block block) {
+    return this.byBlock.get(block);
+  }
+
+  /** @return if the given block builds a golem **/
+  public boolean isBuildingBlock(final Block block) {
+    return this.byBlock.containsKey(block);
+  }
+
+  /**
+   * @return the packed entry for the given state, or {@link #NO_GOLEM}. Read it
+   *         with {@link #getGolemClass(int)} and {@link #getVariant(int)}
+   **/
+  public int getEntry(final IBlockState state) {
+    final int id = Block.getStateId(state);
+    return id >= 0 && id < this.byState.length ? this.byState[id] : NO_GOLEM;
+  }
+
+  /** @return the golem of an entry, or null for {@link #NO_GOLEM} **/
+  @Nullable
+  public Class<? extends GolemBase> getGolemClass(final int entry) {
+    return entry != NO_GOLEM ? this.types.get((entry >>> 16) - 1) : null;
+  }
+
+  /** @return the variant of an entry, or {@link #NO_VARIANT} **/
+  public static int getVariant(final int entry) {
+    return (entry & 0xFFFF) - 1;
+  }
+
+  /** A single block state that builds the given golem, with the given variant **/
+  static final class StateAlias {
+    final Class<? extends GolemBase> golemClazz;
+    final int variant;
+
+    StateAlias(final Class<? extends GolemBase> clazz, final int variantIn) {
+      this.golemClazz = clazz;
+      this.variant = variantIn;
+    }
+  }
+}
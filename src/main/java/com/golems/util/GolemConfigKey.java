@@ -0,0 +1,73 @@
+package com.golems.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed key for a value in a {@link GolemConfigSet}. Each key name is
+ * resolved once, when the key is created, to a slot in the primitive array of
+ * its type, so reading a value is a single array access instead of hashing a
+ * String. Keys with the same name and type are the same object and share a
+ * slot in every GolemConfigSet; names are separate for each type.
+ * <br>
+ * Golems declare their keys as {@code public static final} fields named after
+ * the String constant they are made from, with a {@code _KEY} suffix; the
+ * String constants stay for addons that use the String methods. When a
+ * config is registered with {@link GolemLookup#addConfig(Class, GolemConfigSet)}
+ * every key declared by the golem class must have been added to the set.
+ **/
+public abstract class GolemConfigKey {
+
+  private static final Map<String, IntKey> INT_KEYS = new ConcurrentHashMap<>();
+  private static final Map<String, FloatKey> FLOAT_KEYS = new ConcurrentHashMap<>();
+  private static final Map<String, BooleanKey> BOOLEAN_KEYS = new ConcurrentHashMap<>();
+  private static final AtomicInteger INT_SLOTS = new AtomicInteger();
+  private static final AtomicInteger FLOAT_SLOTS = new AtomicInteger();
+  private static final AtomicInteger BOOLEAN_SLOTS = new AtomicInteger();
+
+  /** The name of this value in the config file **/
+  public final String name;
+  /** Index of this value in the GolemConfigSet array for its type **/
+  final int slot;
+
+  private GolemConfigKey(final String nameIn, final int slotIn) {
+    this.name = nameIn;
+    this.slot = slotIn;
+  }
+
+  public static IntKey intKey(final String name) {
+    return INT_KEYS.computeIfAbsent(name, n -> new IntKey(n, INT_SLOTS.getAndIncrement()));
+  }
+
+  public static FloatKey floatKey(final String name) {
+    return FLOAT_KEYS.computeIfAbsent(name, n -> new FloatKey(n, FLOAT_SLOTS.getAndIncrement()));
+  }
+
+  public static BooleanKey booleanKey(final String name) {
+    return BOOLEAN_KEYS.computeIfAbsent(name, n -> new BooleanKey(n, BOOLEAN_SLOTS.getAndIncrement()));
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+
+  public static final class IntKey extends GolemConfigKey {
+    private IntKey(final String nameIn, final int slotIn) {
+      super(nameIn, slotIn);
+    }
+  }
+
+  public static final class FloatKey extends GolemConfigKey {
+    private FloatKey(final String nameIn, final int slotIn) {
+      super(nameIn, slotIn);
+    }
+  }
+
+  public static final class BooleanKey extends GolemConfigKey {
+    private BooleanKey(final String nameIn, final int slotIn) {
+      super(nameIn, slotIn);
+    }
+  }
+}
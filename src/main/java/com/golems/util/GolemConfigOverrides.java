@@ -0,0 +1,65 @@
+package com.golems.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.golems.main.ExtraGolems;
+
+import net.minecraft.world.World;
+
+/**
+ * Keeps the per-dimension and per-world overrides of every GolemConfigSet
+ * (see {@link GolemConfigSet#OVERRIDES}) resolved for the loaded server
+ * worlds. Overrides are applied once, when a world loads or the config is
+ * reloaded, into a flat set per dimension; nothing is matched while golems
+ * tick. Each time that happens the generation goes up, which tells golems to
+ * fetch their set again (see {@link com.golems.entity.GolemBase#getConfig}).
+ * <br>
+ * Only server worlds are tracked. Client golems read the values without
+ * overrides.
+ **/
+public final class GolemConfigOverrides {
+
+  /** World name by dimension id of every loaded server world **/
+  private static final Map<Integer, String> WORLDS = new ConcurrentHashMap<>();
+
+  private static volatile int generation;
+
+  private GolemConfigOverrides() {
+    //
+  }
+
+  /** @return a number that changes every time the overrides are resolved again **/
+  public static int getGeneration() {
+    return generation;
+  }
+
+  public static void onWorldLoad(final World world) {
+    if (world.isRemote) {
+      return;
+    }
+    WORLDS.put(world.provider.getDimension(), world.getWorldInfo().getWorldName());
+    refresh();
+  }
+
+  public static void onWorldUnload(final World world) {
+    if (!world.isRemote) {
+      WORLDS.remove(world.provider.getDimension());
+    }
+  }
+
+  /**
+   * Resolves the overrides of every registered GolemConfigSet for the loaded
+   * worlds. Call after the sets were loaded or reloaded.
+   **/
+  public static synchronized void refresh() {
+    int count = 0;
+    for (final GolemConfigSet set : GolemLookup.getConfigSets()) {
+      set.resolveOverrides(WORLDS);
+      count++;
+    }
+    generation++;
+    ExtraGolems.LOGGER.debug("Resolved golem config overrides of %d golems for dimensions %s", count,
+        WORLDS.keySet());
+  }
+}
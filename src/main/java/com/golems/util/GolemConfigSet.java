@@ -1,18 +1,42 @@
 package com.golems.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
 import com.golems.main.ExtraGolems;
-import gnu.trove.map.TObjectByteMap;
-import gnu.trove.map.TObjectFloatMap;
-import gnu.trove.map.TObjectIntMap;
-import gnu.trove.map.hash.TObjectByteHashMap;
-import gnu.trove.map.hash.TObjectFloatHashMap;
-import gnu.trove.map.hash.TObjectIntHashMap;
+import com.golems.util.GolemConfigKey.BooleanKey;
+import com.golems.util.GolemConfigKey.FloatKey;
+import com.golems.util.GolemConfigKey.IntKey;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import net.minecraftforge.common.config.Configuration;
 
 /**
  * This class loads several values from the config for a specific golem,
  * including spawn permissions, health, and attack. It can load any number of
- * fields as a boolean, int, or float.
+ * fields as a boolean, int, or float. Values are stored in primitive arrays
+ * indexed by {@link GolemConfigKey} slot; the String methods look up the key
+ * first and are kept for addons.
+ * <br>
+ * All values live in one immutable {@link Values} snapshot behind a volatile
+ * field. {@link #reload(Configuration)} reads every registered key again from
+ * another Configuration and swaps in a new snapshot, so golems see the new
+ * values on their next read without any locking.
+ * <br>
+ * Each category may also list overrides for single dimensions or worlds
+ * (see {@link #OVERRIDES}). They are not looked at when a value is read:
+ * {@link GolemConfigOverrides} resolves them into one flat set per loaded
+ * dimension when the world loads, and {@link #forDimension(int)} returns
+ * that set.
  **/
 public class GolemConfigSet {
 
@@ -21,6 +45,8 @@ public class GolemConfigSet {
   private static final String GOLEM_PERMS = "Allow Golem";
   private static final String GOLEM_HEALTH = "Golem Health";
   private static final String GOLEM_ATTACK = "Golem Attack";
+  /** Config name of the list of per-dimension and per-world overrides in each golem category **/
+  public static final String OVERRIDES = "Dimension Overrides";
 
   private static final String DEFAULTING_TO = "' - defaulting to ";
   private static final String IN_GOLEM_CONFIG_SET = "' in GolemConfigSet '";
@@ -28,13 +54,13 @@ public class GolemConfigSet {
   private String golemName;
   private String category;
 
-  private final TObjectIntMap<String> mapInt;
-  private final TObjectFloatMap<String> mapFloat;
-  private final TObjectByteMap<String> mapBoolean;
-
-  private boolean canSpawn;
-  private double maxHealth;
-  private float baseAttack;
+  /** Every key added to this set, in order, so they can be read again on reload **/
+  private final List<KeyDef> keys = new ArrayList<>();
+  private volatile Values values = new Values();
+  /** Errors for values read through the String methods that were never added, so each is logged once **/
+  private final Set<String> reportedMissing = ConcurrentHashMap.newKeySet();
+  /** Sets with overrides applied, by dimension. Dimensions without overrides are not in here **/
+  private volatile TIntObjectMap<GolemConfigSet> byDimension = new TIntObjectHashMap<>();
 
   private final boolean defSpawn;
   private final double defHealth;
@@ -44,14 +70,9 @@ public class GolemConfigSet {
   private static final int DEF_INT = 0;
   private static final float DEF_FLOAT = 0.0F;
   private static final boolean DEF_BOOL = false;
-  private static final byte TRUE = 1;
-  private static final byte FALSE = 0;
 
   public GolemConfigSet(final Configuration configFile, final String name, final boolean spawn, final double health,
       final float attack) {
-    this.mapInt = new TObjectIntHashMap<>(1);
-    this.mapFloat = new TObjectFloatHashMap<>(1);
-    this.mapBoolean = new TObjectByteHashMap<>(1);
     this.config = configFile;
     this.golemName = name;
     this.category = this.golemName.toLowerCase().replace(' ', '_');
@@ -61,6 +82,18 @@ public class GolemConfigSet {
     this.loadFromConfig();
   }
 
+  /** Copies a set to hold the given snapshot with overrides applied **/
+  private GolemConfigSet(final GolemConfigSet base, final Values resolved) {
+    this.config = base.config;
+    this.golemName = base.golemName;
+    this.category = base.category;
+    this.defSpawn = base.defSpawn;
+    this.defHealth = base.defHealth;
+    this.defAttack = base.defAttack;
+    this.keys.addAll(base.keys);
+    this.values = resolved;
+  }
+
   public GolemConfigSet(final Configuration configFile, final String name, final double health, final float attack) {
     this(configFile, name, true, health, attack);
   }
@@ -69,84 +102,407 @@ public class GolemConfigSet {
    * Load some values like spawn permission, health, and attack right away.
    **/
   public GolemConfigSet loadFromConfig() {
-    this.canSpawn = config.getBoolean(GOLEM_PERMS, this.category, this.defSpawn,
+    this.values = read(this.config);
+    return this;
+  }
+
+  /**
+   * Reads spawn permission, health, attack and every added key from the given
+   * Configuration and publishes them as a new snapshot. Safe to call from any
+   * thread; health and attack only apply to golems built afterwards.
+   **/
+  public void reload(final Configuration configFile) {
+    this.values = read(configFile);
+  }
+
+  private Values read(final Configuration cfg) {
+    final Values v = new Values();
+    v.canSpawn = cfg.getBoolean(GOLEM_PERMS, this.category, this.defSpawn,
         "Whether the " + golemName + " can be built");
-    this.maxHealth = config.getFloat(GOLEM_HEALTH, this.category, (float) this.defHealth, 0.0F, 999.0F,
+    v.maxHealth = cfg.getFloat(GOLEM_HEALTH, this.category, (float) this.defHealth, 0.0F, 999.0F,
         "Max health for this golem");
-    this.baseAttack = config.getFloat(GOLEM_ATTACK, this.category, this.defAttack, 0.0F, 300.0F,
+    v.baseAttack = cfg.getFloat(GOLEM_ATTACK, this.category, this.defAttack, 0.0F, 300.0F,
         "Base attack damage dealt by this golem");
+    for (final KeyDef def : this.keys) {
+      def.reader.read(cfg, this.category, v);
+    }
+    v.overrides = cfg.getStringList(OVERRIDES, this.category, new String[0],
+        "Values to use in a single dimension or world instead of the ones above, one per line as "
+            + "'<dimension id or world name>:<key>=<value>', "
+            + "for example '1:Allow Special: Freeze Blocks=false'. "
+            + "A dimension entry wins over a world entry. Applied when the world loads");
+    return v;
+  }
+
+  private GolemConfigSet addKey(final KeyDef def) {
+    this.keys.add(def);
+    final Values v = this.values.copy();
+    def.reader.read(this.config, this.category, v);
+    this.values = v;
     return this;
   }
 
+  public GolemConfigSet addKey(final IntKey key, final int defaultValue, final int min, final int max,
+      final String comment) {
+    return addKey(new KeyDef(key, (cfg, category, v) -> v.putInt(key, cfg.getInt(key.name, category,
+        defaultValue, min, max, comment))));
+  }
+
+  public GolemConfigSet addKey(final FloatKey key, final float defaultValue, final float min, final float max,
+      final String comment) {
+    return addKey(new KeyDef(key, (cfg, category, v) -> v.putFloat(key, cfg.getFloat(key.name, category,
+        defaultValue, min, max, comment))));
+  }
+
+  public GolemConfigSet addKey(final BooleanKey key, final boolean defaultValue, final String comment) {
+    return addKey(new KeyDef(key, (cfg, category, v) -> v.putBoolean(key, cfg.getBoolean(key.name, category,
+        defaultValue, comment))));
+  }
+
   public GolemConfigSet addKey(final String key, final int defaultValue, final int min, final int max,
       final String comment) {
-    final int value = this.config.getInt(key, this.category, defaultValue, min, max, comment);
-    this.mapInt.put(key, value);
-    return this;
+    return addKey(GolemConfigKey.intKey(key), defaultValue, min, max, comment);
   }
 
   public GolemConfigSet addKey(final String key, final float defaultValue, final float min, final float max,
       final String comment) {
-    final float value = config.getFloat(key, this.category, defaultValue, min, max, comment);
-    this.mapFloat.put(key, value);
-    return this;
+    return addKey(GolemConfigKey.floatKey(key), defaultValue, min, max, comment);
   }
 
   public GolemConfigSet addKey(final String key, final boolean defaultValue, final String comment) {
-    final boolean value = config.getBoolean(key, this.category, defaultValue, comment);
-    this.mapBoolean.put(key, value ? TRUE : FALSE);
-    return this;
+    return addKey(GolemConfigKey.booleanKey(key), defaultValue, comment);
+  }
+
+  public boolean hasKey(final IntKey key) {
+    final Values v = this.values;
+    return key.slot < v.hasInt.length && v.hasInt[key.slot];
+  }
+
+  public boolean hasKey(final FloatKey key) {
+    final Values v = this.values;
+    return key.slot < v.hasFloat.length && v.hasFloat[key.slot];
+  }
+
+  public boolean hasKey(final BooleanKey key) {
+    final Values v = this.values;
+    return key.slot < v.hasBoolean.length && v.hasBoolean[key.slot];
+  }
+
+  /**
+   * Reads a value without any lookup. Keys that were not added to this set
+   * read as 0; {@link GolemLookup#addConfig(Class, GolemConfigSet)} makes sure
+   * that does not happen for the keys a golem declares.
+   **/
+  public int getInt(final IntKey key) {
+    final int[] ints = this.values.ints;
+    return key.slot < ints.length ? ints[key.slot] : DEF_INT;
+  }
+
+  public float getFloat(final FloatKey key) {
+    final float[] floats = this.values.floats;
+    return key.slot < floats.length ? floats[key.slot] : DEF_FLOAT;
+  }
+
+  public boolean getBoolean(final BooleanKey key) {
+    final boolean[] booleans = this.values.booleans;
+    return key.slot < booleans.length && booleans[key.slot];
   }
 
   public int getInt(final String key) {
-    if (this.mapInt.containsKey(key)) {
-      return this.mapInt.get(key);
-    } else {
+    final IntKey k = GolemConfigKey.intKey(key);
+    if (!hasKey(k)) {
       final String error = "Did not find an int value matching '" + key + IN_GOLEM_CONFIG_SET + this.golemName
           + DEFAULTING_TO + DEF_INT;
-      ExtraGolems.LOGGER.error(error);
-      this.mapInt.put(key, DEF_INT);
+      if (this.reportedMissing.add(error)) {
+        ExtraGolems.LOGGER.error(error);
+      }
       return DEF_INT;
     }
+    return getInt(k);
   }
 
   public float getFloat(final String key) {
-    if (this.mapFloat.containsKey(key)) {
-      return this.mapFloat.get(key);
-    } else {
+    final FloatKey k = GolemConfigKey.floatKey(key);
+    if (!hasKey(k)) {
       final String error = "Did not find a float value matching '" + key + IN_GOLEM_CONFIG_SET + this.golemName
           + DEFAULTING_TO + DEF_FLOAT;
-      ExtraGolems.LOGGER.error(error);
-      this.mapFloat.put(key, DEF_FLOAT);
+      if (this.reportedMissing.add(error)) {
+        ExtraGolems.LOGGER.error(error);
+      }
       return DEF_FLOAT;
     }
+    return getFloat(k);
   }
 
   public boolean getBoolean(final String key) {
-    if (this.mapBoolean.containsKey(key)) {
-      return this.mapBoolean.get(key) == TRUE;
-    } else {
+    final BooleanKey k = GolemConfigKey.booleanKey(key);
+    if (!hasKey(k)) {
       final String error = "Did not find a boolean value matching '" + key + IN_GOLEM_CONFIG_SET + this.golemName
           + DEFAULTING_TO + DEF_BOOL;
-      ExtraGolems.LOGGER.error(error);
-      this.mapFloat.put(key, DEF_BOOL ? TRUE : FALSE);
+      if (this.reportedMissing.add(error)) {
+        ExtraGolems.LOGGER.error(error);
+      }
       return DEF_BOOL;
     }
+    return getBoolean(k);
+  }
+
+  /**
+   * Checks that every {@code public static} GolemConfigKey declared by the
+   * given golem class (not inherited) was added to this set.
+   * 
+   * @throws IllegalStateException listing the missing keys
+   **/
+  public void checkKeys(final Class<?> golemClazz) {
+    final List<String> missing = new ArrayList<>();
+    for (final Field f : golemClazz.getDeclaredFields()) {
+      if (!Modifier.isStatic(f.getModifiers()) || !Modifier.isPublic(f.getModifiers())
+          || !GolemConfigKey.class.isAssignableFrom(f.getType())) {
+        continue;
+      }
+      final Object key;
+      try {
+        key = f.get(null);
+      } catch (final IllegalAccessException e) {
+        continue;
+      }
+      final boolean found = key instanceof IntKey ? hasKey((IntKey) key)
+          : key instanceof FloatKey ? hasKey((FloatKey) key) : key instanceof BooleanKey && hasKey((BooleanKey) key);
+      if (!found) {
+        missing.add(f.getName() + " '" + key + "'");
+      }
+    }
+    if (!missing.isEmpty()) {
+      throw new IllegalStateException("GolemConfigSet '" + this.golemName + "' for " + golemClazz.getName()
+          + " is missing config keys: " + missing);
+    }
+  }
+
+  /**
+   * @param dimension a dimension id
+   * @return this set with the overrides for the given dimension applied, as
+   *         resolved when its world was loaded, or this set if there are none
+   **/
+  public GolemConfigSet forDimension(final int dimension) {
+    final GolemConfigSet resolved = this.byDimension.get(dimension);
+    return resolved != null ? resolved : this;
+  }
+
+  /**
+   * Resolves the overrides for every given dimension against the current
+   * snapshot and publishes the result for {@link #forDimension(int)}.
+   * @param worlds world name by dimension id
+   **/
+  void resolveOverrides(final Map<Integer, String> worlds) {
+    final TIntObjectMap<GolemConfigSet> map = new TIntObjectHashMap<>();
+    for (final Map.Entry<Integer, String> e : worlds.entrySet()) {
+      final GolemConfigSet resolved = resolve(e.getKey(), e.getValue());
+      if (resolved != this) {
+        map.put(e.getKey(), resolved);
+      }
+    }
+    this.byDimension = map;
+  }
+
+  /**
+   * @return a copy of this set with the matching overrides applied (entries
+   *         for the world first, then entries for the dimension), or this set
+   *         if no override matches
+   **/
+  private GolemConfigSet resolve(final int dimension, @Nullable final String worldName) {
+    final Values base = this.values;
+    Values resolved = null;
+    for (int pass = 0; pass < 2; pass++) {
+      for (final String line : base.overrides) {
+        final int colon = line.indexOf(':');
+        final int equals = line.lastIndexOf('=');
+        if (colon <= 0 || equals < colon) {
+          if (pass == 0) {
+            ExtraGolems.LOGGER.warn("Ignoring malformed override '%s' for golem '%s'", line, this.golemName);
+          }
+          continue;
+        }
+        final String scope = line.substring(0, colon).trim();
+        final Integer scopeDim = parseDimension(scope);
+        final boolean matches = pass == 0 ? scopeDim == null && scope.equals(worldName)
+            : scopeDim != null && scopeDim == dimension;
+        if (!matches) {
+          continue;
+        }
+        if (resolved == null) {
+          resolved = base.copy();
+        }
+        if (!override(resolved, line.substring(colon + 1, equals).trim(), line.substring(equals + 1).trim())) {
+          ExtraGolems.LOGGER.warn("Ignoring override '%s' for golem '%s': unknown key or invalid value", line,
+              this.golemName);
+        }
+      }
+    }
+    return resolved != null ? new GolemConfigSet(this, resolved) : this;
+  }
+
+  /** @return false if there is no such key or the value could not be parsed for its type **/
+  private boolean override(final Values v, final String name, final String value) {
+    try {
+      switch (name) {
+      case GOLEM_PERMS:
+        final Boolean spawn = parseBoolean(value);
+        if (spawn != null) {
+          v.canSpawn = spawn;
+        }
+        return spawn != null;
+      case GOLEM_HEALTH:
+        v.maxHealth = Float.parseFloat(value);
+        return true;
+      case GOLEM_ATTACK:
+        v.baseAttack = Float.parseFloat(value);
+        return true;
+      default:
+        for (final KeyDef def : this.keys) {
+          if (def.key.name.equals(name)) {
+            return def.override(v, value);
+          }
+        }
+        return false;
+      }
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /** @return the value of "true" or "false" in any case, otherwise null **/
+  @Nullable
+  private static Boolean parseBoolean(final String value) {
+    if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+      return Boolean.valueOf(value);
+    }
+    return null;
+  }
+
+  @Nullable
+  private static Integer parseDimension(final String scope) {
+    try {
+      return Integer.valueOf(scope);
+    } catch (final NumberFormatException e) {
+      return null;
+    }
   }
 
   public boolean canSpawn() {
-    return this.canSpawn;
+    return this.values.canSpawn;
   }
 
   public double getMaxHealth() {
-    return this.maxHealth;
+    return this.values.maxHealth;
   }
 
   public float getBaseAttack() {
-    return this.baseAttack;
+    return this.values.baseAttack;
   }
 
   public Configuration getConfig() {
     return this.config;
   }
+
+  /** @return the name of this golem's section in the config file **/
+  public String getCategory() {
+    return this.category;
+  }
+
+  /** Reads one added key from a Configuration into a snapshot **/
+  @FunctionalInterface
+  private interface KeyReader {
+    void read(Configuration cfg, String category, Values values);
+  }
+
+  /** One added key and how to read it **/
+  private static final class KeyDef {
+    private final GolemConfigKey key;
+    private final KeyReader reader;
+
+    private KeyDef(final GolemConfigKey keyIn, final KeyReader readerIn) {
+      this.key = keyIn;
+      this.reader = readerIn;
+    }
+
+    /**
+     * @return false if the value could not be parsed for the type of the key
+     * @throws NumberFormatException if a number could not be parsed
+     **/
+    private boolean override(final Values v, final String value) {
+      if (key instanceof IntKey) {
+        v.putInt((IntKey) key, Integer.parseInt(value));
+      } else if (key instanceof FloatKey) {
+        v.putFloat((FloatKey) key, Float.parseFloat(value));
+      } else {
+        final Boolean b = parseBoolean(value);
+        if (b == null) {
+          return false;
+        }
+        v.putBoolean((BooleanKey) key, b);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * One snapshot of every value in a set. Only changed while it is being
+   * built; once published through {@link GolemConfigSet#values} it is never
+   * written again.
+   **/
+  private static final class Values {
+    private boolean canSpawn;
+    private double maxHealth;
+    private float baseAttack;
+    private int[] ints = new int[0];
+    private float[] floats = new float[0];
+    private boolean[] booleans = new boolean[0];
+    // which slots were added to this set
+    private boolean[] hasInt = new boolean[0];
+    private boolean[] hasFloat = new boolean[0];
+    private boolean[] hasBoolean = new boolean[0];
+    private String[] overrides = new String[0];
+
+    private Values copy() {
+      final Values v = new Values();
+      v.canSpawn = this.canSpawn;
+      v.maxHealth = this.maxHealth;
+      v.baseAttack = this.baseAttack;
+      v.ints = this.ints.clone();
+      v.floats = this.floats.clone();
+      v.booleans = this.booleans.clone();
+      v.hasInt = this.hasInt.clone();
+      v.hasFloat = this.hasFloat.clone();
+      v.hasBoolean = this.hasBoolean.clone();
+      v.overrides = this.overrides;
+      return v;
+    }
+
+    private void putInt(final IntKey key, final int value) {
+      if (key.slot >= ints.length) {
+        ints = Arrays.copyOf(ints, key.slot + 1);
+        hasInt = Arrays.copyOf(hasInt, key.slot + 1);
+      }
+      ints[key.slot] = value;
+      hasInt[key.slot] = true;
+    }
+
+    private void putFloat(final FloatKey key, final float value) {
+      if (key.slot >= floats.length) {
+        floats = Arrays.copyOf(floats, key.slot + 1);
+        hasFloat = Arrays.copyOf(hasFloat, key.slot + 1);
+      }
+      floats[key.slot] = value;
+      hasFloat[key.slot] = true;
+    }
+
+    private void putBoolean(final BooleanKey key, final boolean value) {
+      if (key.slot >= booleans.length) {
+        booleans = Arrays.copyOf(booleans, key.slot + 1);
+        hasBoolean = Arrays.copyOf(hasBoolean, key.slot + 1);
+      }
+      booleans[key.slot] = value;
+      hasBoolean[key.slot] = true;
+    }
+  }
 }
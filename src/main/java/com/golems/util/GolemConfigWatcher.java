@@ -0,0 +1,189 @@
+package com.golems.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.golems.main.Config;
+import com.golems.main.ExtraGolems;
+
+import net.minecraftforge.common.config.Configuration;
+
+/**
+ * Watches the mod's config file and, when it changes, reads the per-golem
+ * sections again and swaps new snapshots into every registered
+ * GolemConfigSet (see {@link GolemConfigSet#reload(Configuration)}). All of
+ * the work happens on a daemon thread, and the server thread never waits
+ * for it. Golems read their special permissions, ranges, intervals and
+ * frequencies through {@link com.golems.entity.GolemBase#getResolvedConfig()}
+ * when they use them, so those apply at once. These stay with golems that
+ * were already built: health and attack (set as attributes), Dispenser Golem
+ * arrow speed (the interval of the vanilla ranged AI), whether a Magma Golem
+ * can swim, and anything a subclass passes to the flexible Glowstone, TNT or
+ * Endstone golem constructors.
+ * The "_other_" section still needs a restart. Per-dimension overrides are
+ * resolved again after each reload.
+ * <br>
+ * The file is copied before it is parsed, because Forge renames a config
+ * file it cannot parse, and an editor may still be halfway through writing it.
+ * A copy that does not parse or is missing a golem section is ignored, and the
+ * current values stay in place.
+ **/
+public final class GolemConfigWatcher {
+
+  /** Wait this long after a change so an editor can finish writing the file **/
+  private static final long SETTLE_MILLIS = 500L;
+
+  private static WatchService watchService;
+  private static Thread thread;
+
+  private GolemConfigWatcher() {
+    //
+  }
+
+  /** Starts watching if enabled in the config. Call when the server starts **/
+  public static synchronized void start() {
+    stop();
+    final File file = Config.getConfigFile();
+    if (!Config.enableConfigHotReload() || file == null) {
+      return;
+    }
+    final Path path = file.toPath().toAbsolutePath();
+    try {
+      final WatchService service = path.getFileSystem().newWatchService();
+      path.getParent().register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+      watchService = service;
+      thread = new Thread(() -> watch(service, path), "Golem config watcher");
+      thread.setDaemon(true);
+      thread.start();
+      ExtraGolems.LOGGER.info("Watching %s for golem config changes", path);
+    } catch (final IOException e) {
+      ExtraGolems.LOGGER.error("Could not watch %s for golem config changes: %s", path, e.toString());
+      stop();
+    }
+  }
+
+  public static synchronized void stop() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (final IOException e) {
+        // the thread stops either way
+      }
+      watchService = null;
+    }
+    if (thread != null) {
+      thread.interrupt();
+      thread = null;
+    }
+  }
+
+  private static void watch(final WatchService service, final Path path) {
+    try {
+      while (true) {
+        if (!isChanged(service.take(), path)) {
+          continue;
+        }
+        // let the writer finish, then fold in any further events for the same save
+        Thread.sleep(SETTLE_MILLIS);
+        WatchKey more;
+        while ((more = service.poll()) != null) {
+          isChanged(more, path);
+        }
+        reload(path);
+      }
+    } catch (final InterruptedException | ClosedWatchServiceException e) {
+      // stopped
+    }
+  }
+
+  private static boolean isChanged(final WatchKey key, final Path path) {
+    boolean changed = false;
+    for (final WatchEvent<?> event : key.pollEvents()) {
+      if (path.getFileName().equals(event.context())) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+
+  /**
+   * Reads the golem config sections from the given file and swaps them into
+   * every registered GolemConfigSet. If the file cannot be parsed or any golem
+   * section is missing (for example a file that was only half saved), nothing
+   * is swapped and every golem keeps its current values.
+   * @return true if the file was read
+   **/
+  public static boolean reload(final Path path) {
+    Path dir = null;
+    try {
+      // parse a copy in a directory of its own, so the .errored file Forge may leave behind is removed with it
+      dir = Files.createTempDirectory("golems");
+      final Path copy = dir.resolve(path.getFileName());
+      Files.copy(path, copy, StandardCopyOption.REPLACE_EXISTING);
+      final Configuration config = new Configuration(copy.toFile());
+      // Forge does not throw on a parse error: it renames the file to *.errored and loads an empty config instead
+      if (hasErroredFile(dir)) {
+        ExtraGolems.LOGGER.warn("Could not parse %s, keeping the current golem config", path);
+        return false;
+      }
+      final Collection<GolemConfigSet> sets = GolemLookup.getConfigSets();
+      final List<String> missing = new ArrayList<>();
+      for (final GolemConfigSet set : sets) {
+        if (!config.hasCategory(set.getCategory())) {
+          missing.add(set.getCategory());
+        }
+      }
+      if (!missing.isEmpty()) {
+        ExtraGolems.LOGGER.warn("%s has no section for %s, keeping the current golem config", path, missing);
+        return false;
+      }
+      int count = 0;
+      for (final GolemConfigSet set : sets) {
+        set.reload(config);
+        count++;
+      }
+      GolemConfigOverrides.refresh();
+      GolemDescriptor.invalidateAll();
+      ExtraGolems.LOGGER.info("Reloaded the config of %d golems from %s", count, path);
+      return true;
+    } catch (final IOException | RuntimeException e) {
+      ExtraGolems.LOGGER.warn("Could not reload golem config from %s: %s", path, e.toString());
+      return false;
+    } finally {
+      if (dir != null) {
+        delete(dir);
+      }
+    }
+  }
+
+  private static boolean hasErroredFile(final Path dir) throws IOException {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.errored")) {
+      return files.iterator().hasNext();
+    }
+  }
+
+  /** Deletes the given temp directory and the files in it **/
+  private static void delete(final Path dir) {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+      for (final Path file : files) {
+        Files.deleteIfExists(file);
+      }
+      Files.deleteIfExists(dir);
+    } catch (final IOException e) {
+      // left in the temp directory
+    }
+  }
+}
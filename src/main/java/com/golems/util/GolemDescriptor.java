@@ -0,0 +1,196 @@
+package com.golems.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+import com.golems.entity.EntityRedstoneLampGolem;
+import com.golems.entity.GolemBase;
+import com.golems.entity.GolemColorizedMultiTextured;
+import com.golems.entity.GolemMultiTextured;
+import com.golems.main.Config;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityList;
+import net.minecraft.entity.SharedMonsterAttributes;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.registry.EntityEntry;
+import net.minecraftforge.fml.common.registry.EntityRegistry;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+/**
+ * What the Golem Book and the Waila/TOP tooltips show about one type of golem:
+ * name, health, attack, fireproof, texture interaction, specials, building
+ * blocks and heal items. Built once per class and kept for the session
+ * instead of keeping golem entities around.
+ * <br>
+ * Health and attack come from the golem's config without per-dimension
+ * overrides, and the fireproof and texture flags from its class and the
+ * config, so a descriptor looks the same whichever world first asked for it.
+ * Specials and knockback resistance only exist on an instance, so one golem
+ * is constructed to read them and dropped right away; no World is referenced
+ * afterwards. The descriptors are built again after the config is reloaded
+ * (see {@link #invalidateAll()}).
+ **/
+public final class GolemDescriptor {
+
+  private static final Map<Class<? extends GolemBase>, GolemDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+  private static volatile int generation;
+
+  private final Class<? extends GolemBase> golemClass;
+  private final String entityName;
+  private final float maxHealth;
+  private final float attack;
+  private final boolean fireproof;
+  private final boolean multiTexture;
+  private final boolean knockbackResistant;
+  private final List<String> specials;
+
+  private volatile HealItemIndex healNamesSource;
+  private volatile List<String> healItemNames;
+
+  private GolemDescriptor(final Class<? extends GolemBase> golemClazz, final GolemBase golem) {
+    final GolemProfile profile = GolemLookup.getProfile(golemClazz);
+    final EntityEntry entry = EntityRegistry.getEntry(golemClazz);
+    this.golemClass = golemClazz;
+    this.entityName = entry != null ? entry.getName() : EntityList.getEntityString(golem);
+    this.maxHealth = (float) profile.getConfig().getMaxHealth();
+    this.attack = profile.getConfig().getBaseAttack();
+    this.fireproof = profile.isFireproof();
+    this.multiTexture = Config.interactChangesTexture()
+        && (GolemMultiTextured.class.isAssignableFrom(golemClazz)
+            || GolemColorizedMultiTextured.class.isAssignableFrom(golemClazz))
+        && !EntityRedstoneLampGolem.class.isAssignableFrom(golemClazz);
+    this.knockbackResistant = golem.getEntityAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE)
+        .getBaseValue() > 0.8999D;
+    this.specials = Collections.unmodifiableList(golem.addSpecialDesc(new ArrayList<>()));
+  }
+
+  /**
+   * @param golemClazz the golem
+   * @param world      used to construct a golem for its specials if the
+   *                   descriptor is not built yet. The golem is not spawned
+   *                   or kept
+   * @return the descriptor for the given golem
+   **/
+  @Nonnull
+  public static GolemDescriptor get(final Class<? extends GolemBase> golemClazz, final World world) {
+    GolemDescriptor descriptor = DESCRIPTORS.get(golemClazz);
+    if (descriptor == null) {
+      final GolemBase golem = (GolemBase) EntityList.newEntity(golemClazz, world);
+      descriptor = new GolemDescriptor(golemClazz, golem);
+      final GolemDescriptor existing = DESCRIPTORS.putIfAbsent(golemClazz, descriptor);
+      if (existing != null) {
+        descriptor = existing;
+      }
+    }
+    return descriptor;
+  }
+
+  /** @return the descriptor for the type of the given golem **/
+  @Nonnull
+  public static GolemDescriptor get(final GolemBase golem) {
+    return get(golem.getClass(), golem.getEntityWorld());
+  }
+
+  /**
+   * @param world used to construct golems whose descriptors are not built yet
+   * @return the descriptor of every registered golem, in registration order
+   **/
+  public static List<GolemDescriptor> getAll(final World world) {
+    final List<GolemDescriptor> list = new ArrayList<>();
+    for (final EntityEntry entry : ForgeRegistries.ENTITIES) {
+      if (GolemBase.class.isAssignableFrom(entry.getEntityClass())) {
+        list.add(get(entry.getEntityClass().asSubclass(GolemBase.class), world));
+      }
+    }
+    return list;
+  }
+
+  /** Drops every descriptor so they are built again with the current config **/
+  public static void invalidateAll() {
+    DESCRIPTORS.clear();
+    generation++;
+  }
+
+  /** @return a number that changes every time the descriptors are dropped **/
+  public static int getGeneration() {
+    return generation;
+  }
+
+  public Class<? extends GolemBase> getGolemClass() {
+    return this.golemClass;
+  }
+
+  /** @return the config of this golem, without per-dimension overrides **/
+  @Nonnull
+  public GolemConfigSet getConfig() {
+    return GolemLookup.getProfile(this.golemClass).getConfig();
+  }
+
+  /** @return the entity name, for example "golems.clay_golem" **/
+  public String getEntityName() {
+    return this.entityName;
+  }
+
+  public float getMaxHealth() {
+    return this.maxHealth;
+  }
+
+  public float getAttack() {
+    return this.attack;
+  }
+
+  public boolean isFireproof() {
+    return this.fireproof;
+  }
+
+  /** @return true if interacting with this golem changes its texture **/
+  public boolean isMultiTexture() {
+    return this.multiTexture;
+  }
+
+  public boolean isKnockbackResistant() {
+    return this.knockbackResistant;
+  }
+
+  /** @return the special descriptions of a new golem of this type. Do not modify **/
+  public List<String> getSpecials() {
+    return this.specials;
+  }
+
+  /** @return the blocks used to build this golem. Do not modify **/
+  @Nonnull
+  public Block[] getBuildingBlocks() {
+    return GolemLookup.getProfile(this.golemClass).getBuildingBlocks();
+  }
+
+  /**
+   * @return one line for each heal item name, with wildcard items expanded
+   *         into their sub-items. Built again only when the heal items change.
+   **/
+  public List<String> getHealItemNames() {
+    final HealItemIndex index = GolemLookup.getProfile(this.golemClass).getHealIndex();
+    List<String> names = this.healItemNames;
+    if (names == null || this.healNamesSource != index) {
+      // use a set to avoid duplicate entries
+      final Set<String> set = new LinkedHashSet<>();
+      final String prefix = TextFormatting.RED + "\u2764" + TextFormatting.GRAY + " ";
+      for (final ItemStack s : index.getDisplayStacks()) {
+        set.add(prefix + s.getDisplayName());
+      }
+      names = Collections.unmodifiableList(new ArrayList<>(set));
+      this.healItemNames = names;
+      this.healNamesSource = index;
+    }
+    return names;
+  }
+}
@@ -1,12 +1,17 @@
 package com.golems.util;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -16,9 +21,11 @@ import com.golems.main.Config;
 import com.golems.main.ExtraGolems;
 
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityList;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
@@ -30,6 +37,12 @@ import net.minecraftforge.registries.IRegistryDelegate;
  * golem, and also to retrieve said building block when given only the golem's
  * class. It also stores and maps each golem's GolemConfigSet, rather than
  * keeping them all as separate declarations.
+ * <p>
+ * Golems register during loading, on the main thread. In postInit
+ * {@link #freeze()} replaces the maps with unmodifiable copies. After that a
+ * registration copies the map it changes and publishes the new copy, so
+ * readers on any thread (worldgen threads, chunk loading, analysis tools)
+ * can read the current maps without locking and never see one being changed.
  * 
  * @author skyjay1
  **/
@@ -39,11 +52,41 @@ public final class GolemLookup {
    * Map to retrieve the Golem that is built from the given Block. This is used
    * most.
    **/
-  private static final Map<IRegistryDelegate<Block>, Class<? extends GolemBase>> BLOCK_TO_GOLEM = new HashMap();
+  private static volatile Map<IRegistryDelegate<Block>, Class<? extends GolemBase>> blockToGolem = new HashMap();
   /** Map to retrieve all Blocks this Golem uses. Used for Golem Book. **/
-  private static final Map<Class<? extends GolemBase>, Set<IRegistryDelegate<Block>>> GOLEM_TO_BLOCK = new HashMap();
+  private static volatile Map<Class<? extends GolemBase>, Set<IRegistryDelegate<Block>>> golemToBlock = new HashMap();
   /** Map to retrieve the GolemConfigSet for this golem **/
-  private static final Map<Class<? extends GolemBase>, GolemConfigSet> GOLEM_TO_CONFIG = new HashMap();
+  private static volatile Map<Class<? extends GolemBase>, GolemConfigSet> golemToConfig = new HashMap();
+  /** Map to retrieve the function that picks a variant from the block state a golem is built from **/
+  private static volatile Map<Class<? extends GolemBase>, ToIntFunction<IBlockState>> golemToVariants = new HashMap<>();
+  /** Map of single block states that build a golem other than the one for their block **/
+  private static volatile Map<IBlockState, GolemBlockIndex.StateAlias> stateAliases = new HashMap<>();
+  /** Map to retrieve the heal items registered for this golem, in registration order **/
+  private static volatile Map<Class<? extends GolemBase>, Map<ItemStack, Double>> golemToHealItems = new HashMap<>();
+  /** Map to retrieve the OreDictionary names whose items heal this golem **/
+  private static volatile Map<Class<? extends GolemBase>, Map<String, Double>> golemToHealOres = new HashMap<>();
+  /** Map to retrieve the shared texture array of a multi-textured golem **/
+  private static volatile Map<Class<? extends GolemBase>, ResourceLocation[]> golemToTextures = new HashMap<>();
+  /** Map to retrieve the shared loot table array of a multi-textured golem **/
+  private static volatile Map<Class<? extends GolemBase>, ResourceLocation[]> golemToLootTables = new HashMap<>();
+  /** Map of golems that take no fire damage; the value is always true **/
+  private static volatile Map<Class<? extends GolemBase>, Boolean> golemToFireproof = new HashMap<>();
+  /** Once true, the maps above are unmodifiable and replaced on each change **/
+  private static boolean frozen;
+  /**
+   * Map to retrieve the shared GolemProfile for this golem. Golems are
+   * constructed on both the client and server threads, so this one is concurrent.
+   **/
+  private static final Map<Class<? extends GolemBase>, GolemProfile> GOLEM_TO_PROFILE = new ConcurrentHashMap<>();
+  /** Changes every time a profile is dropped, so golems know to fetch theirs again **/
+  private static volatile int profileGeneration;
+  /**
+   * Every Block and block state that builds a golem, including OreDictionary
+   * aliases. Built by {@link #buildBlockIndex()} and dropped when a mapping or
+   * OreDictionary entry is added or block ids are remapped, so it is null until
+   * the next lookup builds it again.
+   **/
+  private static volatile GolemBlockIndex blockIndex;
 
   private GolemLookup() {
     //
@@ -72,15 +115,18 @@ public final class GolemLookup {
    * 
    * @return if the mapping was added successfully
    **/
-  private static boolean addBlockToGolemMapping(@Nonnull final Block buildingBlock,
+  private static synchronized boolean addBlockToGolemMapping(@Nonnull final Block buildingBlock,
       @Nonnull final Class<? extends GolemBase> golemClazz) {
     // Error check for duplicate keys
-    if (BLOCK_TO_GOLEM.containsKey(buildingBlock.delegate)) {
+    if (blockToGolem.containsKey(buildingBlock.delegate)) {
       ExtraGolems.LOGGER.warn(
           "Tried to associate Block " + buildingBlock + " with a Golem but Block has already been added! Skipping.");
       return false;
     }
-    BLOCK_TO_GOLEM.put(buildingBlock.delegate, golemClazz);
+    final Map<IRegistryDelegate<Block>, Class<? extends GolemBase>> map = writable(blockToGolem);
+    map.put(buildingBlock.delegate, golemClazz);
+    blockToGolem = publish(map);
+    invalidateBlockIndex();
     return true;
   }
 
@@ -90,7 +136,7 @@ public final class GolemLookup {
    * 
    * @return if the mapping was added successfully
    **/
-  private static boolean addGolemToBlockMapping(@Nonnull final Class<? extends GolemBase> golemClazz,
+  private static synchronized boolean addGolemToBlockMapping(@Nonnull final Class<? extends GolemBase> golemClazz,
       @Nullable final Block... buildingBlocks) {
     if (buildingBlocks != null && buildingBlocks.length > 0) {
       // populate the set
@@ -101,11 +147,14 @@ public final class GolemLookup {
         }
       }
       // add the set to the map
-      if (GOLEM_TO_BLOCK.containsKey(golemClazz)) {
-        GOLEM_TO_BLOCK.get(golemClazz).addAll(blocks);
-      } else {
-        GOLEM_TO_BLOCK.put(golemClazz, blocks);
+      final Map<Class<? extends GolemBase>, Set<IRegistryDelegate<Block>>> map = writable(golemToBlock);
+      final Set<IRegistryDelegate<Block>> existing = map.get(golemClazz);
+      if (existing != null) {
+        blocks.addAll(existing);
       }
+      map.put(golemClazz, frozen ? Collections.unmodifiableSet(blocks) : blocks);
+      golemToBlock = publish(map);
+      dropProfile(golemClazz);
       return true;
     }
     return false;
@@ -138,19 +187,232 @@ public final class GolemLookup {
    * Adds a new Golem-to-GolemConfigSet mapping.
    * 
    * @return if the Golem and GolemConfigSet were successfully added
+   * @throws IllegalStateException if the config is missing a GolemConfigKey
+   *                               declared by the golem class
    **/
-  public static boolean addConfig(final Class<? extends GolemBase> golemClazz, final GolemConfigSet config) {
+  public static synchronized boolean addConfig(final Class<? extends GolemBase> golemClazz,
+      final GolemConfigSet config) {
+    config.checkKeys(golemClazz);
     // error check
-    if (GOLEM_TO_CONFIG.containsKey(golemClazz)) {
+    if (golemToConfig.containsKey(golemClazz)) {
       ExtraGolems.LOGGER
           .warn("Tried to add a Config for " + golemClazz.getName() + " but Golem already has one! Skipping.");
       return false;
     }
 
-    GOLEM_TO_CONFIG.put(golemClazz, config);
+    final Map<Class<? extends GolemBase>, GolemConfigSet> map = writable(golemToConfig);
+    map.put(golemClazz, config);
+    golemToConfig = publish(map);
+    dropProfile(golemClazz);
+    return true;
+  }
+
+  /**
+   * Registers a function that picks the variant (for multi-textured golems,
+   * the texture index) from the block state the golem is built from. Every
+   * state of the golem's building blocks is passed to it once, when the block
+   * index is built; a golem built from that state then receives the result in
+   * {@link GolemBase#setVariant(int)}. Return {@link GolemBlockIndex#NO_VARIANT}
+   * for states without one.
+   **/
+  public static synchronized void addVariants(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nonnull final ToIntFunction<IBlockState> variants) {
+    final Map<Class<? extends GolemBase>, ToIntFunction<IBlockState>> map = writable(golemToVariants);
+    map.put(golemClazz, variants);
+    golemToVariants = publish(map);
+    invalidateBlockIndex();
+  }
+
+  /**
+   * Registers an item that heals the given golem. Call it where the golem is
+   * registered, not from its constructor: every golem of the class shares
+   * its heal items through its {@link GolemProfile}.
+   *
+   * @param golemClazz the golem
+   * @param stack      an ItemStack containing the item. Use
+   *                   {@link OreDictionary#WILDCARD_VALUE} to match any metadata
+   * @param multiplier the percentage of health that should be added (typically
+   *                   0.25 or 0.5)
+   * @return if the heal item was added
+   **/
+  public static synchronized boolean addHealItem(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nonnull final ItemStack stack, final double multiplier) {
+    return addHealItem(golemClazz, stack, multiplier, true);
+  }
+
+  /**
+   * Same as {@link #addHealItem(Class, ItemStack, double)}, but an item that
+   * was already added is skipped without a warning. Used by the deprecated
+   * {@link GolemBase#addHealItem(ItemStack, double)}, which runs once per
+   * instance.
+   **/
+  public static boolean addHealItemIfAbsent(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nonnull final ItemStack stack, final double multiplier) {
+    return addHealItem(golemClazz, stack, multiplier, false);
+  }
+
+  private static synchronized boolean addHealItem(final Class<? extends GolemBase> golemClazz, final ItemStack stack,
+      final double multiplier, final boolean warnIfPresent) {
+    final Map<ItemStack, Double> existing = golemToHealItems.getOrDefault(golemClazz, Collections.emptyMap());
+    for (final ItemStack s : existing.keySet()) {
+      if (s.getItem() == stack.getItem() && s.getMetadata() == stack.getMetadata()) {
+        if (warnIfPresent) {
+          ExtraGolems.LOGGER.warn("Tried to add heal item " + stack + " for " + golemClazz.getName()
+              + " but it has already been added! Skipping.");
+        }
+        return false;
+      }
+    }
+    final Map<ItemStack, Double> items = new LinkedHashMap<>(existing);
+    items.put(stack.copy(), multiplier);
+    final Map<Class<? extends GolemBase>, Map<ItemStack, Double>> map = writable(golemToHealItems);
+    map.put(golemClazz, Collections.unmodifiableMap(items));
+    golemToHealItems = publish(map);
+    dropProfile(golemClazz);
+    return true;
+  }
+
+  /**
+   * Registers every item with the given OreDictionary name, including entries
+   * registered later, as an item that heals the given golem.
+   *
+   * @param golemClazz the golem
+   * @param oreName    the OreDictionary name, for example "plankWood"
+   * @param multiplier the percentage of health that should be added
+   * @return if the name was added
+   **/
+  public static synchronized boolean addHealItem(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nonnull final String oreName, final double multiplier) {
+    return addHealItem(golemClazz, oreName, multiplier, true);
+  }
+
+  /**
+   * Same as {@link #addHealItem(Class, String, double)}, but a name that was
+   * already added is skipped without a warning. Used by the deprecated
+   * {@link GolemBase#addHealItem(String, double)}.
+   **/
+  public static boolean addHealItemIfAbsent(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nonnull final String oreName, final double multiplier) {
+    return addHealItem(golemClazz, oreName, multiplier, false);
+  }
+
+  private static synchronized boolean addHealItem(final Class<? extends GolemBase> golemClazz, final String oreName,
+      final double multiplier, final boolean warnIfPresent) {
+    final Map<String, Double> existing = golemToHealOres.getOrDefault(golemClazz, Collections.emptyMap());
+    if (existing.containsKey(oreName)) {
+      if (warnIfPresent) {
+        ExtraGolems.LOGGER.warn("Tried to add heal items \"" + oreName + "\" for " + golemClazz.getName()
+            + " but they have already been added! Skipping.");
+      }
+      return false;
+    }
+    final Map<String, Double> ores = new LinkedHashMap<>(existing);
+    ores.put(oreName, multiplier);
+    final Map<Class<? extends GolemBase>, Map<String, Double>> map = writable(golemToHealOres);
+    map.put(golemClazz, Collections.unmodifiableMap(ores));
+    golemToHealOres = publish(map);
+    dropProfile(golemClazz);
+    return true;
+  }
+
+  /**
+   * Registers the texture and loot table arrays shared by every golem of a
+   * multi-textured class, indexed by texture number.
+   *
+   * @param golemClazz the golem
+   * @param textures   the textures, or null if the golem is colorized
+   * @param lootTables the loot tables
+   **/
+  public static synchronized void addTextures(@Nonnull final Class<? extends GolemBase> golemClazz,
+      @Nullable final ResourceLocation[] textures, @Nonnull final ResourceLocation[] lootTables) {
+    final Map<Class<? extends GolemBase>, ResourceLocation[]> tex = writable(golemToTextures);
+    if (textures != null) {
+      tex.put(golemClazz, textures);
+    } else {
+      tex.remove(golemClazz);
+    }
+    golemToTextures = publish(tex);
+    final Map<Class<? extends GolemBase>, ResourceLocation[]> loot = writable(golemToLootTables);
+    loot.put(golemClazz, lootTables);
+    golemToLootTables = publish(loot);
+    dropProfile(golemClazz);
+  }
+
+  /**
+   * Registers a golem class as immune to fire. Every golem of the class is
+   * made fireproof when constructed, and the Golem Book and Waila/TOP
+   * tooltips show it without building one.
+   *
+   * @param golemClazz the golem
+   **/
+  public static synchronized void setFireproof(@Nonnull final Class<? extends GolemBase> golemClazz) {
+    final Map<Class<? extends GolemBase>, Boolean> map = writable(golemToFireproof);
+    map.put(golemClazz, Boolean.TRUE);
+    golemToFireproof = publish(map);
+    dropProfile(golemClazz);
+  }
+
+  /**
+   * Used to register a single block state that builds the given golem, even if
+   * other states of its block build a different golem or none. Only used when
+   * a golem is built from a block state; the Block lookups such as
+   * {@link #isBuildingBlock(Block)} do not see it.
+   * 
+   * @param state      the block state
+   * @param golemClazz the golem that should be built from it
+   * @param variant    passed to {@link GolemBase#setVariant(int)}, or
+   *                   {@link GolemBlockIndex#NO_VARIANT}
+   * @return if the mapping was added successfully
+   **/
+  public static synchronized boolean addStateAlias(@Nonnull final IBlockState state,
+      @Nonnull final Class<? extends GolemBase> golemClazz, final int variant) {
+    if (stateAliases.containsKey(state)) {
+      ExtraGolems.LOGGER.warn(
+          "Tried to associate BlockState " + state + " with a Golem but it has already been added! Skipping.");
+      return false;
+    }
+    final Map<IBlockState, GolemBlockIndex.StateAlias> map = writable(stateAliases);
+    map.put(state, new GolemBlockIndex.StateAlias(golemClazz, variant));
+    stateAliases = publish(map);
+    invalidateBlockIndex();
     return true;
   }
 
+  /**
+   * Replaces the registry maps with unmodifiable copies. Registrations after
+   * this copy the map they change. Called in postInit.
+   **/
+  public static synchronized void freeze() {
+    if (frozen) {
+      return;
+    }
+    final Map<Class<? extends GolemBase>, Set<IRegistryDelegate<Block>>> blocks = new HashMap<>();
+    for (final Map.Entry<Class<? extends GolemBase>, Set<IRegistryDelegate<Block>>> e : golemToBlock.entrySet()) {
+      blocks.put(e.getKey(), Collections.unmodifiableSet(new HashSet<>(e.getValue())));
+    }
+    golemToBlock = Collections.unmodifiableMap(blocks);
+    blockToGolem = Collections.unmodifiableMap(new HashMap<>(blockToGolem));
+    golemToConfig = Collections.unmodifiableMap(new HashMap<>(golemToConfig));
+    golemToVariants = Collections.unmodifiableMap(new HashMap<>(golemToVariants));
+    stateAliases = Collections.unmodifiableMap(new HashMap<>(stateAliases));
+    golemToHealItems = Collections.unmodifiableMap(new HashMap<>(golemToHealItems));
+    golemToHealOres = Collections.unmodifiableMap(new HashMap<>(golemToHealOres));
+    golemToTextures = Collections.unmodifiableMap(new HashMap<>(golemToTextures));
+    golemToLootTables = Collections.unmodifiableMap(new HashMap<>(golemToLootTables));
+    golemToFireproof = Collections.unmodifiableMap(new HashMap<>(golemToFireproof));
+    frozen = true;
+  }
+
+  /** @return the map itself while loading, or a copy to change once frozen **/
+  private static <K, V> Map<K, V> writable(final Map<K, V> map) {
+    return frozen ? new HashMap<>(map) : map;
+  }
+
+  /** @return the changed map, made unmodifiable once frozen **/
+  private static <K, V> Map<K, V> publish(final Map<K, V> map) {
+    return frozen ? Collections.unmodifiableMap(map) : map;
+  }
+
   /**
    * Used to get a Golem instance based on the block given
    * 
@@ -176,26 +438,17 @@ public final class GolemLookup {
    * @return The Golem associated with this block, or null if none is found.
    **/
   @Nullable
-  private static Class<? extends GolemBase> getGolemClass(final Block block) {
+  static Class<? extends GolemBase> getGolemClass(final Block block) {
 
     if (block == null) {
       ExtraGolems.LOGGER.error("Can't make a golem with a null block!");
       return null;
-    } else if (BLOCK_TO_GOLEM.containsKey(block.delegate)) {
-      return BLOCK_TO_GOLEM.get(block.delegate);
-    } else {
-      // The block itself is not registered, try matching the OreDict name instead
-      if (Config.getUseOreDictBlocks()) {
-        for (Block b : getOreDictMatches(block)) {
-          if (b != null && BLOCK_TO_GOLEM.containsKey(b.delegate)) {
-            return BLOCK_TO_GOLEM.get(b.delegate);
-          }
-        }
-      } else {
-        ExtraGolems.LOGGER.error("Tried to make a golem with an unknown block: " + block.getRegistryName());
-      }
     }
-    return null;
+    final Class<? extends GolemBase> clazz = getBlockIndex().getGolemClass(block);
+    if (clazz == null && !Config.getUseOreDictBlocks()) {
+      ExtraGolems.LOGGER.error("Tried to make a golem with an unknown block: " + block.getRegistryName());
+    }
+    return clazz;
   }
 
   /**
@@ -209,8 +462,10 @@ public final class GolemLookup {
     if (golemClazz == null) {
       ExtraGolems.LOGGER.error("Can't get a block from a null golem!");
       return new Block[0];
-    } else if (GOLEM_TO_BLOCK.containsKey(golemClazz)) {
-      final IRegistryDelegate<Block>[] blockSet = GOLEM_TO_BLOCK.get(golemClazz).toArray(new IRegistryDelegate[0]);
+    }
+    final Set<IRegistryDelegate<Block>> set = golemToBlock.get(golemClazz);
+    if (set != null) {
+      final IRegistryDelegate<Block>[] blockSet = set.toArray(new IRegistryDelegate[0]);
       final Block[] blocks = new Block[blockSet.length];
       for (int i = 0, l = blockSet.length; i < l; i++) {
         blocks[i] = blockSet[i].get();
@@ -233,7 +488,7 @@ public final class GolemLookup {
     if (golemClazz == null) {
       ExtraGolems.LOGGER.error("Can't get a block from a null golem!");
       return null;
-    } else if (GOLEM_TO_BLOCK.containsKey(golemClazz)) {
+    } else if (golemToBlock.containsKey(golemClazz)) {
       final Block[] blocks = getBuildingBlocks(golemClazz);
       return blocks != null && blocks.length > 0 ? blocks[0] : null;
     } else {
@@ -244,24 +499,40 @@ public final class GolemLookup {
 
   /** @return if this block can be used to build a golem **/
   public static boolean isBuildingBlock(final Block block) {
-    if (block != null && BLOCK_TO_GOLEM.containsKey(block.delegate) && BLOCK_TO_GOLEM.get(block.delegate) != null) {
-      return true;
-    } else if (Config.getUseOreDictBlocks()) {
-      // search the OreDictionary for golem blocks under the given block's OreDict
-      // name
-      final Block[] matches = getOreDictMatches(block);
-      for (Block b : matches) {
-        if (b != null && BLOCK_TO_GOLEM.containsKey(b.delegate) && BLOCK_TO_GOLEM.get(b.delegate) != null) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return block != null && getBlockIndex().isBuildingBlock(block);
+  }
+
+  /**
+   * Resolves the golem for a block state with a single array read.
+   * 
+   * @param state the block state a golem would be built from
+   * @return the packed entry for the state, or {@link GolemBlockIndex#NO_GOLEM}.
+   *         Pass it to {@link #getGolem(World, int)} and {@link #getVariant(int)}
+   **/
+  public static int getStateEntry(final IBlockState state) {
+    return getBlockIndex().getEntry(state);
+  }
+
+  /** @return the variant of an entry from {@link #getStateEntry(IBlockState)} **/
+  public static int getVariant(final int stateEntry) {
+    return GolemBlockIndex.getVariant(stateEntry);
+  }
+
+  /**
+   * Used to get a Golem instance based on an entry from
+   * {@link #getStateEntry(IBlockState)}. The variant is not applied.
+   * 
+   * @return The Golem for this entry, or null if there is none.
+   **/
+  @Nullable
+  public static GolemBase getGolem(final World world, final int stateEntry) {
+    final Class<? extends GolemBase> clazz = getBlockIndex().getGolemClass(stateEntry);
+    return clazz != null ? (GolemBase) EntityList.newEntity(clazz, world) : null;
   }
 
   /** @return if there are any valid building blocks for the given golem **/
   public static boolean hasBuildingBlock(final Class<? extends GolemBase> golemClazz) {
-    return golemClazz != null && GOLEM_TO_BLOCK.containsKey(golemClazz) && GOLEM_TO_BLOCK.get(golemClazz) != null;
+    return golemClazz != null && golemToBlock.get(golemClazz) != null;
   }
 
   /**
@@ -276,33 +547,101 @@ public final class GolemLookup {
     if (golemClazz == null) {
       ExtraGolems.LOGGER.error("Can't get config file for a null golem!");
       return null;
-    } else if (GOLEM_TO_CONFIG.containsKey(golemClazz)) {
-      return GOLEM_TO_CONFIG.get(golemClazz);
+    }
+    final GolemConfigSet config = golemToConfig.get(golemClazz);
+    if (config != null) {
+      return config;
     } else {
       ExtraGolems.LOGGER.error("Tried to get config file for unknown golem!");
       return null;
     }
   }
 
+  /**
+   * Used to retrieve the GolemProfile shared by every instance of the given
+   * Golem. It is built on first use from what was registered for the golem,
+   * and built again if anything is registered for it later.
+   * 
+   * @param golemClazz The golem
+   * @return the GolemProfile for this golem, never null
+   **/
+  @Nonnull
+  public static GolemProfile getProfile(@Nonnull final Class<? extends GolemBase> golemClazz) {
+    final GolemProfile profile = GOLEM_TO_PROFILE.get(golemClazz);
+    return profile != null ? profile : buildProfile(golemClazz);
+  }
+
+  /** Locked so a registration cannot drop the profile while it is being built from the old values **/
+  private static synchronized GolemProfile buildProfile(final Class<? extends GolemBase> golemClazz) {
+    GolemProfile profile = GOLEM_TO_PROFILE.get(golemClazz);
+    if (profile == null) {
+      final Block[] blocks = golemToBlock.containsKey(golemClazz) ? getBuildingBlocks(golemClazz) : new Block[0];
+      profile = new GolemProfile(golemClazz, golemToConfig.get(golemClazz), blocks,
+          golemToHealItems.getOrDefault(golemClazz, Collections.emptyMap()),
+          golemToHealOres.getOrDefault(golemClazz, Collections.emptyMap()), golemToTextures.get(golemClazz),
+          golemToLootTables.get(golemClazz), golemToFireproof.containsKey(golemClazz));
+      GOLEM_TO_PROFILE.put(golemClazz, profile);
+    }
+    return profile;
+  }
+
+  /** @return a number that changes every time a profile is dropped **/
+  public static int getProfileGeneration() {
+    return profileGeneration;
+  }
+
+  private static synchronized void dropProfile(final Class<? extends GolemBase> golemClazz) {
+    GOLEM_TO_PROFILE.remove(golemClazz);
+    profileGeneration++;
+  }
+
+  /**
+   * Drops the profiles of golems that heal from OreDictionary names, so they
+   * are built again with the new entries. Call when an OreDictionary entry is
+   * registered.
+   **/
+  public static synchronized void invalidateProfiles() {
+    for (final Class<? extends GolemBase> golemClazz : golemToHealOres.keySet()) {
+      GOLEM_TO_PROFILE.remove(golemClazz);
+    }
+    if (!golemToHealOres.isEmpty()) {
+      profileGeneration++;
+    }
+  }
+
   /** @return if the given golem is mapped to a GolemConfigSet **/
   public static boolean hasConfig(final Class<? extends GolemBase> golemClazz) {
-    return golemClazz != null && GOLEM_TO_CONFIG.containsKey(golemClazz) && GOLEM_TO_CONFIG.get(golemClazz) != null;
+    return golemClazz != null && golemToConfig.get(golemClazz) != null;
+  }
+
+  /** @return every registered GolemConfigSet **/
+  static Collection<GolemConfigSet> getConfigSets() {
+    return golemToConfig.values();
   }
 
-  /** @return all valid Blocks to build a golem **/
+  /**
+   * @return all valid Blocks to build a golem. Once frozen this is an
+   *         unmodifiable snapshot that later registrations do not change
+   **/
   public static Set<IRegistryDelegate<Block>> getBlockSet() {
-    return BLOCK_TO_GOLEM.keySet();
+    return blockToGolem.keySet();
   }
 
-  /** @return all Golem classes that have been mapped **/
+  /**
+   * @return all Golem classes that have been mapped. Once frozen this is an
+   *         unmodifiable snapshot that later registrations do not change
+   **/
   public static Set<Class<? extends GolemBase>> getGolemSet() {
-    return GOLEM_TO_BLOCK.keySet();
+    return golemToBlock.keySet();
   }
 
   /**
    * @return a List containing default instances of each Golem, sorted by attack
    *         power. They do not exist in the world.
+   * @deprecated each instance keeps a reference to the World. Use
+   *             {@link GolemDescriptor#getAll(World)} instead
    **/
+  @Deprecated
   public static List<GolemBase> getDummyGolemList(final World world) {
     final List<GolemBase> list = new LinkedList();
     // for each entity, find out if it's a golem and add it to the list
@@ -314,45 +653,98 @@ public final class GolemLookup {
     return list;
   }
 
+  /** @return the block index, built here if it was dropped since the last lookup **/
+  private static GolemBlockIndex getBlockIndex() {
+    final GolemBlockIndex index = blockIndex;
+    return index != null ? index : buildBlockIndex();
+  }
+
   /**
-   * Searches the OreDictionary for entries registered under the same name as the
-   * passed block. Used in case the given block is considered the same as a block
-   * we've already registered and should therefore build the same golem.
+   * Builds the index of every block that builds a golem. When OreDictionary
+   * blocks are enabled, a block that is not mapped itself builds the same golem
+   * as the first mapped block registered under its first OreDictionary name.
+   * Every state of those blocks goes in the state table, with its variant.
+   * Called in postInit, and again on the next lookup after the index was dropped.
    * 
-   * @param original a block whose OreDict entries we should search for. Passing
-   *                 null will result in an empty array.
-   * @return an array of all valid golem blocks with this OreDict name, or an
-   *         empty array if none are found.
+   * @return the new index
    **/
-  @Nonnull
-  private static Block[] getOreDictMatches(@Nullable final Block original) {
-    if (original == null) {
-      return new Block[] {};
+  public static synchronized GolemBlockIndex buildBlockIndex() {
+    final Map<Block, Class<? extends GolemBase>> index = new IdentityHashMap<>();
+    final Map<IRegistryDelegate<Block>, Class<? extends GolemBase>> mappings = blockToGolem;
+    for (final Map.Entry<IRegistryDelegate<Block>, Class<? extends GolemBase>> e : mappings.entrySet()) {
+      final Block b = e.getKey().get();
+      if (b != null && e.getValue() != null) {
+        index.put(b, e.getValue());
+      }
     }
-    final int[] ids = OreDictionary.getOreIDs(new ItemStack(original));
-    if (ids != null && ids.length > 0) {
-      for (final int id : ids) {
-        final String oreName = OreDictionary.getOreName(id);
-        if (!"Unknown".equals(oreName)) {
-          // the name is valid, now look up the blocks for that name
-          final List<ItemStack> matches = OreDictionary.getOres(oreName);
-          final List<Block> blocks = new ArrayList(matches.size());
-          for (ItemStack stack : matches) {
-            if (stack != null && stack.getItem() instanceof ItemBlock) {
-              final Block b = ((ItemBlock) stack.getItem()).getBlock();
-              // check if the OreDict-supplied block builds a golem
-              if (b != null && BLOCK_TO_GOLEM.containsKey(b.delegate) && BLOCK_TO_GOLEM.get(b.delegate) != null) {
-                blocks.add(b);
-              }
-            }
+    if (Config.getUseOreDictBlocks()) {
+      final int direct = index.size();
+      // golem built by the blocks under each OreDict name; may hold null
+      final Map<String, Class<? extends GolemBase>> byOreName = new HashMap<>();
+      final Set<Block> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (final String oreName : OreDictionary.getOreNames()) {
+        for (final ItemStack stack : OreDictionary.getOres(oreName, false)) {
+          if (!(stack.getItem() instanceof ItemBlock)) {
+            continue;
+          }
+          final Block b = ((ItemBlock) stack.getItem()).getBlock();
+          if (index.containsKey(b) || !checked.add(b)) {
+            continue;
+          }
+          final Class<? extends GolemBase> clazz = getOreDictGolem(b, mappings, byOreName);
+          if (clazz != null) {
+            index.put(b, clazz);
           }
-          // return all golem-building blocks that are registered in OreDict under this
-          // name
-          return !blocks.isEmpty() ? blocks.toArray(new Block[blocks.size()]) : new Block[] {};
         }
       }
+      ExtraGolems.LOGGER.debug("Indexed %d golem building blocks and %d OreDictionary aliases", direct,
+          index.size() - direct);
     }
-    return new Block[] {};
+    final GolemBlockIndex built = new GolemBlockIndex(index, golemToVariants, stateAliases);
+    blockIndex = built;
+    return built;
+  }
+
+  /**
+   * Drops the block index so the next lookup builds it again. Call when an
+   * OreDictionary entry is registered or block ids are remapped.
+   **/
+  public static synchronized void invalidateBlockIndex() {
+    blockIndex = null;
+  }
+
+  /**
+   * @param block     a block that does not build a golem itself
+   * @param mappings  the block mappings being indexed
+   * @param byOreName golems already found per OreDict name
+   * @return the golem built by the first mapped block registered under the
+   *         first OreDict name of the given block, or null if there is none
+   **/
+  @Nullable
+  private static Class<? extends GolemBase> getOreDictGolem(final Block block,
+      final Map<IRegistryDelegate<Block>, Class<? extends GolemBase>> mappings,
+      final Map<String, Class<? extends GolemBase>> byOreName) {
+    for (final int id : OreDictionary.getOreIDs(new ItemStack(block))) {
+      final String oreName = OreDictionary.getOreName(id);
+      if ("Unknown".equals(oreName)) {
+        continue;
+      }
+      if (byOreName.containsKey(oreName)) {
+        return byOreName.get(oreName);
+      }
+      Class<? extends GolemBase> clazz = null;
+      for (final ItemStack stack : OreDictionary.getOres(oreName, false)) {
+        if (stack.getItem() instanceof ItemBlock) {
+          clazz = mappings.get(((ItemBlock) stack.getItem()).getBlock().delegate);
+          if (clazz != null) {
+            break;
+          }
+        }
+      }
+      byOreName.put(oreName, clazz);
+      return clazz;
+    }
+    return null;
   }
 
   public static boolean matchesOreDict(Block block, String toCheck) {
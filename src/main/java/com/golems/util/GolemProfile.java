@@ -0,0 +1,117 @@
+package com.golems.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.golems.entity.GolemBase;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Everything that is the same for every golem of one class: its
+ * GolemConfigSet, building blocks, heal items (indexed by a
+ * {@link HealItemIndex}), whether it is fireproof and (for multi-textured
+ * golems) texture and loot table arrays. Built by
+ * {@link GolemLookup#getProfile(Class)} from what was registered for the
+ * class and shared by all instances, so that constructing a golem does not
+ * repeat the lookups and allocations.
+ * <br>
+ * A profile never changes. When something is registered for the class later
+ * (or an OreDictionary entry is added), GolemLookup builds a new one. Arrays
+ * returned here are shared: do not modify them.
+ **/
+public final class GolemProfile {
+
+  /** Heal amount for a golem's own building blocks, as a fraction of max health **/
+  public static final double BUILDING_BLOCK_HEAL = 0.75D;
+
+  private final Class<? extends GolemBase> golemClass;
+  private final GolemConfigSet config;
+  private final Block[] buildingBlocks;
+  private final HealItemIndex healIndex;
+  private final ResourceLocation[] textures;
+  private final ResourceLocation[] lootTables;
+  private final boolean fireproof;
+
+  /**
+   * @param healItems  heal items registered for the class, added after the
+   *                   building blocks
+   * @param healOres   OreDictionary names registered for the class
+   * @param texturesIn shared texture array, or null
+   * @param lootIn     shared loot table array, or null
+   * @param fireproofIn whether golems of the class are immune to fire
+   **/
+  GolemProfile(final Class<? extends GolemBase> clazz, @Nullable final GolemConfigSet cfg, final Block[] blocks,
+      final Map<ItemStack, Double> healItems, final Map<String, Double> healOres,
+      @Nullable final ResourceLocation[] texturesIn, @Nullable final ResourceLocation[] lootIn,
+      final boolean fireproofIn) {
+    this.golemClass = clazz;
+    this.config = cfg != null ? cfg : GolemConfigSet.EMPTY;
+    this.buildingBlocks = blocks;
+    // golems heal from their own building blocks
+    final Map<ItemStack, Double> heal = new LinkedHashMap<>();
+    for (final Block b : blocks) {
+      final Item i = Item.getItemFromBlock(b);
+      if (i != Items.AIR) {
+        heal.put(new ItemStack(i), BUILDING_BLOCK_HEAL);
+      }
+    }
+    heal.putAll(healItems);
+    this.healIndex = new HealItemIndex(Collections.unmodifiableMap(heal), healOres);
+    this.textures = texturesIn;
+    this.lootTables = lootIn;
+    this.fireproof = fireproofIn;
+  }
+
+  public Class<? extends GolemBase> getGolemClass() {
+    return this.golemClass;
+  }
+
+  @Nonnull
+  public GolemConfigSet getConfig() {
+    return this.config;
+  }
+
+  /** @return the blocks used to build this golem. Do not modify **/
+  @Nonnull
+  public Block[] getBuildingBlocks() {
+    return this.buildingBlocks;
+  }
+
+  /** @return the index of heal items, including OreDictionary matches **/
+  @Nonnull
+  public HealItemIndex getHealIndex() {
+    return this.healIndex;
+  }
+
+  /** @return every heal item, including OreDictionary matches **/
+  public Set<ItemStack> getHealItems() {
+    return this.healIndex.getItems();
+  }
+
+  /** @return the shared texture array, or null if none was registered for this class **/
+  @Nullable
+  public ResourceLocation[] getTextures() {
+    return this.textures;
+  }
+
+  /** @return true if the class was registered with {@link GolemLookup#setFireproof(Class)} **/
+  public boolean isFireproof() {
+    return this.fireproof;
+  }
+
+  /** @return the shared loot table array, or null if none was registered for this class **/
+  @Nullable
+  public ResourceLocation[] getLootTables() {
+    return this.lootTables;
+  }
+}
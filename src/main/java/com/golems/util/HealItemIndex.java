@@ -0,0 +1,135 @@
+package com.golems.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import gnu.trove.map.TIntDoubleMap;
+import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.hash.TIntDoubleHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Immutable lookup from a held ItemStack to the fraction of max health it
+ * restores, built from the heal items and OreDictionary names registered in
+ * a {@link GolemProfile}. Entries are keyed by Item, with a sub-index by
+ * metadata plus a wildcard value, so a lookup is two hash reads at most.
+ * <br>
+ * OreDictionary names are expanded into their ItemStacks when the index is
+ * built. When a new ore entry is registered, GolemLookup builds the profiles
+ * again (see {@link GolemLookup#invalidateProfiles()}) instead of walking the
+ * OreDictionary per query.
+ **/
+public final class HealItemIndex {
+
+  /** Returned by {@link #getMultiplier(ItemStack)} when the item does not heal the golem **/
+  public static final double NONE = 0.0D;
+
+  private final Map<Item, Entry> byItem = new THashMap<>();
+  private final Set<ItemStack> items = new LinkedHashSet<>();
+  private final Set<ItemStack> itemsView = Collections.unmodifiableSet(items);
+  private volatile List<ItemStack> displayStacks;
+
+  /**
+   * @param stacks heal items, in registration order. Earlier entries win.
+   * @param ores   OreDictionary names, added after {@code stacks}
+   **/
+  HealItemIndex(final Map<ItemStack, Double> stacks, final Map<String, Double> ores) {
+    for (final Map.Entry<ItemStack, Double> e : stacks.entrySet()) {
+      add(e.getKey(), e.getValue());
+    }
+    for (final Map.Entry<String, Double> e : ores.entrySet()) {
+      for (final ItemStack s : OreDictionary.getOres(e.getKey(), false)) {
+        if (!s.isEmpty()) {
+          add(s, e.getValue());
+        }
+      }
+    }
+  }
+
+  private void add(final ItemStack stack, final double multiplier) {
+    Entry entry = byItem.get(stack.getItem());
+    if (entry == null) {
+      entry = new Entry();
+      byItem.put(stack.getItem(), entry);
+    }
+    final int meta = stack.getMetadata();
+    if (meta == OreDictionary.WILDCARD_VALUE) {
+      if (entry.wildcard != NONE) {
+        return;
+      }
+      entry.wildcard = multiplier;
+    } else {
+      if (entry.byMeta == null) {
+        entry.byMeta = new TIntDoubleHashMap(4, 0.5F, -1, NONE);
+      }
+      if (entry.byMeta.containsKey(meta)) {
+        return;
+      }
+      entry.byMeta.put(meta, multiplier);
+    }
+    items.add(stack);
+  }
+
+  /**
+   * @param stack the held item
+   * @return the fraction of max health this item restores, or {@link #NONE}.
+   *         An exact metadata match is preferred over a wildcard entry.
+   **/
+  public double getMultiplier(final ItemStack stack) {
+    if (stack.isEmpty()) {
+      return NONE;
+    }
+    final Entry entry = byItem.get(stack.getItem());
+    if (entry == null) {
+      return NONE;
+    }
+    if (entry.byMeta != null) {
+      final double m = entry.byMeta.get(stack.getMetadata());
+      if (m != NONE) {
+        return m;
+      }
+    }
+    return entry.wildcard;
+  }
+
+  /** @return every heal item, including OreDictionary matches. Do not modify **/
+  public Set<ItemStack> getItems() {
+    return this.itemsView;
+  }
+
+  /**
+   * @return the heal items with wildcard entries expanded into their
+   *         sub-items, for tooltips. Computed on first use.
+   **/
+  public List<ItemStack> getDisplayStacks() {
+    List<ItemStack> list = this.displayStacks;
+    if (list == null) {
+      list = new ArrayList<>();
+      for (final ItemStack s : this.items) {
+        if (s.getMetadata() == OreDictionary.WILDCARD_VALUE) {
+          final Item i = s.getItem();
+          final NonNullList<ItemStack> subItems = NonNullList.create();
+          i.getSubItems(i.getCreativeTab(), subItems);
+          list.addAll(subItems);
+        } else {
+          list.add(s);
+        }
+      }
+      list = Collections.unmodifiableList(list);
+      this.displayStacks = list;
+    }
+    return list;
+  }
+
+  private static final class Entry {
+    private double wildcard = NONE;
+    private TIntDoubleMap byMeta;
+  }
+}
@@ -1,5 +1,6 @@
 package com.golems.util;
 
+import com.golems.debug.StartupTimer;
 import com.golems.main.ExtraGolems;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -23,6 +24,7 @@ import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -67,8 +69,12 @@ public class ReflectionUtil {
     private static final String SET_METHOD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED = "mm%s_%s__";
 
 
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+
     private static final Timer cacheCleanerLowProfileTimer;
     static {
+        final long start = StartupTimer.start();
         Timer timer = new Timer();
         timer.schedule(
                 new TimerTask() {
@@ -82,6 +88,29 @@ public class ReflectionUtil {
                 300000L, 300000L
         );
         cacheCleanerLowProfileTimer = timer;
+        StartupTimer.stop("ReflectionUtil.<clinit>", start);
+    }
+
+    private static Method getCachedMethod(String key) {
+        Method method = methodsCached.get(key);
+        (method != null ? cacheHits : cacheMisses).increment();
+        return method;
+    }
+
+    private static Field getCachedField(String key) {
+        Field field = fieldsCached.get(key);
+        (field != null ? cacheHits : cacheMisses).increment();
+        return field;
+    }
+
+    /** @return lookups answered from the field and method caches since startup **/
+    public static long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /** @return lookups that missed the field and method caches since startup **/
+    public static long getCacheMisses() {
+        return cacheMisses.sum();
     }
 
     public static boolean fieldExists(Class<?> clazz, String field) {
@@ -178,7 +207,7 @@ public class ReflectionUtil {
 
     public static void setFieldValueViaSetter(Object object, String fieldName, Object fieldValue) throws IllegalAccessException, NoSuchMethodException {
         String methodCacheKey = String.format(SET_METHOD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED, object.getClass(), fieldName);
-        Method method = methodsCached.get(methodCacheKey);
+        Method method = getCachedMethod(methodCacheKey);
         try {
             if (method == null) {
                 Class<?> fieldType = fieldValue != null ? fieldValue.getClass() : getFieldType(object, fieldName);
@@ -234,7 +263,7 @@ public class ReflectionUtil {
 
     private static void setFieldValueAsynchronouslyInternal(Object object, String fieldName, Object fieldValue, int totalTimesRetried) throws IllegalAccessException, NoSuchFieldException {
         String fieldCacheKey = String.format(SET_FIELD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED,object.getClass(),fieldName);
-        Field field = fieldsCached.get(fieldCacheKey);
+        Field field = getCachedField(fieldCacheKey);
         if(field == null) {
             field = object.getClass().getDeclaredField(fieldName);
             fieldsCached.put(fieldCacheKey, field);
@@ -252,7 +281,7 @@ public class ReflectionUtil {
 
     public static void setFieldValue(Object object, String fieldName, Object fieldValue) throws IllegalAccessException, NoSuchFieldException {
         String fieldCacheKey = String.format(SET_FIELD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED,object.getClass(),fieldName);
-        Field field = fieldsCached.get(fieldCacheKey);
+        Field field = getCachedField(fieldCacheKey);
         if(field == null) {
             try {
                 field = object.getClass().getDeclaredField(fieldName);
@@ -616,7 +645,7 @@ public class ReflectionUtil {
     public static Object callReflectionMethodQuick(Object object, String methodName, Object methodParam, Class<?> methodParamType) throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
         boolean setParams = methodParam != null && methodParamType != null;
         String methodCacheKey = String.format(CALL_METHOD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED,object.getClass(),methodName,methodParamType);
-        Method method = methodsCached.get(methodCacheKey);
+        Method method = getCachedMethod(methodCacheKey);
         if(method == null) {
             method = setParams ? object.getClass().getMethod(methodName, methodParamType) : object.getClass().getMethod(methodName);
             methodsCached.put(methodCacheKey,method);
@@ -635,7 +664,7 @@ public class ReflectionUtil {
         Method method;
         try {
             methodCacheKey = String.format(CALL_METHOD_QUICK_CACHE_KEY_LOOKUP_UNFORMATTED,object.getClass(),methodName,methodParamType);
-            method = methodsCached.get(methodCacheKey);
+            method = getCachedMethod(methodCacheKey);
             if (method == null) {
                 method = setParams ? object.getClass().getMethod(methodName, methodParamType) : object.getClass().getMethod(methodName);
                 methodsCached.put(methodCacheKey, method);
@@ -652,7 +681,7 @@ public class ReflectionUtil {
                 object.getClass()+"_"+methodName+"_"+methodParamType[0]+"_"+methodParamType.length :
                 object.getClass()+"_"+methodName;
 
-        Method method = methodsCached.get(methodCacheKey);
+        Method method = getCachedMethod(methodCacheKey);
         if(method == null) {
             method = setParams ? object.getClass().getMethod(methodName, methodParamType) : object.getClass().getMethod(methodName);
             methodsCached.put(methodCacheKey,method);
@@ -0,0 +1,62 @@
+package com.golems.debug;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.golems.debug.GolemBlockWrites.ChunkStats;
+import com.golems.debug.GolemBlockWrites.Source;
+
+public class GolemBlockWritesTest {
+
+  private static final int THRESHOLD = 8;
+
+  /** @return how many of {@code writes} writes in the given second logged a warning **/
+  private static int writeBurst(final ChunkStats stats, final long second, final int writes, final int threshold) {
+    int warnings = 0;
+    for (int i = 0; i < writes; i++) {
+      if (stats.add(Source.ICE_FREEZE, second, threshold)) {
+        warnings++;
+      }
+    }
+    return warnings;
+  }
+
+  @Test
+  public void warnsOnceWhenAChunkFirstReachesTheThreshold() {
+    final ChunkStats stats = new ChunkStats(0, 1, 2);
+    // world time starts at 0, so the first warning can come in second 0
+    assertEquals(0, writeBurst(stats, 0L, THRESHOLD - 1, THRESHOLD));
+    assertEquals(1, writeBurst(stats, 0L, THRESHOLD * 4, THRESHOLD));
+    assertEquals(THRESHOLD * 5 - 1, stats.getTotal());
+    assertEquals(THRESHOLD * 5 - 1, stats.getPeakPerSecond());
+  }
+
+  @Test
+  public void warnsOncePerCooldown() {
+    final ChunkStats stats = new ChunkStats(0, 1, 2);
+    final long start = 1000L;
+    int warnings = 0;
+    for (long second = start; second < start + GolemBlockWrites.WARN_COOLDOWN_SECONDS; second++) {
+      warnings += writeBurst(stats, second, THRESHOLD * 2, THRESHOLD);
+    }
+    assertEquals(1, warnings);
+    // the next cooldown starts here
+    assertEquals(1, writeBurst(stats, start + GolemBlockWrites.WARN_COOLDOWN_SECONDS, THRESHOLD, THRESHOLD));
+    assertEquals(0, writeBurst(stats, start + GolemBlockWrites.WARN_COOLDOWN_SECONDS + 1, THRESHOLD, THRESHOLD));
+  }
+
+  @Test
+  public void doesNotWarnBelowTheThreshold() {
+    final ChunkStats stats = new ChunkStats(0, 1, 2);
+    for (long second = 0L; second < 200L; second++) {
+      assertEquals(0, writeBurst(stats, second, THRESHOLD - 1, THRESHOLD));
+    }
+  }
+
+  @Test
+  public void doesNotWarnWhenTheThresholdIsZero() {
+    final ChunkStats stats = new ChunkStats(0, 1, 2);
+    assertEquals(0, writeBurst(stats, 0L, 1000, 0));
+  }
+}